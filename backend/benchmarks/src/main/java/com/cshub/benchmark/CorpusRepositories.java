@@ -0,0 +1,45 @@
+package com.cshub.benchmark;
+
+import com.cshub.repository.TagRepository;
+import com.cshub.repository.TopicRepository;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * In-memory stand-ins for the repositories, so benchmarks measure the Java code and not the database.
+ */
+final class CorpusRepositories {
+
+    private CorpusRepositories() {
+    }
+
+    /**
+     * A TopicRepository answering the whole-table reads from the corpus; anything else throws.
+     */
+    static TopicRepository topicRepository(SyntheticCorpus corpus) {
+        return (TopicRepository) Proxy.newProxyInstance(TopicRepository.class.getClassLoader(),
+                new Class<?>[]{TopicRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findAllWithTags" -> corpus.getTopics();
+                    case "findAllNavigation" -> corpus.navigationRows();
+                    case "findAllTopicTagIds" -> corpus.topicTagIds();
+                    case "toString" -> "CorpusTopicRepository";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException("Not stubbed: TopicRepository." + method.getName());
+                });
+    }
+
+    /**
+     * A TagRepository answering findAll from the corpus; anything else throws.
+     */
+    static TagRepository tagRepository(SyntheticCorpus corpus) {
+        return (TagRepository) Proxy.newProxyInstance(TagRepository.class.getClassLoader(),
+                new Class<?>[]{TagRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findAll" -> corpus.getTags();
+                    case "toString" -> "CorpusTagRepository";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException("Not stubbed: TagRepository." + method.getName());
+                });
+    }
+}
@@ -0,0 +1,75 @@
+package com.cshub.benchmark;
+
+import com.cshub.dto.TagDTO;
+import com.cshub.dto.TopicDTO;
+import com.cshub.entity.Topic;
+import com.cshub.mapper.TopicMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TopicMapper: one entity to a DTO, the whole forest through the recursive toDTOWithChildren,
+ * and tag mapping on its own. Single-topic benchmarks walk the corpus so they are not served
+ * from one hot cache line.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int topics;
+
+    @Param({"4", "32", "256"})
+    public int fanOut;
+
+    private final TopicMapper topicMapper = new TopicMapper();
+    private List<Topic> allTopics;
+    private List<Topic> roots;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticCorpus corpus = SyntheticCorpus.generate(topics, fanOut, 3);
+        allTopics = corpus.getTopics();
+        roots = corpus.getRoots();
+    }
+
+    /**
+     * Position in the corpus, per benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        Topic advance(List<Topic> topics) {
+            Topic topic = topics.get(next);
+            next = next + 1 == topics.size() ? 0 : next + 1;
+            return topic;
+        }
+    }
+
+    @Benchmark
+    public TopicDTO toDTO(Cursor cursor) {
+        return topicMapper.toDTO(cursor.advance(allTopics));
+    }
+
+    @Benchmark
+    public void toDTOWithChildren(Blackhole blackhole) {
+        for (Topic root : roots) {
+            blackhole.consume(topicMapper.toDTOWithChildren(root));
+        }
+    }
+
+    @Benchmark
+    public List<TagDTO> tagMapping(Cursor cursor) {
+        return cursor.advance(allTopics).getTags().stream()
+                .map(topicMapper::tagToDTO)
+                .toList();
+    }
+}
@@ -0,0 +1,58 @@
+package com.cshub.benchmark;
+
+import com.cshub.dto.TopicSuggestionDTO;
+import com.cshub.mapper.TopicMapper;
+import com.cshub.repository.TopicRepository;
+import com.cshub.search.TopicSearchIndex;
+import com.cshub.search.TopicSuggestIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queries against the in-memory search indexes, built once per corpus.
+ *
+ * Queries: "array" is the most frequent word (a large share of the corpus matches, so the cost
+ * is materializing and sorting results), "hash tab" is a two-term AND whose last term is a prefix,
+ * "w4321" is a rare word. Suggestions use a title prefix that matches many topics.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class SearchBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int topics;
+
+    @Param({"array", "hash tab", "w4321"})
+    public String query;
+
+    private TopicSearchIndex searchIndex;
+    private TopicSuggestIndex suggestIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Search does not depend on the shape of the hierarchy
+        SyntheticCorpus corpus = SyntheticCorpus.generate(topics, 32, 3);
+        TopicRepository topicRepository = CorpusRepositories.topicRepository(corpus);
+        TopicMapper topicMapper = new TopicMapper();
+        searchIndex = new TopicSearchIndex(topicRepository, topicMapper);
+        searchIndex.rebuild();
+        suggestIndex = new TopicSuggestIndex(topicRepository, CorpusRepositories.tagRepository(corpus));
+        suggestIndex.rebuild();
+    }
+
+    @Benchmark
+    public List<Long> search() {
+        return searchIndex.search(query);
+    }
+
+    @Benchmark
+    public List<TopicSuggestionDTO> suggest() {
+        return suggestIndex.suggest("topic 1", 10);
+    }
+}
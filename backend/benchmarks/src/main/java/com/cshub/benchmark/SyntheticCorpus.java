@@ -0,0 +1,167 @@
+package com.cshub.benchmark;
+
+import com.cshub.dto.TopicNavDTO;
+import com.cshub.entity.Tag;
+import com.cshub.entity.Topic;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic topic hierarchy, held as detached entities (what the repository would return).
+ * Demonstrates DSA: a complete fanOut-ary forest filled breadth-first, so depth grows as log_fanOut(n).
+ *
+ * Topic i (i >= fanOut) is a child of topic (i / fanOut) - 1, the first fanOut topics are roots.
+ * Content is drawn from a shared pool of documents whose words follow a Zipf-like distribution over
+ * a fixed vocabulary: a few words ("array", "tree", ...) are everywhere, most are rare. Sharing the
+ * pool keeps a million topics within a few GB of heap; every code path still sees one string per topic.
+ */
+public final class SyntheticCorpus {
+
+    /**
+     * Frequent words, most frequent first; the tail of the vocabulary is w0 .. w(RARE_WORDS - 1).
+     */
+    static final String[] COMMON_WORDS = {
+            "array", "tree", "graph", "hash", "table", "sort", "search", "binary", "node", "list",
+            "queue", "stack", "heap", "index", "query", "join", "transaction", "lock", "cache", "string",
+            "dynamic", "programming", "greedy", "recursion", "pointer", "memory", "complexity", "algorithm"};
+
+    static final int RARE_WORDS = 5000;
+    private static final int CONTENT_POOL_SIZE = 512;
+    private static final int TAG_COUNT = 64;
+
+    private final List<Topic> topics;
+    private final List<Topic> roots;
+    private final List<Tag> tags;
+
+    private SyntheticCorpus(List<Topic> topics, List<Topic> roots, List<Tag> tags) {
+        this.topics = topics;
+        this.roots = roots;
+        this.tags = tags;
+    }
+
+    /**
+     * Generate topicCount topics with at most fanOut children each and 0..maxTagsPerTopic tags.
+     * The same arguments always produce the same corpus.
+     */
+    public static SyntheticCorpus generate(int topicCount, int fanOut, int maxTagsPerTopic) {
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        List<Tag> tags = new ArrayList<>(TAG_COUNT);
+        for (int i = 0; i < TAG_COUNT; i++) {
+            Tag tag = new Tag(i < COMMON_WORDS.length ? capitalize(COMMON_WORDS[i]) : "Tag" + i,
+                    String.format("#%06x", random.nextInt(0x1000000)));
+            tag.setId(i + 1L);
+            tag.setCreatedAt(now);
+            tags.add(tag);
+        }
+
+        String[] contentPool = new String[CONTENT_POOL_SIZE];
+        for (int i = 0; i < contentPool.length; i++) {
+            contentPool[i] = content(random);
+        }
+
+        List<Topic> topics = new ArrayList<>(topicCount);
+        List<Topic> roots = new ArrayList<>(Math.min(fanOut, topicCount));
+        for (int i = 0; i < topicCount; i++) {
+            String word = word(random);
+            Topic topic = new Topic("Topic " + i + " " + capitalize(word), "topic-" + i + "-" + word,
+                    contentPool[random.nextInt(contentPool.length)]);
+            topic.setId(i + 1L);
+            topic.setVersion(0L);
+            topic.setCreatedAt(now);
+            topic.setUpdatedAt(now);
+            // Sibling order is deliberately not id order, so sorting has work to do
+            topic.setDisplayOrder(random.nextInt(fanOut));
+            // Not addTag(): Tag.topics would be a million-entry HashSet of equal hash codes
+            int tagCount = random.nextInt(maxTagsPerTopic + 1);
+            for (int t = 0; t < tagCount; t++) {
+                topic.getTags().add(tags.get(zipf(random, TAG_COUNT)));
+            }
+            if (i < fanOut) {
+                roots.add(topic);
+            } else {
+                topics.get(i / fanOut - 1).addChild(topic);
+            }
+            topics.add(topic);
+        }
+        return new SyntheticCorpus(topics, roots, tags);
+    }
+
+    public List<Topic> getTopics() {
+        return topics;
+    }
+
+    public List<Topic> getRoots() {
+        return roots;
+    }
+
+    public List<Tag> getTags() {
+        return tags;
+    }
+
+    /**
+     * Fresh navigation rows ordered by displayOrder, id - what TopicRepository.findAllNavigation returns.
+     * New objects on every call, because tree assembly links and freezes them.
+     */
+    public List<TopicNavDTO> navigationRows() {
+        List<TopicNavDTO> rows = new ArrayList<>(topics.size());
+        for (Topic topic : topics) {
+            rows.add(new TopicNavDTO(topic.getId(), topic.getTitle(), topic.getSlug(),
+                    topic.getParent() != null ? topic.getParent().getId() : null, topic.getDisplayOrder()));
+        }
+        rows.sort((a, b) -> a.getDisplayOrder().equals(b.getDisplayOrder())
+                ? a.getId().compareTo(b.getId())
+                : a.getDisplayOrder().compareTo(b.getDisplayOrder()));
+        return rows;
+    }
+
+    /**
+     * (topic id, tag id) pairs - what TopicRepository.findAllTopicTagIds returns.
+     */
+    public List<Object[]> topicTagIds() {
+        List<Object[]> rows = new ArrayList<>();
+        for (Topic topic : topics) {
+            for (Tag tag : topic.getTags()) {
+                rows.add(new Object[]{topic.getId(), tag.getId()});
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Markdown of 20 to ~2000 words (heavily skewed towards short), with a heading every ~80 words.
+     */
+    private static String content(SplittableRandom random) {
+        int words = 20 + (int) (Math.exp(random.nextDouble() * Math.log(100)) * 20);
+        StringBuilder sb = new StringBuilder(words * 8);
+        for (int w = 0; w < words; w++) {
+            if (w % 80 == 0) {
+                sb.append(w == 0 ? "" : "\n\n").append("## ").append(capitalize(word(random))).append("\n\n");
+            } else {
+                sb.append(' ');
+            }
+            sb.append(word(random));
+        }
+        return sb.toString();
+    }
+
+    private static String word(SplittableRandom random) {
+        int rank = zipf(random, COMMON_WORDS.length + RARE_WORDS);
+        return rank < COMMON_WORDS.length ? COMMON_WORDS[rank] : "w" + (rank - COMMON_WORDS.length);
+    }
+
+    /**
+     * Rank in [0, n), with probability roughly proportional to 1 / (rank + 1).
+     */
+    private static int zipf(SplittableRandom random, int n) {
+        return Math.min(n - 1, (int) Math.floor(Math.exp(random.nextDouble() * Math.log(n + 1.0))) - 1);
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
@@ -0,0 +1,56 @@
+package com.cshub.benchmark;
+
+import com.cshub.cache.TopicTreeCache;
+import com.cshub.dto.TopicDTO;
+import com.cshub.dto.TopicNavDTO;
+import com.cshub.mapper.TopicMapper;
+import com.cshub.service.TopicService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TopicService.getTopicTree / getNavigationTree with the snapshot invalidated before every call,
+ * i.e. the rebuild that follows each committed write: HashMap linking, sibling sort, freezing.
+ *
+ * The navigation variant includes materializing its rows, as Hibernate does for the projection query.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class TreeAssemblyBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int topics;
+
+    @Param({"4", "32", "256"})
+    public int fanOut;
+
+    private TopicTreeCache topicTreeCache;
+    private TopicService topicService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticCorpus corpus = SyntheticCorpus.generate(topics, fanOut, 3);
+        topicTreeCache = new TopicTreeCache();
+        // Only the repository, mapper and tree cache are used by tree assembly
+        topicService = new TopicService(CorpusRepositories.topicRepository(corpus), null, new TopicMapper(),
+                topicTreeCache, null, null, null, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public List<TopicDTO> topicTree() {
+        topicTreeCache.invalidate();
+        return topicService.getTopicTree();
+    }
+
+    @Benchmark
+    public List<TopicNavDTO> navigationTree() {
+        topicTreeCache.invalidate();
+        return topicService.getNavigationTree();
+    }
+}
@@ -0,0 +1,291 @@
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Generates a synthetic topic corpus and loads it into a running instance through its own API
+ * (POST /api/tags, then POST /api/topics/bulk in batches), so it works against any database the
+ * application runs on and exercises the real write path (markdown rendering, indexes).
+ * No dependencies; run it straight from source (Java 17+):
+ *
+ *   java loadtest/CorpusGenerator.java --target http://localhost:8080 --topics 50000 \
+ *        --fan-out 8 --max-depth 6 --content-median 1500 --tags-per-topic 3
+ *
+ * Shape: --roots root topics; every topic gets 1 .. 2 * fan-out - 1 children (mean fan-out) until
+ * --max-depth levels exist, after which new roots are started. Content length is log-normal
+ * (--content-median characters, --content-sigma spread) with headings, paragraphs, lists and code
+ * blocks; words follow a Zipf distribution, so some search terms are everywhere and most are rare.
+ * Each topic gets 0 .. --tags-per-topic tags from a pool of --tags, popular tags more often.
+ *
+ * Slugs are "<prefix>-<n>" (default prefix "lt"), and bulk import upserts by slug, so rerunning
+ * with the same options rewrites the same topics instead of adding more. The output is
+ * deterministic for a given --seed.
+ */
+public class CorpusGenerator {
+
+    private static final String[] WORDS = {
+            "array", "tree", "graph", "hash", "table", "sort", "search", "binary", "node", "list",
+            "queue", "stack", "heap", "index", "query", "join", "transaction", "lock", "cache", "string",
+            "dynamic", "programming", "greedy", "recursion", "pointer", "memory", "complexity", "algorithm",
+            "network", "protocol", "thread", "process", "scheduler", "compiler", "parser", "lexer", "automaton",
+            "matrix", "vector", "probability", "bitmap", "trie", "segment", "fenwick", "union", "find", "path",
+            "shortest", "spanning", "topological", "consistency", "replication", "partition", "isolation"};
+    private static final int RARE_WORDS = 20000;
+    private static final Pattern TAG = Pattern.compile("\\{\"id\":(\\d+),\"name\":\"([^\"]*)\"");
+
+    public static void main(String[] args) throws Exception {
+        String target = "http://localhost:8080";
+        int topics = 10000;
+        int roots = 20;
+        int fanOut = 8;
+        int maxDepth = 6;
+        int contentMedian = 1500;
+        double contentSigma = 1.0;
+        int tagCount = 50;
+        int tagsPerTopic = 3;
+        int batchSize = 2000;
+        long seed = 42;
+        String prefix = "lt";
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--target" -> target = args[++i];
+                case "--topics" -> topics = Integer.parseInt(args[++i]);
+                case "--roots" -> roots = Integer.parseInt(args[++i]);
+                case "--fan-out" -> fanOut = Integer.parseInt(args[++i]);
+                case "--max-depth" -> maxDepth = Integer.parseInt(args[++i]);
+                case "--content-median" -> contentMedian = Integer.parseInt(args[++i]);
+                case "--content-sigma" -> contentSigma = Double.parseDouble(args[++i]);
+                case "--tags" -> tagCount = Integer.parseInt(args[++i]);
+                case "--tags-per-topic" -> tagsPerTopic = Integer.parseInt(args[++i]);
+                case "--batch" -> batchSize = Integer.parseInt(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--prefix" -> prefix = args[++i];
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        if (fanOut < 1 || maxDepth < 1 || roots < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("--fan-out, --max-depth, --roots and --batch must be positive");
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        SplittableRandom random = new SplittableRandom(seed);
+
+        List<Long> tagIds = ensureTags(client, target, prefix, tagCount, random);
+        System.out.printf("Tags: %d%n", tagIds.size());
+
+        // Breadth-first fill: parents are always emitted before their children, so each batch
+        // refers only to slugs loaded earlier or in the same batch
+        Deque<int[]> openParents = new ArrayDeque<>(); // {topic index, depth, children left}
+        int[] depthCounts = new int[maxDepth + 1];
+        long contentChars = 0;
+        long tagAssignments = 0;
+        List<String> batch = new ArrayList<>(batchSize);
+        long start = System.nanoTime();
+        int loaded = 0;
+        int nextRootOrder = 0;
+        for (int i = 0; i < topics; i++) {
+            String parentSlug = null;
+            int depth = 1;
+            int displayOrder;
+            if (i < roots || openParents.isEmpty()) {
+                displayOrder = nextRootOrder++;
+            } else {
+                int[] parent = openParents.peekFirst();
+                parentSlug = prefix + "-" + parent[0];
+                depth = parent[1] + 1;
+                displayOrder = parent[2];
+                if (--parent[2] == 0) {
+                    openParents.pollFirst();
+                }
+            }
+            if (depth < maxDepth) {
+                openParents.addLast(new int[]{i, depth, 1 + random.nextInt(2 * fanOut - 1)});
+            }
+            depthCounts[depth]++;
+
+            String content = content(random, contentMedian, contentSigma);
+            contentChars += content.length();
+            Set<Long> topicTags = new TreeSet<>();
+            int wanted = random.nextInt(tagsPerTopic + 1);
+            for (int t = 0; t < wanted && !tagIds.isEmpty(); t++) {
+                topicTags.add(tagIds.get(zipf(random, tagIds.size())));
+            }
+            tagAssignments += topicTags.size();
+
+            String title = capitalize(word(random)) + " " + word(random) + " " + i;
+            batch.add(topicJson(title, prefix + "-" + i, content, parentSlug, displayOrder, topicTags));
+            if (batch.size() == batchSize || i == topics - 1) {
+                bulkLoad(client, target, batch);
+                loaded += batch.size();
+                batch.clear();
+                double seconds = (System.nanoTime() - start) / 1e9;
+                System.out.printf("Loaded %d/%d topics (%.0f topics/s)%n", loaded, topics, loaded / seconds);
+            }
+        }
+
+        System.out.printf("Done in %.1f s: %d topics, %d levels, mean content %d chars, %.2f tags per topic%n",
+                (System.nanoTime() - start) / 1e9, topics, depthOf(depthCounts), contentChars / Math.max(1, topics),
+                tagAssignments / (double) Math.max(1, topics));
+        for (int d = 1; d < depthCounts.length && depthCounts[d] > 0; d++) {
+            System.out.printf("  depth %d: %d topics%n", d, depthCounts[d]);
+        }
+    }
+
+    /**
+     * Create the tag pool, reusing tags that already exist from an earlier run.
+     */
+    private static List<Long> ensureTags(HttpClient client, String target, String prefix, int count,
+                                         SplittableRandom random) throws Exception {
+        Map<String, Long> existing = new HashMap<>();
+        Matcher matcher = TAG.matcher(send(client, HttpRequest.newBuilder(URI.create(target + "/api/tags")).build(), 200));
+        while (matcher.find()) {
+            existing.put(matcher.group(2), Long.parseLong(matcher.group(1)));
+        }
+        List<Long> ids = new ArrayList<>(count);
+        for (int t = 0; t < count; t++) {
+            String name = capitalize(t < WORDS.length ? WORDS[t] : prefix + t) + " " + prefix.toUpperCase(Locale.ROOT);
+            String color = String.format("#%06x", random.nextInt(0x1000000));
+            Long id = existing.get(name);
+            if (id == null) {
+                String query = "name=" + URLEncoder.encode(name, StandardCharsets.UTF_8)
+                        + "&color=" + URLEncoder.encode(color, StandardCharsets.UTF_8);
+                String created = send(client, HttpRequest.newBuilder(URI.create(target + "/api/tags?" + query))
+                        .POST(HttpRequest.BodyPublishers.noBody()).build(), 201);
+                Matcher createdTag = TAG.matcher(created);
+                if (!createdTag.find()) {
+                    throw new IllegalStateException("Unexpected tag response: " + created);
+                }
+                id = Long.parseLong(createdTag.group(1));
+            }
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private static void bulkLoad(HttpClient client, String target, List<String> topics) throws Exception {
+        String body = "{\"topics\":[" + String.join(",", topics) + "]}";
+        send(client, HttpRequest.newBuilder(URI.create(target + "/api/topics/bulk"))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofMinutes(10))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), 200);
+    }
+
+    private static String send(HttpClient client, HttpRequest request, int expectedStatus) throws Exception {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException(request.method() + " " + request.uri().getPath() + " returned "
+                    + response.statusCode() + ": " + response.body());
+        }
+        return response.body();
+    }
+
+    private static String topicJson(String title, String slug, String content, String parentSlug,
+                                    int displayOrder, Set<Long> tagIds) {
+        StringBuilder json = new StringBuilder(content.length() + 200);
+        json.append("{\"title\":").append(quote(title))
+                .append(",\"slug\":").append(quote(slug))
+                .append(",\"content\":").append(quote(content))
+                .append(",\"displayOrder\":").append(displayOrder);
+        if (parentSlug != null) {
+            json.append(",\"parentSlug\":").append(quote(parentSlug));
+        }
+        json.append(",\"tagIds\":[");
+        StringJoiner ids = new StringJoiner(",");
+        tagIds.forEach(id -> ids.add(id.toString()));
+        return json.append(ids).append("]}").toString();
+    }
+
+    /**
+     * Markdown of roughly log-normal length: sections with a heading, paragraphs,
+     * and now and then a bullet list or a code block.
+     */
+    private static String content(SplittableRandom random, int median, double sigma) {
+        int target = (int) Math.max(40, median * Math.exp(sigma * gaussian(random)));
+        StringBuilder md = new StringBuilder(target + 64);
+        while (md.length() < target) {
+            md.append("## ").append(capitalize(word(random))).append(' ').append(word(random)).append("\n\n");
+            int paragraphs = 1 + random.nextInt(3);
+            for (int p = 0; p < paragraphs && md.length() < target; p++) {
+                int words = 20 + random.nextInt(60);
+                md.append(capitalize(word(random)));
+                for (int w = 1; w < words; w++) {
+                    md.append(random.nextInt(12) == 0 ? ", " : " ").append(word(random));
+                }
+                md.append(".\n\n");
+            }
+            int extra = random.nextInt(6);
+            if (extra == 0) {
+                md.append("```java\nint ").append(word(random)).append(" = ").append(random.nextInt(1000)).append(";\n```\n\n");
+            } else if (extra == 1) {
+                for (int item = 0; item < 3; item++) {
+                    md.append("- ").append(word(random)).append(' ').append(word(random)).append('\n');
+                }
+                md.append('\n');
+            }
+        }
+        return md.toString();
+    }
+
+    private static String word(SplittableRandom random) {
+        int rank = zipf(random, WORDS.length + RARE_WORDS);
+        return rank < WORDS.length ? WORDS[rank] : "w" + (rank - WORDS.length);
+    }
+
+    /**
+     * Rank in [0, n), with probability roughly proportional to 1 / (rank + 1).
+     */
+    private static int zipf(SplittableRandom random, int n) {
+        return Math.min(n - 1, (int) Math.floor(Math.exp(random.nextDouble() * Math.log(n + 1.0))) - 1);
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        // Box-Muller
+        return Math.sqrt(-2 * Math.log(1 - random.nextDouble())) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+
+    private static int depthOf(int[] depthCounts) {
+        int depth = 0;
+        for (int d = 1; d < depthCounts.length; d++) {
+            if (depthCounts[d] > 0) {
+                depth = d;
+            }
+        }
+        return depth;
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    private static String quote(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
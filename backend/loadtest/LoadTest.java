@@ -0,0 +1,377 @@
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop HTTP load driver with a mixed read/write workload against one running instance,
+ * typically after CorpusGenerator has loaded a corpus (run-loadtest.sh does both).
+ * No dependencies; run it straight from source (Java 17+):
+ *
+ *   java loadtest/LoadTest.java --target http://localhost:8080 --concurrency 50 --duration 60s \
+ *        --mix nav=10,tree=2,slug=50,suggest=25,search=8,create=2,update=3
+ *
+ * Each client thread loops: pick an operation from the mix, send, wait for the full response,
+ * record the latency, sleep --think. Operations:
+ *   nav      GET /api/topics/tree/nav           (sidebar load)
+ *   tree     GET /api/topics/tree               (full tree with content)
+ *   slug     GET /api/topics/slug/{slug}?format=html  (page view, popular pages more often)
+ *   suggest  GET /api/topics/suggest?prefix=..  (one search-box keystroke)
+ *   search   GET /api/topics/search?keyword=..  (search submitted)
+ *   create   POST /api/topics                   (new page under a random parent)
+ *   update   PUT /api/topics/{id}               (edit of a page this client created)
+ * Slugs, ids and search words come from the target's own navigation tree. Topics created during
+ * the run are deleted afterwards (not measured) unless --keep-writes is given, so repeated runs
+ * see the same corpus. Throughput, error count and latency percentiles are printed per operation.
+ */
+public class LoadTest {
+
+    private static final String[] OPERATIONS = {"nav", "tree", "slug", "suggest", "search", "create", "update"};
+    private static final int NAV = 0, TREE = 1, SLUG = 2, SUGGEST = 3, SEARCH = 4, CREATE = 5, UPDATE = 6;
+    private static final Pattern NODE = Pattern.compile(
+            "\\{\"id\":(\\d+),\"title\":\"((?:[^\"\\\\]|\\\\.)*)\",\"slug\":\"([^\"]+)\"");
+    private static final Pattern ID = Pattern.compile("^\\{\"id\":(\\d+)");
+
+    public static void main(String[] args) throws Exception {
+        String target = "http://localhost:8080";
+        int concurrency = 50;
+        Duration duration = Duration.ofSeconds(60);
+        Duration warmup = Duration.ofSeconds(10);
+        Duration think = Duration.ZERO;
+        int[] weights = {10, 2, 50, 25, 8, 2, 3};
+        boolean keepWrites = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--target" -> target = args[++i];
+                case "--concurrency" -> concurrency = Integer.parseInt(args[++i]);
+                case "--duration" -> duration = parseDuration(args[++i]);
+                case "--warmup" -> warmup = parseDuration(args[++i]);
+                case "--think" -> think = parseDuration(args[++i]);
+                case "--mix" -> weights = parseMix(args[++i]);
+                case "--keep-writes" -> keepWrites = true;
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        Corpus corpus = Corpus.load(client, target);
+        System.out.printf("%d topics, %d search words at %s%n", corpus.ids.size(), corpus.words.size(), target);
+
+        Workload workload = new Workload(client, target, corpus, weights, think);
+        if (!warmup.isZero()) {
+            System.out.printf("Warm-up: %d clients for %ds%n", concurrency, warmup.toSeconds());
+            workload.run(concurrency, warmup);
+        }
+        System.out.printf("Measuring: %d clients for %ds, think time %dms%n",
+                concurrency, duration.toSeconds(), think.toMillis());
+        Result result = workload.run(concurrency, duration);
+
+        System.out.printf("%n%-8s %9s %7s %9s %9s %9s %9s %9s %9s %9s%n", "op", "requests", "errors", "req/s",
+                "mean ms", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        long[] all = new long[0];
+        long totalErrors = 0;
+        for (int op = 0; op < OPERATIONS.length; op++) {
+            long[] latencies = result.latencies(op);
+            if (weights[op] == 0 && latencies.length == 0) {
+                continue;
+            }
+            printRow(OPERATIONS[op], latencies, result.errors[op], result.seconds);
+            all = concat(all, latencies);
+            totalErrors += result.errors[op];
+        }
+        Arrays.sort(all);
+        printRow("all", all, totalErrors, result.seconds);
+
+        if (!keepWrites) {
+            int deleted = workload.deleteCreated();
+            System.out.printf("%nDeleted %d topics created during the run%n", deleted);
+        }
+    }
+
+    private static void printRow(String name, long[] sortedNanos, long errors, double seconds) {
+        System.out.printf("%-8s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n", name, sortedNanos.length, errors,
+                sortedNanos.length / seconds, mean(sortedNanos), percentile(sortedNanos, 0.50),
+                percentile(sortedNanos, 0.90), percentile(sortedNanos, 0.99), percentile(sortedNanos, 0.999),
+                percentile(sortedNanos, 1.0));
+    }
+
+    /**
+     * What the clients pick from: every topic in the navigation tree and the words of their titles.
+     */
+    private record Corpus(List<Long> ids, List<String> slugs, List<String> words) {
+
+        static Corpus load(HttpClient client, String target) throws Exception {
+            String nav = client.send(HttpRequest.newBuilder(URI.create(target + "/api/topics/tree/nav")).build(),
+                    HttpResponse.BodyHandlers.ofString()).body();
+            List<Long> ids = new ArrayList<>();
+            List<String> slugs = new ArrayList<>();
+            Set<String> words = new LinkedHashSet<>();
+            Matcher matcher = NODE.matcher(nav);
+            while (matcher.find()) {
+                ids.add(Long.parseLong(matcher.group(1)));
+                slugs.add(matcher.group(3));
+                for (String word : matcher.group(2).split("\\W+")) {
+                    if (word.length() >= 3 && !Character.isDigit(word.charAt(0))) {
+                        words.add(word.toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+            if (ids.isEmpty() || words.isEmpty()) {
+                throw new IllegalStateException("No topics at " + target + "; run CorpusGenerator first");
+            }
+            return new Corpus(ids, slugs, new ArrayList<>(words));
+        }
+    }
+
+    private static final class Workload {
+        final HttpClient client;
+        final String target;
+        final Corpus corpus;
+        final int[] weights;
+        final int totalWeight;
+        final Duration think;
+        // Topics created by the clients, kept per client; only their creator updates them
+        final Map<Integer, List<Page>> created = new ConcurrentHashMap<>();
+        // Slug prefix unique to this run, so reruns without cleanup do not collide
+        final String slugPrefix = "lt-write-" + Long.toString(System.currentTimeMillis(), 36) + "-";
+        final AtomicLong writes = new AtomicLong();
+
+        Workload(HttpClient client, String target, Corpus corpus, int[] weights, Duration think) {
+            this.client = client;
+            this.target = target;
+            this.corpus = corpus;
+            this.weights = weights;
+            this.totalWeight = Arrays.stream(weights).sum();
+            this.think = think;
+            if (totalWeight <= 0) {
+                throw new IllegalArgumentException("--mix needs at least one positive weight");
+            }
+        }
+
+        Result run(int concurrency, Duration duration) throws InterruptedException {
+            Result result = new Result(concurrency);
+            long deadline = System.nanoTime() + duration.toNanos();
+            ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+            for (int c = 0; c < concurrency; c++) {
+                int clientIndex = c;
+                clients.execute(() -> {
+                    Random random = new Random(clientIndex);
+                    List<Page> mine = created.computeIfAbsent(clientIndex, k -> new ArrayList<>());
+                    while (System.nanoTime() < deadline) {
+                        int op = pick(random);
+                        if (op == UPDATE && mine.isEmpty()) {
+                            op = CREATE;
+                        }
+                        long revision = op == CREATE || op == UPDATE ? writes.incrementAndGet() : 0;
+                        Page page = switch (op) {
+                            case CREATE -> new Page(null, slugPrefix + revision,
+                                    corpus.ids.get(random.nextInt(corpus.ids.size())));
+                            case UPDATE -> mine.get(random.nextInt(mine.size()));
+                            default -> null;
+                        };
+                        HttpRequest request = request(op, random, page, revision);
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                            boolean ok = response.statusCode() < 400;
+                            result.record(clientIndex, op, System.nanoTime() - start, ok);
+                            if (op == CREATE && ok) {
+                                Matcher id = ID.matcher(response.body());
+                                if (id.find()) {
+                                    mine.add(new Page(Long.parseLong(id.group(1)), page.slug(), page.parentId()));
+                                }
+                            }
+                            if (!think.isZero()) {
+                                Thread.sleep(think.toMillis());
+                            }
+                        } catch (IOException e) {
+                            result.record(clientIndex, op, System.nanoTime() - start, false);
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                    }
+                });
+            }
+            clients.shutdown();
+            clients.awaitTermination(duration.toSeconds() + 120, TimeUnit.SECONDS);
+            result.seconds = duration.toNanos() / 1e9;
+            return result;
+        }
+
+        private HttpRequest request(int op, Random random, Page page, long revision) {
+            String path = switch (op) {
+                case NAV -> "/api/topics/tree/nav";
+                case TREE -> "/api/topics/tree";
+                case SLUG -> "/api/topics/slug/" + corpus.slugs.get(skewed(random, corpus.slugs.size())) + "?format=html";
+                case SUGGEST -> {
+                    // One keystroke into the search box: a prefix of a real word
+                    String word = corpus.words.get(skewed(random, corpus.words.size()));
+                    yield "/api/topics/suggest?prefix=" + encode(word.substring(0, 1 + random.nextInt(word.length())));
+                }
+                case SEARCH -> "/api/topics/search?keyword=" + encode(corpus.words.get(skewed(random, corpus.words.size())));
+                case CREATE -> "/api/topics";
+                default -> "/api/topics/" + page.id();
+            };
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(target + path))
+                    .header("Accept-Encoding", "gzip")
+                    .timeout(Duration.ofSeconds(60));
+            if (op == CREATE) {
+                builder.header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(page.json(revision)));
+            } else if (op == UPDATE) {
+                // PUT replaces the whole topic: same slug and parent, new content
+                builder.header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(page.json(revision)));
+            }
+            return builder.build();
+        }
+
+        int deleteCreated() throws Exception {
+            int deleted = 0;
+            for (List<Page> pages : created.values()) {
+                for (Page page : pages) {
+                    HttpResponse<Void> response = client.send(HttpRequest.newBuilder(URI.create(target + "/api/topics/" + page.id()))
+                            .DELETE().build(), HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() == 204) {
+                        deleted++;
+                    }
+                }
+            }
+            return deleted;
+        }
+
+        private int pick(Random random) {
+            int roll = random.nextInt(totalWeight);
+            for (int op = 0; op < weights.length; op++) {
+                roll -= weights[op];
+                if (roll < 0) {
+                    return op;
+                }
+            }
+            return weights.length - 1;
+        }
+    }
+
+    /**
+     * A topic written by the load test; id is null until the create has returned.
+     */
+    private record Page(Long id, String slug, Long parentId) {
+
+        String json(long revision) {
+            String content = "# " + slug + "\\n\\nWritten by the load test, revision " + revision
+                    + ".\\n\\n## Notes\\n\\n- array\\n- tree\\n";
+            return "{\"title\":\"Load test " + slug + "\",\"slug\":\"" + slug + "\",\"content\":\"" + content
+                    + "\",\"parentId\":" + parentId + ",\"displayOrder\":" + (revision % 100) + "}";
+        }
+    }
+
+    /**
+     * Index in [0, n), with probability roughly proportional to 1 / (index + 1): a few hot pages and words.
+     */
+    private static int skewed(Random random, int n) {
+        return Math.min(n - 1, (int) Math.floor(Math.exp(random.nextDouble() * Math.log(n + 1.0))) - 1);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static int[] parseMix(String value) {
+        int[] weights = new int[OPERATIONS.length];
+        for (String part : value.split(",")) {
+            String[] entry = part.split("=", 2);
+            int op = Arrays.asList(OPERATIONS).indexOf(entry[0].trim());
+            if (op < 0 || entry.length != 2) {
+                throw new IllegalArgumentException("Bad --mix entry '" + part + "'; operations are "
+                        + String.join(", ", OPERATIONS));
+            }
+            weights[op] = Integer.parseInt(entry[1].trim());
+        }
+        return weights;
+    }
+
+    private static long[] concat(long[] a, long[] b) {
+        long[] all = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, all, a.length, b.length);
+        return all;
+    }
+
+    private static double mean(long[] nanos) {
+        return nanos.length == 0 ? 0 : Arrays.stream(nanos).average().orElse(0) / 1e6;
+    }
+
+    private static double percentile(long[] sortedNanos, double quantile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1e6;
+    }
+
+    private static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        return value.endsWith("s") ? Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)))
+                : Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    /**
+     * Per-client latency buffers (no contention while running), merged when reporting.
+     */
+    private static final class Result {
+        final long[][][] buffers;
+        final int[][] sizes;
+        final long[] errors = new long[OPERATIONS.length];
+        double seconds;
+
+        Result(int clients) {
+            buffers = new long[clients][OPERATIONS.length][1024];
+            sizes = new int[clients][OPERATIONS.length];
+        }
+
+        void record(int client, int op, long nanos, boolean ok) {
+            if (!ok) {
+                synchronized (errors) {
+                    errors[op]++;
+                }
+                return;
+            }
+            long[] buffer = buffers[client][op];
+            int size = sizes[client][op];
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+                buffers[client][op] = buffer;
+            }
+            buffer[size] = nanos;
+            sizes[client][op] = size + 1;
+        }
+
+        long[] latencies(int op) {
+            int total = 0;
+            for (int[] size : sizes) {
+                total += size[op];
+            }
+            long[] all = new long[total];
+            int offset = 0;
+            for (int c = 0; c < buffers.length; c++) {
+                System.arraycopy(buffers[c][op], 0, all, offset, sizes[c][op]);
+                offset += sizes[c][op];
+            }
+            Arrays.sort(all);
+            return all;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop HTTP load driver comparing running instances side by side, e.g. the same build
+ * on platform threads and on virtual threads, both with the slow-db profile.
+ * No dependencies; run it straight from source (Java 17+):
+ *
+ *   java loadtest/ThreadingComparison.java --target platform=http://localhost:8081 \
+ *        --target virtual=http://localhost:8082 --concurrency 400 --duration 30s
+ *
+ * Each client thread loops: pick an endpoint from the mix (tree 40%, topic by slug 40%, search 20%),
+ * send, wait for the full response, record the latency. Slugs and search words come from the
+ * target's own navigation tree. Throughput and p50/p99/max are printed per endpoint and target.
+ */
+public class ThreadingComparison {
+
+    private static final String[] ENDPOINTS = {"tree", "slug", "search"};
+    private static final int[] WEIGHTS = {40, 40, 20};
+    private static final Pattern SLUG = Pattern.compile("\"slug\":\"([^\"]+)\"");
+    private static final Pattern TITLE = Pattern.compile("\"title\":\"([^\"]+)\"");
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> targets = new LinkedHashMap<>();
+        int concurrency = 200;
+        Duration duration = Duration.ofSeconds(30);
+        Duration warmup = Duration.ofSeconds(5);
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--target" -> {
+                    String[] target = args[++i].split("=", 2);
+                    targets.put(target[0], target[1]);
+                }
+                case "--concurrency" -> concurrency = Integer.parseInt(args[++i]);
+                case "--duration" -> duration = parseDuration(args[++i]);
+                case "--warmup" -> warmup = parseDuration(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        if (targets.isEmpty()) {
+            targets.put("default", "http://localhost:8080");
+        }
+
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (Map.Entry<String, String> target : targets.entrySet()) {
+            System.out.printf("%s: %d clients, %ds warm-up, %ds measured against %s%n", target.getKey(),
+                    concurrency, warmup.toSeconds(), duration.toSeconds(), target.getValue());
+            run(target.getValue(), concurrency, warmup);
+            results.put(target.getKey(), run(target.getValue(), concurrency, duration));
+        }
+
+        System.out.printf("%n%-10s %-8s %10s %8s %10s %9s %9s %9s%n",
+                "target", "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+        for (Map.Entry<String, Result> entry : results.entrySet()) {
+            Result result = entry.getValue();
+            for (int e = 0; e < ENDPOINTS.length; e++) {
+                long[] latencies = result.latencies(e);
+                System.out.printf("%-10s %-8s %10d %8d %10.1f %9.1f %9.1f %9.1f%n", entry.getKey(), ENDPOINTS[e],
+                        latencies.length, result.errors[e], latencies.length / result.seconds,
+                        percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 1.0));
+            }
+        }
+    }
+
+    private static Result run(String baseUrl, int concurrency, Duration duration) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        String nav = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/topics/tree/nav")).build(),
+                HttpResponse.BodyHandlers.ofString()).body();
+        List<String> slugs = matches(SLUG, nav);
+        List<String> words = new ArrayList<>();
+        for (String title : matches(TITLE, nav)) {
+            for (String word : title.split("\\W+")) {
+                if (word.length() >= 3) {
+                    words.add(word.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        if (slugs.isEmpty() || words.isEmpty()) {
+            throw new IllegalStateException("No topics at " + baseUrl + "; load some data first");
+        }
+
+        Result result = new Result(concurrency);
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        for (int c = 0; c < concurrency; c++) {
+            int clientIndex = c;
+            clients.execute(() -> {
+                Random random = new Random(clientIndex);
+                while (System.nanoTime() < deadline) {
+                    int endpoint = pick(random);
+                    String path = switch (endpoint) {
+                        case 0 -> "/api/topics/tree";
+                        case 1 -> "/api/topics/slug/" + slugs.get(random.nextInt(slugs.size()));
+                        default -> {
+                            String word = words.get(random.nextInt(words.size()));
+                            // A search-as-you-type keystroke: a prefix of a real word
+                            String prefix = word.substring(0, 3 + random.nextInt(word.length() - 2));
+                            yield "/api/topics/search?keyword=" + URLEncoder.encode(prefix, StandardCharsets.UTF_8);
+                        }
+                    };
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                            .header("Accept-Encoding", "gzip")
+                            .timeout(Duration.ofSeconds(60))
+                            .build();
+                    long start = System.nanoTime();
+                    try {
+                        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        result.record(clientIndex, endpoint, System.nanoTime() - start, status < 400);
+                    } catch (IOException e) {
+                        result.record(clientIndex, endpoint, System.nanoTime() - start, false);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            });
+        }
+        clients.shutdown();
+        clients.awaitTermination(duration.toSeconds() + 120, TimeUnit.SECONDS);
+        result.seconds = duration.toNanos() / 1e9;
+        return result;
+    }
+
+    private static int pick(Random random) {
+        int roll = random.nextInt(100);
+        for (int e = 0; e < WEIGHTS.length; e++) {
+            roll -= WEIGHTS[e];
+            if (roll < 0) {
+                return e;
+            }
+        }
+        return WEIGHTS.length - 1;
+    }
+
+    private static List<String> matches(Pattern pattern, String text) {
+        List<String> values = new ArrayList<>();
+        Matcher matcher = pattern.matcher(text);
+        while (matcher.find()) {
+            values.add(matcher.group(1));
+        }
+        return values;
+    }
+
+    private static double percentile(long[] sortedNanos, double quantile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1e6;
+    }
+
+    private static Duration parseDuration(String value) {
+        return value.endsWith("s") ? Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)))
+                : Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    /**
+     * Per-client latency buffers (no contention while running), merged when reporting.
+     */
+    private static final class Result {
+        final long[][][] buffers;
+        final int[][] sizes;
+        final long[] errors = new long[ENDPOINTS.length];
+        double seconds;
+
+        Result(int clients) {
+            buffers = new long[clients][ENDPOINTS.length][1024];
+            sizes = new int[clients][ENDPOINTS.length];
+        }
+
+        void record(int client, int endpoint, long nanos, boolean ok) {
+            if (!ok) {
+                synchronized (errors) {
+                    errors[endpoint]++;
+                }
+                return;
+            }
+            long[] buffer = buffers[client][endpoint];
+            int size = sizes[client][endpoint];
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+                buffers[client][endpoint] = buffer;
+            }
+            buffer[size] = nanos;
+            sizes[client][endpoint] = size + 1;
+        }
+
+        long[] latencies(int endpoint) {
+            int total = 0;
+            for (int[] size : sizes) {
+                total += size[endpoint];
+            }
+            long[] all = new long[total];
+            int offset = 0;
+            for (int c = 0; c < buffers.length; c++) {
+                System.arraycopy(buffers[c][endpoint], 0, all, offset, sizes[c][endpoint]);
+                offset += sizes[c][endpoint];
+            }
+            Arrays.sort(all);
+            return all;
+        }
+    }
+}
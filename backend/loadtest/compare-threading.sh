@@ -0,0 +1,38 @@
+#!/usr/bin/env bash
+# Side-by-side load comparison: platform threads vs virtual threads, both with the slow-db profile.
+# Needs JDK 21 and a PostgreSQL database with data (see ../README.md). Usage, from backend/:
+#   loadtest/compare-threading.sh [concurrency] [duration-seconds] [db-latency]
+set -euo pipefail
+
+CONCURRENCY=${1:-400}
+DURATION=${2:-30}
+LATENCY=${3:-50ms}
+JAR=target/cshub-backend-1.0.0-exec.jar
+
+mvn -B -q -Pjava21 -DskipTests package
+
+start() {
+  java -jar "$JAR" --server.port="$1" --spring.profiles.active="$2" \
+    --cshub.slow-db.latency="$LATENCY" --logging.level.com.cshub=INFO > "target/loadtest-$1.log" 2>&1 &
+  echo $!
+}
+wait_ready() {
+  for _ in $(seq 1 60); do
+    curl -sf "http://localhost:$1/api/topics/tree/nav" > /dev/null && return 0
+    sleep 1
+  done
+  echo "Instance on port $1 did not start; see target/loadtest-$1.log" >&2
+  return 1
+}
+
+PLATFORM=$(start 8081 slow-db)
+VIRTUAL=$(start 8082 slow-db,virtual-threads)
+trap 'kill $PLATFORM $VIRTUAL 2>/dev/null || true' EXIT
+wait_ready 8081
+wait_ready 8082
+
+# One instance at a time, so the two never compete for CPU or database connections
+java loadtest/ThreadingComparison.java \
+  --target platform=http://localhost:8081 \
+  --target virtual=http://localhost:8082 \
+  --concurrency "$CONCURRENCY" --duration "${DURATION}s"
@@ -0,0 +1,48 @@
+#!/usr/bin/env bash
+# End-to-end load test: build, start the app, load a synthetic corpus, drive a mixed workload, report.
+# Usage, from backend/:
+#   loadtest/run-loadtest.sh [embedded|postgres]
+# embedded (default) runs on in-memory H2 and needs nothing else; postgres uses the database from
+# DB_HOST/DB_PORT/DB_NAME/DB_USERNAME/DB_PASSWORD (see ../README.md), which should be empty or
+# hold an earlier load-test corpus. Corpus and workload are tuned through environment variables:
+#   TOPICS=20000 FAN_OUT=8 MAX_DEPTH=6 CONTENT_MEDIAN=1500 TAGS_PER_TOPIC=3 \
+#   CONCURRENCY=50 DURATION=60 MIX=nav=10,tree=2,slug=50,suggest=25,search=8,create=2,update=3 \
+#   loadtest/run-loadtest.sh postgres
+set -euo pipefail
+
+DB=${1:-embedded}
+PORT=${PORT:-8083}
+JAR=target/cshub-backend-1.0.0-exec.jar
+TARGET=http://localhost:$PORT
+
+case "$DB" in
+  embedded)
+    mvn -B -q -Pembedded-db -DskipTests package
+    PROFILE=embedded ;;
+  postgres)
+    mvn -B -q -DskipTests package
+    PROFILE=default ;;
+  *)
+    echo "Unknown database '$DB'; use embedded or postgres" >&2
+    exit 1 ;;
+esac
+
+java ${APP_JAVA_OPTS:--Xmx2g} -jar "$JAR" --server.port="$PORT" --spring.profiles.active="$PROFILE" \
+  --cshub.bulk.max-topics="${BATCH:-2000}" \
+  --logging.level.com.cshub=INFO --logging.level.org.hibernate.SQL=WARN > target/loadtest-app.log 2>&1 &
+APP=$!
+trap 'kill $APP 2>/dev/null || true' EXIT
+
+for _ in $(seq 1 120); do
+  curl -sf "$TARGET/api/tags" > /dev/null && break
+  kill -0 $APP 2>/dev/null || { echo "Application exited; see target/loadtest-app.log" >&2; exit 1; }
+  sleep 1
+done
+
+java loadtest/CorpusGenerator.java --target "$TARGET" \
+  --topics "${TOPICS:-20000}" --fan-out "${FAN_OUT:-8}" --max-depth "${MAX_DEPTH:-6}" \
+  --content-median "${CONTENT_MEDIAN:-1500}" --tags-per-topic "${TAGS_PER_TOPIC:-3}" --batch "${BATCH:-2000}"
+
+java loadtest/LoadTest.java --target "$TARGET" \
+  --concurrency "${CONCURRENCY:-50}" --duration "${DURATION:-60}s" --warmup "${WARMUP:-10}s" \
+  --mix "${MIX:-nav=10,tree=2,slug=50,suggest=25,search=8,create=2,update=3}"
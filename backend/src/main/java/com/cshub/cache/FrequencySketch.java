@@ -0,0 +1,99 @@
+package com.cshub.cache;
+
+/**
+ * Count-min sketch of 4-bit counters, used as the TinyLFU admission filter of TopicReadCache.
+ * Demonstrates DSA: Probabilistic frequency counting in fixed memory, with periodic aging.
+ *
+ * Each key bumps one counter in each of four rows (one hash per row) and its estimated frequency
+ * is the smallest of the four, so collisions can only over-count. Sixteen counters are packed into
+ * each long. Counters saturate at 15, and after 10 x width increments every counter is halved so
+ * that popularity decays: a topic that was hot last week does not keep its place forever.
+ *
+ * Not thread-safe; the owning cache calls it under its own lock.
+ */
+final class FrequencySketch {
+
+    private static final int ROWS = 4;
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private final long[] table;
+    private final int widthMask;
+    private final int wordsPerRow;
+    private final int sampleSize;
+    private int additions;
+
+    /**
+     * @param width counters per row, rounded up to a power of two (at least 16)
+     */
+    FrequencySketch(int width) {
+        int counters = 16;
+        while (counters < width) {
+            counters <<= 1;
+        }
+        this.widthMask = counters - 1;
+        this.wordsPerRow = counters >>> 4;
+        this.table = new long[ROWS * wordsPerRow];
+        this.sampleSize = 10 * counters;
+    }
+
+    /**
+     * Estimated number of recent accesses, 0 to 15.
+     */
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int min = 15;
+        for (int row = 0; row < ROWS; row++) {
+            int index = indexOf(hash, row);
+            long word = table[row * wordsPerRow + (index >>> 4)];
+            min = Math.min(min, (int) (word >>> ((index & 15) << 2)) & 0xF);
+        }
+        return min;
+    }
+
+    /**
+     * Record one access.
+     */
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int row = 0; row < ROWS; row++) {
+            int index = indexOf(hash, row);
+            int word = row * wordsPerRow + (index >>> 4);
+            int shift = (index & 15) << 2;
+            long mask = 0xFL << shift;
+            if ((table[word] & mask) != mask) {
+                table[word] += 1L << shift;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * Halve every counter: shift each word right by one bit and drop the bit that crossed into the
+     * neighbouring nibble.
+     */
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions >>>= 1;
+    }
+
+    private int indexOf(int hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        h += h >>> 32;
+        return (int) h & widthMask;
+    }
+
+    private static int spread(int hash) {
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        return (hash >>> 16) ^ hash;
+    }
+}
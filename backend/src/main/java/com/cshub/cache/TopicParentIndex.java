@@ -0,0 +1,405 @@
+package com.cshub.cache;
+
+import com.cshub.dto.BreadcrumbDTO;
+import com.cshub.dto.TopicDTO;
+import com.cshub.dto.TopicNavDTO;
+import com.cshub.event.TopicBulkChangedEvent;
+import com.cshub.event.TopicChangedEvent;
+import com.cshub.repository.TopicRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * Compact in-memory parent map for breadcrumbs.
+ * Demonstrates DSA: Parent-pointer tree stored in parallel primitive arrays.
+ *
+ * Topics are numbered by ordinal (their position in the id-sorted array) and each ordinal
+ * stores its parent's ordinal, so walking to the root is O(depth) array reads with no
+ * hashing or boxing. Slugs are resolved by binary search over a sorted slug array.
+ *
+ * Like the suggest index, the state is an immutable snapshot behind a volatile field;
+ * topic writes patch it in memory without touching the database.
+ */
+@Component
+public class TopicParentIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TopicParentIndex.class);
+
+    // Beyond this many changed topics, one re-sort is cheaper than patching slot by slot
+    private static final int MAX_PATCHES = 32;
+
+    private final TopicRepository topicRepository;
+
+    private volatile Snapshot snapshot;
+
+    public TopicParentIndex(TopicRepository topicRepository) {
+        this.topicRepository = topicRepository;
+    }
+
+    /**
+     * Build the index once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Patch the index after a topic write commits.
+     */
+    @TransactionalEventListener
+    public void onTopicChanged(TopicChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED, UPDATED -> index(event.getTopic());
+            case DELETED -> remove(event.getRemovedTopicIds());
+        }
+    }
+
+    /**
+     * A bulk import carries the topics it wrote; patch them in without reloading.
+     */
+    @TransactionalEventListener
+    public void onTopicsBulkChanged(TopicBulkChangedEvent event) {
+        indexAll(event.getTopics());
+    }
+
+    /**
+     * True once the initial build has completed.
+     */
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * Reload navigation rows (no content) from the database and replace the snapshot.
+     */
+    public synchronized void rebuild() {
+        List<TopicNavDTO> rows = topicRepository.findAllNavigation();
+        List<Node> nodes = new ArrayList<>(rows.size());
+        for (TopicNavDTO row : rows) {
+            nodes.add(new Node(row.getId(), row.getParentId(), row.getTitle(), row.getSlug()));
+        }
+        snapshot = Snapshot.of(nodes);
+        logger.info("Parent index built with {} topics", nodes.size());
+    }
+
+    /**
+     * Add or replace a topic.
+     */
+    public synchronized void index(TopicDTO topic) {
+        if (snapshot == null || topic == null || topic.getId() == null) {
+            return;
+        }
+        Node node = new Node(topic.getId(), topic.getParentId(), topic.getTitle(), topic.getSlug());
+        snapshot = snapshot.with(Collections.emptySet(), List.of(node));
+    }
+
+    /**
+     * Add or replace several topics in one new snapshot.
+     */
+    public synchronized void indexAll(List<TopicDTO> topics) {
+        if (snapshot == null || topics.isEmpty()) {
+            return;
+        }
+        List<Node> nodes = new ArrayList<>(topics.size());
+        for (TopicDTO topic : topics) {
+            nodes.add(new Node(topic.getId(), topic.getParentId(), topic.getTitle(), topic.getSlug()));
+        }
+        snapshot = snapshot.with(Collections.emptySet(), nodes);
+    }
+
+    /**
+     * Remove topics by id.
+     */
+    public synchronized void remove(Collection<Long> topicIds) {
+        if (snapshot != null && !topicIds.isEmpty()) {
+            snapshot = snapshot.with(new HashSet<>(topicIds), Collections.emptyList());
+        }
+    }
+
+    /**
+     * Breadcrumb trail for a topic, root first and ending with the topic itself,
+     * or null if no topic has this slug.
+     */
+    public List<BreadcrumbDTO> breadcrumbs(String slug) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return null;
+        }
+        int ordinal = current.ordinalOfSlug(slug);
+        if (ordinal < 0) {
+            return null;
+        }
+        LinkedList<BreadcrumbDTO> trail = new LinkedList<>();
+        // Bounded by the topic count so a corrupt parent chain can never loop forever
+        for (int i = ordinal, steps = 0; i >= 0 && steps < current.ids.length; i = current.parents[i], steps++) {
+            trail.addFirst(new BreadcrumbDTO(current.ids[i], current.titles[i], current.slugs[i]));
+        }
+        return trail;
+    }
+
+    private record Node(long id, Long parentId, String title, String slug) {
+    }
+
+    /**
+     * Immutable state: topics sorted by id, each with its parent's ordinal (-1 for roots),
+     * plus a slug-sorted view for lookups.
+     */
+    private static final class Snapshot {
+
+        final long[] ids;
+        final int[] parents;
+        final String[] titles;
+        final String[] slugs;
+        final String[] sortedSlugs;
+        final int[] slugOrdinals;
+
+        private Snapshot(long[] ids, int[] parents, String[] titles, String[] slugs,
+                         String[] sortedSlugs, int[] slugOrdinals) {
+            this.ids = ids;
+            this.parents = parents;
+            this.titles = titles;
+            this.slugs = slugs;
+            this.sortedSlugs = sortedSlugs;
+            this.slugOrdinals = slugOrdinals;
+        }
+
+        static Snapshot of(List<Node> nodes) {
+            nodes.sort(Comparator.comparingLong(Node::id));
+            int n = nodes.size();
+            long[] ids = new long[n];
+            String[] titles = new String[n];
+            String[] slugs = new String[n];
+            for (int i = 0; i < n; i++) {
+                Node node = nodes.get(i);
+                ids[i] = node.id();
+                titles[i] = node.title();
+                slugs[i] = node.slug();
+            }
+
+            // Parent ids -> parent ordinals, by binary search over the sorted ids
+            int[] parents = new int[n];
+            for (int i = 0; i < n; i++) {
+                parents[i] = parentOrdinal(ids, nodes.get(i).parentId());
+            }
+
+            Integer[] bySlug = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                bySlug[i] = i;
+            }
+            Arrays.sort(bySlug, Comparator.comparing(i -> slugs[i]));
+            String[] sortedSlugs = new String[n];
+            int[] slugOrdinals = new int[n];
+            for (int i = 0; i < n; i++) {
+                sortedSlugs[i] = slugs[bySlug[i]];
+                slugOrdinals[i] = bySlug[i];
+            }
+            return new Snapshot(ids, parents, titles, slugs, sortedSlugs, slugOrdinals);
+        }
+
+        /**
+         * New snapshot with removedIds dropped and added nodes (re)inserted, without database access.
+         * A handful of nodes is patched slot by slot in O(n) array copies; a large batch is cheaper
+         * to re-sort once.
+         */
+        Snapshot with(Set<Long> removedIds, List<Node> added) {
+            Snapshot next = removedIds.isEmpty() ? this : without(removedIds);
+            if (added.size() > MAX_PATCHES) {
+                return next.merged(added);
+            }
+            for (Node node : added) {
+                int ordinal = Arrays.binarySearch(next.ids, node.id());
+                next = ordinal >= 0 ? next.replaced(ordinal, node) : next.inserted(-ordinal - 1, node);
+            }
+            // A node may have been added before its parent in the same batch
+            return added.size() > 1 ? next.withParentsOf(added) : next;
+        }
+
+        /**
+         * Copy with one existing slot overwritten. Ids are unchanged, so no other ordinal moves.
+         */
+        private Snapshot replaced(int ordinal, Node node) {
+            int[] newParents = parents.clone();
+            String[] newTitles = titles.clone();
+            String[] newSlugs = slugs.clone();
+            newParents[ordinal] = parentOrdinal(ids, node.parentId());
+            newTitles[ordinal] = node.title();
+            newSlugs[ordinal] = node.slug();
+            if (Objects.equals(slugs[ordinal], node.slug())) {
+                return new Snapshot(ids, newParents, newTitles, newSlugs, sortedSlugs, slugOrdinals);
+            }
+            // Renamed slug: move this one entry within the sorted view
+            int from = Arrays.binarySearch(sortedSlugs, slugs[ordinal]);
+            String[] remainingSlugs = removeAt(sortedSlugs, from);
+            int[] remainingOrdinals = removeAt(slugOrdinals, from);
+            int to = insertionPoint(remainingSlugs, node.slug());
+            return new Snapshot(ids, newParents, newTitles, newSlugs,
+                    insertAt(remainingSlugs, to, node.slug()), insertAt(remainingOrdinals, to, ordinal));
+        }
+
+        /**
+         * Copy with a new slot at ordinal; every ordinal at or after it shifts up by one.
+         */
+        private Snapshot inserted(int ordinal, Node node) {
+            int n = ids.length;
+            long[] newIds = new long[n + 1];
+            System.arraycopy(ids, 0, newIds, 0, ordinal);
+            newIds[ordinal] = node.id();
+            System.arraycopy(ids, ordinal, newIds, ordinal + 1, n - ordinal);
+
+            int[] newParents = new int[n + 1];
+            for (int i = 0; i < n; i++) {
+                newParents[i < ordinal ? i : i + 1] = shift(parents[i], ordinal);
+            }
+            newParents[ordinal] = parentOrdinal(newIds, node.parentId());
+
+            int at = insertionPoint(sortedSlugs, node.slug());
+            int[] newSlugOrdinals = new int[n + 1];
+            for (int i = 0; i < n; i++) {
+                newSlugOrdinals[i < at ? i : i + 1] = shift(slugOrdinals[i], ordinal);
+            }
+            newSlugOrdinals[at] = ordinal;
+
+            return new Snapshot(newIds, newParents, insertAt(titles, ordinal, node.title()),
+                    insertAt(slugs, ordinal, node.slug()), insertAt(sortedSlugs, at, node.slug()), newSlugOrdinals);
+        }
+
+        /**
+         * Copy with the given ids dropped: one compacting pass over each array, no sorting.
+         */
+        private Snapshot without(Set<Long> removedIds) {
+            int n = ids.length;
+            boolean[] removed = new boolean[n];
+            int removedCount = 0;
+            for (Long id : removedIds) {
+                int ordinal = Arrays.binarySearch(ids, id);
+                if (ordinal >= 0 && !removed[ordinal]) {
+                    removed[ordinal] = true;
+                    removedCount++;
+                }
+            }
+            if (removedCount == 0) {
+                return this;
+            }
+
+            int kept = n - removedCount;
+            int[] remap = new int[n];
+            long[] newIds = new long[kept];
+            String[] newTitles = new String[kept];
+            String[] newSlugs = new String[kept];
+            for (int i = 0, j = 0; i < n; i++) {
+                if (removed[i]) {
+                    remap[i] = -1;
+                } else {
+                    remap[i] = j;
+                    newIds[j] = ids[i];
+                    newTitles[j] = titles[i];
+                    newSlugs[j] = slugs[i];
+                    j++;
+                }
+            }
+            int[] newParents = new int[kept];
+            for (int i = 0; i < n; i++) {
+                if (!removed[i]) {
+                    newParents[remap[i]] = parents[i] < 0 ? -1 : remap[parents[i]];
+                }
+            }
+            String[] newSortedSlugs = new String[kept];
+            int[] newSlugOrdinals = new int[kept];
+            for (int i = 0, j = 0; i < n; i++) {
+                if (!removed[slugOrdinals[i]]) {
+                    newSortedSlugs[j] = sortedSlugs[i];
+                    newSlugOrdinals[j] = remap[slugOrdinals[i]];
+                    j++;
+                }
+            }
+            return new Snapshot(newIds, newParents, newTitles, newSlugs, newSortedSlugs, newSlugOrdinals);
+        }
+
+        /**
+         * Copy with the parents of the given nodes resolved again against the final ids.
+         */
+        private Snapshot withParentsOf(List<Node> nodes) {
+            int[] newParents = parents.clone();
+            for (Node node : nodes) {
+                newParents[Arrays.binarySearch(ids, node.id())] = parentOrdinal(ids, node.parentId());
+            }
+            return new Snapshot(ids, newParents, titles, slugs, sortedSlugs, slugOrdinals);
+        }
+
+        /**
+         * Full re-sort with the given nodes replacing or joining the current ones.
+         */
+        private Snapshot merged(List<Node> added) {
+            Set<Long> replaced = new HashSet<>();
+            for (Node node : added) {
+                replaced.add(node.id());
+            }
+            List<Node> nodes = new ArrayList<>(ids.length + added.size());
+            for (int i = 0; i < ids.length; i++) {
+                if (!replaced.contains(ids[i])) {
+                    nodes.add(new Node(ids[i], parents[i] < 0 ? null : ids[parents[i]], titles[i], slugs[i]));
+                }
+            }
+            nodes.addAll(added);
+            return of(nodes);
+        }
+
+        int ordinalOfSlug(String slug) {
+            int i = Arrays.binarySearch(sortedSlugs, slug);
+            return i >= 0 ? slugOrdinals[i] : -1;
+        }
+
+        private static int parentOrdinal(long[] ids, Long parentId) {
+            return parentId == null ? -1 : Math.max(-1, Arrays.binarySearch(ids, parentId));
+        }
+
+        // Ordinal after a slot was inserted at insertedAt
+        private static int shift(int ordinal, int insertedAt) {
+            return ordinal >= insertedAt ? ordinal + 1 : ordinal;
+        }
+
+        private static int insertionPoint(String[] sorted, String key) {
+            int i = Arrays.binarySearch(sorted, key);
+            return i >= 0 ? i : -i - 1;
+        }
+
+        private static String[] insertAt(String[] array, int index, String value) {
+            String[] copy = new String[array.length + 1];
+            System.arraycopy(array, 0, copy, 0, index);
+            copy[index] = value;
+            System.arraycopy(array, index, copy, index + 1, array.length - index);
+            return copy;
+        }
+
+        private static int[] insertAt(int[] array, int index, int value) {
+            int[] copy = new int[array.length + 1];
+            System.arraycopy(array, 0, copy, 0, index);
+            copy[index] = value;
+            System.arraycopy(array, index, copy, index + 1, array.length - index);
+            return copy;
+        }
+
+        private static String[] removeAt(String[] array, int index) {
+            String[] copy = new String[array.length - 1];
+            System.arraycopy(array, 0, copy, 0, index);
+            System.arraycopy(array, index + 1, copy, index, array.length - index - 1);
+            return copy;
+        }
+
+        private static int[] removeAt(int[] array, int index) {
+            int[] copy = new int[array.length - 1];
+            System.arraycopy(array, 0, copy, 0, index);
+            System.arraycopy(array, index + 1, copy, index, array.length - index - 1);
+            return copy;
+        }
+    }
+}
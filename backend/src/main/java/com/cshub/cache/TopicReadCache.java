@@ -0,0 +1,314 @@
+package com.cshub.cache;
+
+import com.cshub.dto.CacheStatsDTO;
+import com.cshub.dto.TopicDTO;
+import com.cshub.event.TagChangedEvent;
+import com.cshub.event.TopicBulkChangedEvent;
+import com.cshub.event.TopicChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size-bounded cache of single-topic reads (by id and by slug), weighted by content length.
+ * Demonstrates DSA: W-TinyLFU - a small LRU admission window in front of a segmented LRU,
+ * guarded by a count-min frequency sketch.
+ *
+ * New entries land in the window (1% of the weight budget). When the window overflows, its LRU
+ * entry becomes a candidate for the main region and has to beat the main region's LRU victim
+ * on estimated frequency to get in. This keeps a one-off crawl over every article from flushing
+ * the handful of pages people actually read. Inside the main region, entries hit again while on
+ * probation are promoted to the protected segment (80% of the main region).
+ *
+ * Weight is the markdown plus rendered HTML length and a fixed per-entry overhead, so one huge
+ * article counts for as much as many short ones. Entries are dropped after committed writes; a read
+ * that raced a write is not stored, because put() rejects values loaded before the latest invalidation.
+ *
+ * Gets reorder LRU lists, so all operations take one monitor; the critical sections are a few
+ * map operations.
+ */
+@Component
+public class TopicReadCache {
+
+    /**
+     * Weight charged per entry on top of the content length (title, slug, tags, bookkeeping).
+     */
+    static final int ENTRY_OVERHEAD = 256;
+
+    /**
+     * Rough average entry weight used to size the frequency sketch.
+     */
+    private static final int EXPECTED_ENTRY_WEIGHT = 4096;
+
+    private enum Segment { WINDOW, PROBATION, PROTECTED }
+
+    private final long maxWeight;
+    private final long windowMaxWeight;
+    private final long protectedMaxWeight;
+    private final FrequencySketch sketch;
+
+    // All fields below are guarded by this
+    private final Map<Long, Node> nodesById = new HashMap<>();
+    private final Map<String, Long> idsBySlug = new HashMap<>();
+    private final LinkedHashMap<Long, Node> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<Long, Node> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<Long, Node> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+    private long windowWeight;
+    private long probationWeight;
+    private long protectedWeight;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private volatile long generation;
+
+    public TopicReadCache(@Value("${cshub.cache.topics.max-weight:16000000}") long maxWeight) {
+        this.maxWeight = Math.max(maxWeight, ENTRY_OVERHEAD);
+        this.windowMaxWeight = Math.max(1, this.maxWeight / 100);
+        this.protectedMaxWeight = (this.maxWeight - windowMaxWeight) * 8 / 10;
+        this.sketch = new FrequencySketch((int) Math.min(1 << 20, Math.max(1024, this.maxWeight / EXPECTED_ENTRY_WEIGHT)));
+    }
+
+    /**
+     * Drop a topic once its update or delete has committed.
+     */
+    @TransactionalEventListener
+    public void onTopicChanged(TopicChangedEvent event) {
+        switch (event.getType()) {
+            case UPDATED -> invalidate(event.getTopicId());
+            case DELETED -> event.getRemovedTopicIds().forEach(this::invalidate);
+            case CREATED -> {
+                // Nothing cached yet; misses are never cached
+            }
+        }
+    }
+
+    /**
+     * A bulk import lists every topic it created or updated.
+     */
+    @TransactionalEventListener
+    public void onTopicsBulkChanged(TopicBulkChangedEvent event) {
+        event.getTopicIds().forEach(this::invalidate);
+    }
+
+    /**
+     * Cached topics embed their tags, so deleting a tag drops everything.
+     */
+    @TransactionalEventListener
+    public void onTagChanged(TagChangedEvent event) {
+        if (event.getType() == TagChangedEvent.Type.DELETED) {
+            invalidateAll();
+        }
+    }
+
+    /**
+     * Read this before loading a topic from the database and pass it to put().
+     */
+    public long generation() {
+        return generation;
+    }
+
+    /**
+     * Cached topic by id, or null.
+     */
+    public synchronized TopicDTO getById(Long id) {
+        Node node = nodesById.get(id);
+        if (node == null) {
+            misses++;
+            return null;
+        }
+        return hit(node);
+    }
+
+    /**
+     * Cached topic by slug, or null.
+     */
+    public synchronized TopicDTO getBySlug(String slug) {
+        Long id = idsBySlug.get(slug);
+        if (id == null) {
+            misses++;
+            return null;
+        }
+        return hit(nodesById.get(id));
+    }
+
+    /**
+     * Store a topic loaded after generation() returned loadedAtGeneration.
+     * Ignored if anything was invalidated since, or if the topic alone exceeds the budget.
+     */
+    public synchronized void put(TopicDTO topic, long loadedAtGeneration) {
+        if (loadedAtGeneration != generation) {
+            return;
+        }
+        long weight = weigh(topic);
+        if (weight > maxWeight) {
+            return;
+        }
+        // A miss followed by a load counts as one access
+        sketch.increment(topic.getId());
+        Node existing = nodesById.get(topic.getId());
+        if (existing != null) {
+            unlink(existing);
+        }
+
+        Node node = new Node(topic, weight);
+        nodesById.put(topic.getId(), node);
+        idsBySlug.put(topic.getSlug(), topic.getId());
+        window.put(topic.getId(), node);
+        windowWeight += weight;
+
+        while (windowWeight > windowMaxWeight && !window.isEmpty()) {
+            Node candidate = removeEldest(window);
+            windowWeight -= candidate.weight;
+            admit(candidate);
+        }
+    }
+
+    /**
+     * Drop one topic.
+     */
+    public synchronized void invalidate(Long id) {
+        generation++;
+        Node node = nodesById.get(id);
+        if (node != null) {
+            unlink(node);
+        }
+    }
+
+    /**
+     * Drop every topic.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        nodesById.clear();
+        idsBySlug.clear();
+        window.clear();
+        probation.clear();
+        protectedSegment.clear();
+        windowWeight = 0;
+        probationWeight = 0;
+        protectedWeight = 0;
+    }
+
+    /**
+     * Hit, miss and eviction counters plus current occupancy.
+     */
+    public synchronized CacheStatsDTO stats() {
+        return new CacheStatsDTO(hits, misses, evictions, nodesById.size(),
+                windowWeight + probationWeight + protectedWeight, maxWeight);
+    }
+
+    // ---- internals, callers hold the monitor ----
+
+    private TopicDTO hit(Node node) {
+        hits++;
+        sketch.increment(node.topic.getId());
+        Long id = node.topic.getId();
+        switch (node.segment) {
+            case WINDOW -> window.get(id);
+            case PROTECTED -> protectedSegment.get(id);
+            case PROBATION -> {
+                // Second hit in the main region: promote, demoting protected LRU entries if it overflows
+                probation.remove(id);
+                probationWeight -= node.weight;
+                node.segment = Segment.PROTECTED;
+                protectedSegment.put(id, node);
+                protectedWeight += node.weight;
+                while (protectedWeight > protectedMaxWeight && protectedSegment.size() > 1) {
+                    Node demoted = removeEldest(protectedSegment);
+                    protectedWeight -= demoted.weight;
+                    demoted.segment = Segment.PROBATION;
+                    probation.put(demoted.topic.getId(), demoted);
+                    probationWeight += demoted.weight;
+                }
+            }
+        }
+        return node.topic;
+    }
+
+    /**
+     * TinyLFU admission: the window's evictee enters the main region only if it is estimated
+     * to be more popular than every victim that has to make room for it.
+     */
+    private void admit(Node candidate) {
+        long mainMaxWeight = maxWeight - windowMaxWeight;
+        int candidateFrequency = sketch.frequency(candidate.topic.getId());
+        while (probationWeight + protectedWeight + candidate.weight > mainMaxWeight) {
+            LinkedHashMap<Long, Node> victims = !probation.isEmpty() ? probation : protectedSegment;
+            if (victims.isEmpty()) {
+                break;
+            }
+            Node victim = victims.values().iterator().next();
+            if (candidateFrequency <= sketch.frequency(victim.topic.getId())) {
+                evict(candidate);
+                return;
+            }
+            unlink(victim);
+            evictions++;
+        }
+        if (probationWeight + protectedWeight + candidate.weight > mainMaxWeight) {
+            evict(candidate);
+            return;
+        }
+        candidate.segment = Segment.PROBATION;
+        probation.put(candidate.topic.getId(), candidate);
+        probationWeight += candidate.weight;
+    }
+
+    /**
+     * Forget a window evictee that was not admitted (already removed from the window).
+     */
+    private void evict(Node candidate) {
+        nodesById.remove(candidate.topic.getId());
+        idsBySlug.remove(candidate.topic.getSlug(), candidate.topic.getId());
+        evictions++;
+    }
+
+    private void unlink(Node node) {
+        Long id = node.topic.getId();
+        nodesById.remove(id);
+        idsBySlug.remove(node.topic.getSlug(), id);
+        switch (node.segment) {
+            case WINDOW -> {
+                window.remove(id);
+                windowWeight -= node.weight;
+            }
+            case PROBATION -> {
+                probation.remove(id);
+                probationWeight -= node.weight;
+            }
+            case PROTECTED -> {
+                protectedSegment.remove(id);
+                protectedWeight -= node.weight;
+            }
+        }
+    }
+
+    private static Node removeEldest(LinkedHashMap<Long, Node> segment) {
+        Iterator<Node> iterator = segment.values().iterator();
+        Node eldest = iterator.next();
+        iterator.remove();
+        return eldest;
+    }
+
+    private static long weigh(TopicDTO topic) {
+        return ENTRY_OVERHEAD
+                + (topic.getContent() != null ? topic.getContent().length() : 0)
+                + (topic.getContentHtml() != null ? topic.getContentHtml().length() : 0);
+    }
+
+    private static final class Node {
+        final TopicDTO topic;
+        final long weight;
+        Segment segment = Segment.WINDOW;
+
+        Node(TopicDTO topic, long weight) {
+            this.topic = topic;
+            this.weight = weight;
+        }
+    }
+}
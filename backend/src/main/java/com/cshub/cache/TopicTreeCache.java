@@ -0,0 +1,97 @@
+package com.cshub.cache;
+
+import com.cshub.dto.TopicDTO;
+import com.cshub.dto.TopicNavDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the current topic tree snapshot in memory.
+ * Demonstrates concurrency: lock-free reads with AtomicReference and a monotonically increasing version.
+ *
+ * Every committed write bumps the version. A snapshot is only served while its version matches
+ * the current one, so a snapshot built from data that was read before a write can never be
+ * published over a newer state. The full tree and the navigation-only tree share one version.
+ */
+@Component
+public class TopicTreeCache {
+
+    // Versions restart at 0 on every boot; the instance id keeps ETags from colliding across restarts
+    private final String instanceId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<TopicTreeSnapshot<TopicDTO>> snapshot = new AtomicReference<>();
+    private final AtomicReference<TopicTreeSnapshot<TopicNavDTO>> navigationSnapshot = new AtomicReference<>();
+
+    /**
+     * Current tree version. Read this before loading data for a new snapshot.
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Strong ETag for a tree view at a given version, e.g. "tree-lx2k9f-42".
+     */
+    public String etag(String view, long treeVersion) {
+        return "\"" + view + "-" + instanceId + "-" + treeVersion + "\"";
+    }
+
+    /**
+     * Get the current snapshot, or null if it has to be (re)built.
+     */
+    public TopicTreeSnapshot<TopicDTO> getSnapshot() {
+        return current(snapshot);
+    }
+
+    /**
+     * Swap in a freshly built snapshot.
+     * Returns false if a write happened while it was being built.
+     */
+    public boolean publish(TopicTreeSnapshot<TopicDTO> newSnapshot) {
+        return publish(snapshot, newSnapshot);
+    }
+
+    /**
+     * Get the current navigation-only snapshot, or null if it has to be (re)built.
+     */
+    public TopicTreeSnapshot<TopicNavDTO> getNavigationSnapshot() {
+        return current(navigationSnapshot);
+    }
+
+    /**
+     * Swap in a freshly built navigation snapshot.
+     * Returns false if a write happened while it was being built.
+     */
+    public boolean publishNavigation(TopicTreeSnapshot<TopicNavDTO> newSnapshot) {
+        return publish(navigationSnapshot, newSnapshot);
+    }
+
+    /**
+     * Discard the current snapshot after a committed write.
+     * Returns the new version.
+     */
+    public long invalidate() {
+        long newVersion = version.incrementAndGet();
+        snapshot.set(null);
+        navigationSnapshot.set(null);
+        return newVersion;
+    }
+
+    private <T> TopicTreeSnapshot<T> current(AtomicReference<TopicTreeSnapshot<T>> ref) {
+        TopicTreeSnapshot<T> current = ref.get();
+        if (current == null || current.getVersion() != version.get()) {
+            return null;
+        }
+        return current;
+    }
+
+    private <T> boolean publish(AtomicReference<TopicTreeSnapshot<T>> ref, TopicTreeSnapshot<T> newSnapshot) {
+        if (newSnapshot.getVersion() != version.get()) {
+            return false;
+        }
+        ref.set(newSnapshot);
+        return true;
+    }
+}
@@ -0,0 +1,57 @@
+package com.cshub.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Immutable, versioned view of the topic tree.
+ * The root list and every children list are unmodifiable; callers must treat the DTOs as read-only.
+ *
+ * The JSON encoding of the roots (plain and gzip) is computed on first use and then kept with the
+ * snapshot, so it is produced once per tree version and dropped together with the snapshot.
+ *
+ * @param <T> node type - TopicDTO for the full tree, TopicNavDTO for the navigation tree
+ */
+public final class TopicTreeSnapshot<T> {
+
+    private final long version;
+    private final List<T> roots;
+    private volatile PrecompressedJson encoded;
+
+    public TopicTreeSnapshot(long version, List<T> roots) {
+        this.version = version;
+        this.roots = List.copyOf(roots);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<T> getRoots() {
+        return roots;
+    }
+
+    /**
+     * The roots serialized with the given mapper and gzip-compressed, computed once.
+     */
+    public PrecompressedJson getEncoded(ObjectMapper objectMapper) {
+        PrecompressedJson result = encoded;
+        if (result == null) {
+            synchronized (this) {
+                result = encoded;
+                if (result == null) {
+                    try {
+                        result = PrecompressedJson.of(objectMapper.writeValueAsBytes(roots));
+                    } catch (JsonProcessingException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    encoded = result;
+                }
+            }
+        }
+        return result;
+    }
+}
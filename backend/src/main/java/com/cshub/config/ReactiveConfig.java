@@ -0,0 +1,68 @@
+package com.cshub.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+
+/**
+ * "reactive" profile: Netty and non-blocking database access for the WebFlux read path.
+ * The JPA stack stays up for writes, migrations and the search index; reads on /api/topics
+ * go through a pooled R2DBC connection factory instead of JDBC.
+ *
+ * The pool is kept out of the context on purpose: a ConnectionFactory bean makes Spring Boot
+ * back off from configuring the JDBC DataSource that JPA still needs.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveConfig.class);
+
+    private ConnectionPool connectionPool;
+
+    /**
+     * Tomcat is on the classpath too and would otherwise be picked as the reactive server.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public DatabaseClient databaseClient(
+            @Value("${cshub.r2dbc.url}") String url,
+            @Value("${cshub.r2dbc.username}") String username,
+            @Value("${cshub.r2dbc.password}") String password,
+            @Value("${cshub.r2dbc.pool.max-size:20}") int maxSize) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .initialSize(Math.min(2, maxSize))
+                .maxSize(maxSize)
+                .maxIdleTime(Duration.ofMinutes(30))
+                .build());
+        logger.info("Reactive read path enabled: R2DBC pool of up to {} connections", maxSize);
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @PreDestroy
+    public void closeConnectionPool() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+}
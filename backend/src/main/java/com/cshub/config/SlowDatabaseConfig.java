@@ -0,0 +1,38 @@
+package com.cshub.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+
+/**
+ * "slow-db" profile: adds a fixed delay before every SQL statement, to reproduce a slow or overloaded
+ * database locally and compare the platform-thread and virtual-thread request models under it.
+ */
+@Configuration
+@Profile("slow-db")
+public class SlowDatabaseConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlowDatabaseConfig.class);
+
+    @Bean
+    public HibernatePropertiesCustomizer slowStatementInspector(@Value("${cshub.slow-db.latency:50ms}") Duration latency) {
+        logger.warn("slow-db profile active: every SQL statement is delayed by {} ms", latency.toMillis());
+        StatementInspector inspector = sql -> {
+            try {
+                Thread.sleep(latency.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return sql;
+        };
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+}
@@ -0,0 +1,40 @@
+package com.cshub.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports which thread model serves requests, and warns when virtual threads were asked for
+ * on a JVM that cannot provide them (Spring Boot then silently keeps platform threads).
+ */
+@Component
+public class ThreadingConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThreadingConfig.class);
+
+    private final Environment environment;
+
+    public ThreadingConfig(Environment environment) {
+        this.environment = environment;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void logThreadingModel() {
+        boolean requested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        if ("reactive".equalsIgnoreCase(environment.getProperty("spring.main.web-application-type"))) {
+            logger.info("Serving requests on the Netty event loop (reactive profile)");
+        } else if (Threading.VIRTUAL.isActive(environment)) {
+            logger.info("Serving requests on virtual threads");
+        } else if (requested) {
+            logger.warn("spring.threads.virtual.enabled is set but Java {} has no virtual threads; "
+                    + "using platform threads (build with -Pjava21 and run on Java 21)", Runtime.version().feature());
+        } else {
+            logger.info("Serving requests on platform threads");
+        }
+    }
+}
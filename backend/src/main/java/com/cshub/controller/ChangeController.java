@@ -0,0 +1,88 @@
+package com.cshub.controller;
+
+import com.cshub.dto.ChangeFeedDTO;
+import com.cshub.service.ChangeFeedService;
+import com.cshub.service.ChangeStreamService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * REST Controller for the change feed used by incremental sync clients.
+ */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RestController
+@RequestMapping("/api/changes")
+@CrossOrigin(origins = "${cors.allowed-origins}")
+@Tag(name = "Changes", description = "Feed of topic and tag writes for incremental sync")
+public class ChangeController {
+
+    private final ChangeFeedService changeFeedService;
+    private final ChangeStreamService changeStreamService;
+
+    @Value("${cshub.pagination.default-page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${cshub.pagination.max-page-size:200}")
+    private int maxPageSize;
+
+    public ChangeController(ChangeFeedService changeFeedService, ChangeStreamService changeStreamService) {
+        this.changeFeedService = changeFeedService;
+        this.changeStreamService = changeStreamService;
+    }
+
+    /**
+     * Get changes after a sequence number.
+     */
+    @GetMapping
+    @Operation(summary = "Get changes since a sequence number",
+            description = "Oldest first. Store nextSince and pass it back as since on the next poll; " +
+                    "hasMore means another page is available right away")
+    public ResponseEntity<ChangeFeedDTO> getChanges(
+            @Parameter(description = "Last sequence number already processed (0 for the start of the feed)") @RequestParam(defaultValue = "0") long since,
+            @Parameter(description = "Page size (capped by cshub.pagination.max-page-size)") @RequestParam(required = false) Integer size) {
+        if (since < 0) {
+            throw new IllegalArgumentException("since must not be negative");
+        }
+        int requested = size != null ? size : defaultPageSize;
+        ChangeFeedDTO feed = changeFeedService.getChanges(since, Math.max(1, Math.min(requested, maxPageSize)));
+        return ResponseEntity.ok(feed);
+    }
+
+    /**
+     * Get the current end of the feed.
+     */
+    @GetMapping("/latest")
+    @Operation(summary = "Get the latest sequence number",
+            description = "Read before a full load, then poll from it; returned as an empty page positioned at the end of the feed")
+    public ResponseEntity<ChangeFeedDTO> getLatest() {
+        long latest = changeFeedService.getLatestSeq();
+        return ResponseEntity.ok(new ChangeFeedDTO(List.of(), latest, false));
+    }
+
+    /**
+     * Stream change notifications as server-sent events.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream change notifications",
+            description = "Server-sent events: \"ready\" with the current tree version, then one \"change\" per committed write. " +
+                    "Clients that fall too far behind are disconnected and should reconnect; 503 when the subscriber limit is reached")
+    public ResponseEntity<SseEmitter> streamChanges() {
+        SseEmitter emitter = changeStreamService.subscribe();
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "30").build();
+        }
+        // Keep reverse proxies from buffering the stream
+        return ResponseEntity.ok().header("X-Accel-Buffering", "no").body(emitter);
+    }
+}
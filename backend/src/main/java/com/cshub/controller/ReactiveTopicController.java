@@ -0,0 +1,134 @@
+package com.cshub.controller;
+
+import com.cshub.dto.CursorPageDTO;
+import com.cshub.dto.TopicDTO;
+import com.cshub.dto.TopicNavDTO;
+import com.cshub.service.ReactiveTopicService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Read-only topic endpoints on WebFlux ("reactive" profile), served from ReactiveTopicService.
+ * Same paths, parameters and JSON as the matching TopicController endpoints, so the frontend
+ * and the load test driver work against either stack unchanged.
+ *
+ * Writes, exports and the search variants backed by in-memory indexes are not served here.
+ */
+@RestController
+@RequestMapping("/api/topics")
+@CrossOrigin(origins = "${cors.allowed-origins}")
+@Profile("reactive")
+@Tag(name = "Topics (reactive)", description = "Non-blocking read API for documentation topics")
+public class ReactiveTopicController {
+
+    private final ReactiveTopicService topicService;
+
+    @Value("${cshub.pagination.default-page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${cshub.pagination.max-page-size:200}")
+    private int maxPageSize;
+
+    public ReactiveTopicController(ReactiveTopicService topicService) {
+        this.topicService = topicService;
+    }
+
+    @GetMapping("/tree")
+    @Operation(summary = "Get topic tree", description = "Returns all topics organized in hierarchical tree structure")
+    public Mono<List<TopicDTO>> getTopicTree() {
+        return topicService.getTopicTree();
+    }
+
+    @GetMapping("/tree/nav")
+    @Operation(summary = "Get navigation tree", description = "Returns the topic hierarchy with navigation fields only")
+    public Mono<List<TopicNavDTO>> getNavigationTree() {
+        return topicService.getNavigationTree();
+    }
+
+    @GetMapping("/roots")
+    @Operation(summary = "Get root topics")
+    public Mono<CursorPageDTO<TopicNavDTO>> getRootTopics(
+            @Parameter(description = "Cursor from the previous page (nextCursor)") @RequestParam(required = false) Long after,
+            @Parameter(description = "Page size (capped by cshub.pagination.max-page-size)") @RequestParam(required = false) Integer size) {
+        return topicService.getRootTopics(after, resolvePageSize(size));
+    }
+
+    @GetMapping("/{id}/children")
+    @Operation(summary = "Get child topics")
+    public Mono<CursorPageDTO<TopicNavDTO>> getChildren(
+            @Parameter(description = "Parent topic ID") @PathVariable Long id,
+            @Parameter(description = "Cursor from the previous page (nextCursor)") @RequestParam(required = false) Long after,
+            @Parameter(description = "Page size (capped by cshub.pagination.max-page-size)") @RequestParam(required = false) Integer size) {
+        return topicService.getChildren(id, after, resolvePageSize(size));
+    }
+
+    @GetMapping
+    @Operation(summary = "Get all topics")
+    public Mono<CursorPageDTO<TopicDTO>> getAllTopics(
+            @Parameter(description = "Cursor from the previous page (nextCursor)") @RequestParam(required = false) Long after,
+            @Parameter(description = "Page size (capped by cshub.pagination.max-page-size)") @RequestParam(required = false) Integer size) {
+        return topicService.getAllTopics(after, resolvePageSize(size));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get topic by ID")
+    public Mono<TopicDTO> getTopicById(
+            @Parameter(description = "Topic ID") @PathVariable Long id,
+            @Parameter(description = "Content format: markdown or html") @RequestParam(defaultValue = "markdown") String format) {
+        return topicService.getTopicById(id, isHtmlFormat(format));
+    }
+
+    @GetMapping("/slug/{slug}")
+    @Operation(summary = "Get topic by slug")
+    public Mono<TopicDTO> getTopicBySlug(
+            @Parameter(description = "Topic slug", example = "dsa-arrays") @PathVariable String slug,
+            @Parameter(description = "Content format: markdown or html") @RequestParam(defaultValue = "markdown") String format) {
+        return topicService.getTopicBySlug(slug, isHtmlFormat(format));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search topics", description = "Search topics by keyword in title or content")
+    public Mono<CursorPageDTO<TopicDTO>> searchTopics(
+            @Parameter(description = "Search keyword") @RequestParam String keyword,
+            @Parameter(description = "Cursor from the previous page (nextCursor)") @RequestParam(required = false) Long after,
+            @Parameter(description = "Page size (capped by cshub.pagination.max-page-size)") @RequestParam(required = false) Integer size) {
+        return topicService.searchTopics(keyword, after, resolvePageSize(size));
+    }
+
+    @GetMapping("/tag/{tagName}")
+    @Operation(summary = "Get topics by tag")
+    public Mono<CursorPageDTO<TopicDTO>> getTopicsByTag(
+            @Parameter(description = "Tag name", example = "Array") @PathVariable String tagName,
+            @Parameter(description = "Cursor from the previous page (nextCursor)") @RequestParam(required = false) Long after,
+            @Parameter(description = "Page size (capped by cshub.pagination.max-page-size)") @RequestParam(required = false) Integer size) {
+        return topicService.getTopicsByTag(tagName, after, resolvePageSize(size));
+    }
+
+    /**
+     * Parse the format parameter of single-topic reads.
+     */
+    private static boolean isHtmlFormat(String format) {
+        if ("html".equalsIgnoreCase(format)) {
+            return true;
+        }
+        if ("markdown".equalsIgnoreCase(format)) {
+            return false;
+        }
+        throw new IllegalArgumentException("format must be 'markdown' or 'html'");
+    }
+
+    /**
+     * Apply the configured default and clamp to [1, max-page-size].
+     */
+    private int resolvePageSize(Integer size) {
+        int requested = size != null ? size : defaultPageSize;
+        return Math.max(1, Math.min(requested, maxPageSize));
+    }
+}
@@ -5,15 +5,18 @@ import com.cshub.service.TagService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
 /**
  * REST Controller for Tag operations.
  */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RestController
 @RequestMapping("/api/tags")
 @CrossOrigin(origins = "${cors.allowed-origins}")
@@ -30,9 +33,23 @@ public class TagController {
      * Get all tags.
      */
     @GetMapping
-    @Operation(summary = "Get all tags")
-    public ResponseEntity<List<TagDTO>> getAllTags() {
+    @Operation(summary = "Get all tags", description = "Supports If-None-Match; returns 304 when the tag set is unchanged")
+    public ResponseEntity<List<TagDTO>> getAllTags(WebRequest webRequest) {
+        String etag = tagService.getTagsETag();
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         List<TagDTO> tags = tagService.getAllTags();
+        return ResponseEntity.ok().eTag(etag).body(tags);
+    }
+
+    /**
+     * Get all tags with how many topics carry each.
+     */
+    @GetMapping("/counts")
+    @Operation(summary = "Get tag counts", description = "Every tag with its topic count, most used first")
+    public ResponseEntity<List<TagDTO>> getTagCounts() {
+        List<TagDTO> tags = tagService.getAllTagsWithCounts();
         return ResponseEntity.ok(tags);
     }
 
@@ -1,15 +1,38 @@
 package com.cshub.controller;
 
+import com.cshub.cache.PrecompressedJson;
+import com.cshub.cache.TopicTreeSnapshot;
+import com.cshub.dto.BreadcrumbDTO;
+import com.cshub.dto.BulkTopicRequest;
+import com.cshub.dto.BulkTopicResultDTO;
+import com.cshub.dto.CacheStatsDTO;
 import com.cshub.dto.CreateTopicRequest;
+import com.cshub.dto.CursorPageDTO;
 import com.cshub.dto.TopicDTO;
+import com.cshub.dto.TopicMatchDTO;
+import com.cshub.dto.TopicNavDTO;
+import com.cshub.dto.TopicSuggestionDTO;
+import com.cshub.service.TopicBulkService;
+import com.cshub.service.TopicExportService;
 import com.cshub.service.TopicService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -17,59 +40,219 @@ import java.util.List;
  * REST Controller for Topic operations.
  * Demonstrates: Proper use of ResponseEntity with HTTP status codes.
  */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RestController
 @RequestMapping("/api/topics")
 @CrossOrigin(origins = "${cors.allowed-origins}")
 @Tag(name = "Topics", description = "API for managing documentation topics")
 public class TopicController {
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final TopicService topicService;
+    private final TopicExportService topicExportService;
+    private final TopicBulkService topicBulkService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${cshub.pagination.default-page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${cshub.pagination.max-page-size:200}")
+    private int maxPageSize;
 
-    public TopicController(TopicService topicService) {
+    public TopicController(TopicService topicService, TopicExportService topicExportService,
+                           TopicBulkService topicBulkService, ObjectMapper objectMapper) {
         this.topicService = topicService;
+        this.topicExportService = topicExportService;
+        this.topicBulkService = topicBulkService;
+        this.objectMapper = objectMapper;
     }
 
     /**
      * Get all topics organized in a tree structure.
      * This is the main endpoint for the sidebar navigation.
+     * The body is written from bytes serialized (and gzipped) once per tree version.
      */
     @GetMapping("/tree")
     @Operation(summary = "Get topic tree", description = "Returns all topics organized in hierarchical tree structure")
-    public ResponseEntity<List<TopicDTO>> getTopicTree() {
-        List<TopicDTO> tree = topicService.getTopicTree();
-        return ResponseEntity.ok(tree);
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = "application/json",
+            array = @ArraySchema(schema = @Schema(implementation = TopicDTO.class))))
+    public ResponseEntity<byte[]> getTopicTree(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+        boolean gzip = PrecompressedJson.acceptsGzip(acceptEncoding);
+        // Answer If-None-Match from the version counter alone, before touching the tree
+        String currentETag = encodedETag(topicService.getTreeETag("tree", topicService.getTreeVersion()), gzip);
+        if (webRequest.checkNotModified(currentETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag).build();
+        }
+        TopicTreeSnapshot<TopicDTO> snapshot = topicService.getTopicTreeSnapshot();
+        String etag = encodedETag(topicService.getTreeETag("tree", snapshot.getVersion()), gzip);
+        return precompressed(snapshot.getEncoded(objectMapper), etag, gzip);
+    }
+
+    /**
+     * Get the topic tree with navigation fields only.
+     * Same shape as /tree, but without content bodies - use this for the sidebar.
+     */
+    @GetMapping("/tree/nav")
+    @Operation(summary = "Get navigation tree",
+               description = "Returns the topic hierarchy with id, title, slug, parentId, displayOrder and tag ids only")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = "application/json",
+            array = @ArraySchema(schema = @Schema(implementation = TopicNavDTO.class))))
+    public ResponseEntity<byte[]> getNavigationTree(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+        boolean gzip = PrecompressedJson.acceptsGzip(acceptEncoding);
+        String currentETag = encodedETag(topicService.getTreeETag("nav", topicService.getTreeVersion()), gzip);
+        if (webRequest.checkNotModified(currentETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag).build();
+        }
+        TopicTreeSnapshot<TopicNavDTO> snapshot = topicService.getNavigationTreeSnapshot();
+        String etag = encodedETag(topicService.getTreeETag("nav", snapshot.getVersion()), gzip);
+        return precompressed(snapshot.getEncoded(objectMapper), etag, gzip);
+    }
+
+    /**
+     * Get root topics (navigation fields only), paginated by cursor.
+     * Starting point for lazy sidebar expansion on very large hierarchies.
+     */
+    @GetMapping("/roots")
+    @Operation(summary = "Get root topics",
+               description = "Returns root topics' navigation fields ordered by displayOrder, one keyset page at a time")
+    public ResponseEntity<CursorPageDTO<TopicNavDTO>> getRootTopics(
+            @Parameter(description = "Cursor from the previous page (nextCursor)") @RequestParam(required = false) Long after,
+            @Parameter(description = "Page size (capped by cshub.pagination.max-page-size)") @RequestParam(required = false) Integer size) {
+        CursorPageDTO<TopicNavDTO> page = topicService.getRootTopics(after, resolvePageSize(size));
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Get the direct children of a topic (navigation fields only), paginated by cursor.
+     * Called when a sidebar node is expanded.
+     */
+    @GetMapping("/{id}/children")
+    @Operation(summary = "Get child topics",
+               description = "Returns the direct children's navigation fields ordered by displayOrder, one keyset page at a time")
+    public ResponseEntity<CursorPageDTO<TopicNavDTO>> getChildren(
+            @Parameter(description = "Parent topic ID") @PathVariable Long id,
+            @Parameter(description = "Cursor from the previous page (nextCursor)") @RequestParam(required = false) Long after,
+            @Parameter(description = "Page size (capped by cshub.pagination.max-page-size)") @RequestParam(required = false) Integer size) {
+        CursorPageDTO<TopicNavDTO> page = topicService.getChildren(id, after, resolvePageSize(size));
+        return ResponseEntity.ok(page);
     }
 
     /**
-     * Get all topics (flat list).
+     * Get a topic and everything under it (navigation fields only).
+     * For section landing pages - one round trip proportional to the subtree, not the whole corpus.
+     */
+    @GetMapping("/{id}/subtree")
+    @Operation(summary = "Get topic subtree",
+               description = "Returns the topic and its descendants as a nested tree, down to the given depth (0 = topic only)")
+    public ResponseEntity<TopicNavDTO> getSubtree(
+            @Parameter(description = "Subtree root topic ID") @PathVariable Long id,
+            @Parameter(description = "Maximum levels below the root (capped at 32)") @RequestParam(required = false) Integer depth) {
+        TopicNavDTO subtree = topicService.getSubtree(id, depth);
+        return ResponseEntity.ok(subtree);
+    }
+
+    /**
+     * Get the ancestor chain of a topic (navigation fields only), root first.
+     */
+    @GetMapping("/{id}/ancestors")
+    @Operation(summary = "Get topic ancestors",
+               description = "Returns every ancestor of the topic from the root down, resolved from its materialized path")
+    public ResponseEntity<List<TopicNavDTO>> getAncestors(
+            @Parameter(description = "Topic ID") @PathVariable Long id) {
+        List<TopicNavDTO> ancestors = topicService.getAncestors(id);
+        return ResponseEntity.ok(ancestors);
+    }
+
+    /**
+     * Get all topics (flat list), paginated by cursor.
      */
     @GetMapping
-    @Operation(summary = "Get all topics", description = "Returns all topics as a flat list")
-    public ResponseEntity<List<TopicDTO>> getAllTopics() {
-        List<TopicDTO> topics = topicService.getAllTopics();
-        return ResponseEntity.ok(topics);
+    @Operation(summary = "Get all topics", description = "Returns topics as a flat list, one keyset page at a time")
+    public ResponseEntity<CursorPageDTO<TopicDTO>> getAllTopics(
+            @Parameter(description = "Cursor from the previous page (nextCursor)") @RequestParam(required = false) Long after,
+            @Parameter(description = "Page size (capped by cshub.pagination.max-page-size)") @RequestParam(required = false) Integer size) {
+        CursorPageDTO<TopicDTO> page = topicService.getAllTopics(after, resolvePageSize(size));
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Stream every topic (for export and indexing consumers).
+     * Send "Accept: application/x-ndjson" for one JSON object per line; otherwise a JSON array is streamed.
+     */
+    @GetMapping(params = "stream=true")
+    @Operation(summary = "Stream all topics",
+               description = "Streams every topic without buffering the result; NDJSON or JSON array depending on Accept")
+    public ResponseEntity<StreamingResponseBody> streamAllTopics(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        boolean ndjson = accept != null && accept.contains(APPLICATION_NDJSON.toString());
+        StreamingResponseBody body = out -> topicExportService.exportTopics(out, ndjson);
+        return ResponseEntity.ok()
+                .contentType(ndjson ? APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(body);
     }
 
     /**
      * Get a single topic by ID.
      */
     @GetMapping("/{id}")
-    @Operation(summary = "Get topic by ID")
+    @Operation(summary = "Get topic by ID", description = "format=html returns pre-rendered HTML and a table of contents instead of markdown")
     public ResponseEntity<TopicDTO> getTopicById(
-            @Parameter(description = "Topic ID") @PathVariable Long id) {
-        TopicDTO topic = topicService.getTopicById(id);
-        return ResponseEntity.ok(topic);
+            @Parameter(description = "Topic ID") @PathVariable Long id,
+            @Parameter(description = "Content format: markdown or html") @RequestParam(defaultValue = "markdown") String format,
+            WebRequest webRequest) {
+        boolean html = isHtmlFormat(format);
+        TopicDTO topic = topicService.getTopicById(id, html);
+        String etag = topicService.getTopicETag(topic, html);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(topic);
     }
 
     /**
      * Get a topic by slug (for pretty URLs).
      */
     @GetMapping("/slug/{slug}")
-    @Operation(summary = "Get topic by slug", description = "Retrieve topic using URL-friendly slug")
+    @Operation(summary = "Get topic by slug",
+               description = "Retrieve topic using URL-friendly slug; format=html returns pre-rendered HTML and a table of contents instead of markdown")
     public ResponseEntity<TopicDTO> getTopicBySlug(
+            @Parameter(description = "Topic slug", example = "dsa-arrays") @PathVariable String slug,
+            @Parameter(description = "Content format: markdown or html") @RequestParam(defaultValue = "markdown") String format,
+            WebRequest webRequest) {
+        boolean html = isHtmlFormat(format);
+        TopicDTO topic = topicService.getTopicBySlug(slug, html);
+        String etag = topicService.getTopicETag(topic, html);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(topic);
+    }
+
+    /**
+     * Statistics of the single-topic read cache behind /{id} and /slug/{slug}.
+     */
+    @GetMapping("/cache/stats")
+    @Operation(summary = "Topic cache statistics", description = "Hits, misses, evictions and current weight of the topic read cache")
+    public ResponseEntity<CacheStatsDTO> getTopicCacheStats() {
+        CacheStatsDTO stats = topicService.getTopicCacheStats();
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * Get the breadcrumb trail for a topic page (root first, ending with the topic itself).
+     */
+    @GetMapping("/slug/{slug}/breadcrumbs")
+    @Operation(summary = "Get topic breadcrumbs",
+               description = "Returns id, title and slug for each ancestor and the topic itself, served from memory")
+    public ResponseEntity<List<BreadcrumbDTO>> getBreadcrumbs(
             @Parameter(description = "Topic slug", example = "dsa-arrays") @PathVariable String slug) {
-        TopicDTO topic = topicService.getTopicBySlug(slug);
-        return ResponseEntity.ok(topic);
+        List<BreadcrumbDTO> breadcrumbs = topicService.getBreadcrumbs(slug);
+        return ResponseEntity.ok(breadcrumbs);
     }
 
     /**
@@ -77,22 +260,84 @@ public class TopicController {
      * Used by the search bar feature.
      */
     @GetMapping("/search")
-    @Operation(summary = "Search topics", description = "Search topics by keyword in title or content")
-    public ResponseEntity<List<TopicDTO>> searchTopics(
-            @Parameter(description = "Search keyword") @RequestParam String keyword) {
-        List<TopicDTO> topics = topicService.searchTopics(keyword);
+    @Operation(summary = "Search topics", description = "Search topics by keyword in title or content; facets=true adds tag counts over all matches")
+    public ResponseEntity<CursorPageDTO<TopicDTO>> searchTopics(
+            @Parameter(description = "Search keyword") @RequestParam String keyword,
+            @Parameter(description = "Cursor from the previous page (nextCursor)") @RequestParam(required = false) Long after,
+            @Parameter(description = "Page size (capped by cshub.pagination.max-page-size)") @RequestParam(required = false) Integer size,
+            @Parameter(description = "Include per-tag counts over all matches") @RequestParam(defaultValue = "false") boolean facets) {
+        CursorPageDTO<TopicDTO> page = topicService.searchTopics(keyword, after, resolvePageSize(size), facets);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Autocomplete suggestions for the search bar.
+     * Cheap enough to call on every keystroke - answered from memory, no content in the payload.
+     */
+    @GetMapping("/suggest")
+    @Operation(summary = "Suggest topics",
+               description = "Prefix completions over titles, slugs and tag names; returns id, title and slug only")
+    public ResponseEntity<List<TopicSuggestionDTO>> suggestTopics(
+            @Parameter(description = "Prefix typed so far", example = "bin") @RequestParam String prefix,
+            @Parameter(description = "Maximum number of suggestions (1-20)") @RequestParam(defaultValue = "8") int limit) {
+        List<TopicSuggestionDTO> suggestions = topicService.suggestTopics(prefix, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+
+    /**
+     * Search topics with database full-text search, ordered by relevance.
+     */
+    @GetMapping("/search/ranked")
+    @Operation(summary = "Ranked full-text search",
+               description = "PostgreSQL full-text search over title and content, best matches first")
+    public ResponseEntity<List<TopicDTO>> searchTopicsRanked(
+            @Parameter(description = "Search query") @RequestParam String keyword,
+            @Parameter(description = "Maximum number of results (1-100)") @RequestParam(defaultValue = "20") int limit) {
+        List<TopicDTO> topics = topicService.searchTopicsRanked(keyword, limit);
         return ResponseEntity.ok(topics);
     }
 
+    /**
+     * Typo-tolerant search on titles and slugs.
+     */
+    @GetMapping("/search/fuzzy")
+    @Operation(summary = "Fuzzy search",
+               description = "Trigram similarity search on title and slug, returns the closest matches with a score")
+    public ResponseEntity<List<TopicMatchDTO>> searchTopicsFuzzy(
+            @Parameter(description = "Search query", example = "hashmpa") @RequestParam String keyword,
+            @Parameter(description = "Maximum number of results (1-100)") @RequestParam(defaultValue = "10") int limit) {
+        List<TopicMatchDTO> matches = topicService.searchTopicsFuzzy(keyword, limit);
+        return ResponseEntity.ok(matches);
+    }
+
+    /**
+     * Filter topics by a tag expression, e.g. all=Graph,Algorithm&none=Advanced.
+     */
+    @GetMapping("/filter")
+    @Operation(summary = "Filter topics by tags",
+               description = "Topics having every tag in 'all', at least one in 'any' and none in 'none'; navigation fields, keyset-paginated; facets=true adds tag counts over all matches")
+    public ResponseEntity<CursorPageDTO<TopicNavDTO>> filterTopics(
+            @Parameter(description = "Tags that must all be present", example = "Graph,Algorithm") @RequestParam(required = false) List<String> all,
+            @Parameter(description = "Tags of which at least one must be present") @RequestParam(required = false) List<String> any,
+            @Parameter(description = "Tags that must not be present", example = "Advanced") @RequestParam(required = false) List<String> none,
+            @Parameter(description = "Cursor from the previous page (nextCursor)") @RequestParam(required = false) Long after,
+            @Parameter(description = "Page size (capped by cshub.pagination.max-page-size)") @RequestParam(required = false) Integer size,
+            @Parameter(description = "Include per-tag counts over all matches") @RequestParam(defaultValue = "false") boolean facets) {
+        CursorPageDTO<TopicNavDTO> page = topicService.filterTopicsByTags(all, any, none, after, resolvePageSize(size), facets);
+        return ResponseEntity.ok(page);
+    }
+
     /**
      * Get topics by tag name.
      */
     @GetMapping("/tag/{tagName}")
     @Operation(summary = "Get topics by tag")
-    public ResponseEntity<List<TopicDTO>> getTopicsByTag(
-            @Parameter(description = "Tag name", example = "Array") @PathVariable String tagName) {
-        List<TopicDTO> topics = topicService.getTopicsByTag(tagName);
-        return ResponseEntity.ok(topics);
+    public ResponseEntity<CursorPageDTO<TopicDTO>> getTopicsByTag(
+            @Parameter(description = "Tag name", example = "Array") @PathVariable String tagName,
+            @Parameter(description = "Cursor from the previous page (nextCursor)") @RequestParam(required = false) Long after,
+            @Parameter(description = "Page size (capped by cshub.pagination.max-page-size)") @RequestParam(required = false) Integer size) {
+        CursorPageDTO<TopicDTO> page = topicService.getTopicsByTag(tagName, after, resolvePageSize(size));
+        return ResponseEntity.ok(page);
     }
 
     /**
@@ -105,6 +350,18 @@ public class TopicController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdTopic);
     }
 
+    /**
+     * Create or update many topics in one transaction (content migrations).
+     * Topics are matched by slug; parents may reference other topics in the batch via parentSlug.
+     */
+    @PostMapping("/bulk")
+    @Operation(summary = "Bulk create/update topics",
+               description = "Upserts up to cshub.bulk.max-topics topics by slug, all or nothing, using batched inserts")
+    public ResponseEntity<BulkTopicResultDTO> bulkUpsertTopics(@Valid @RequestBody BulkTopicRequest request) {
+        BulkTopicResultDTO result = topicBulkService.upsertTopics(request.getTopics());
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * Update an existing topic.
      */
@@ -127,5 +384,47 @@ public class TopicController {
         topicService.deleteTopic(id);
         return ResponseEntity.noContent().build();
     }
-}
 
+    /**
+     * Write a pre-serialized body as-is, picking the gzip variant when the client accepts it.
+     * Vary tells shared caches that the bytes depend on Accept-Encoding.
+     */
+    private static ResponseEntity<byte[]> precompressed(PrecompressedJson body, String etag, boolean gzip) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.getGzip());
+        }
+        return response.body(body.getIdentity());
+    }
+
+    /**
+     * Strong ETags must differ between content codings, so the gzip variant gets its own.
+     */
+    private static String encodedETag(String etag, boolean gzip) {
+        return gzip ? etag.substring(0, etag.length() - 1) + "-gzip\"" : etag;
+    }
+
+    /**
+     * Parse the format parameter of single-topic reads.
+     */
+    private static boolean isHtmlFormat(String format) {
+        if ("html".equalsIgnoreCase(format)) {
+            return true;
+        }
+        if ("markdown".equalsIgnoreCase(format)) {
+            return false;
+        }
+        throw new IllegalArgumentException("format must be 'markdown' or 'html'");
+    }
+
+    /**
+     * Apply the configured default and clamp to [1, max-page-size].
+     */
+    private int resolvePageSize(Integer size) {
+        int requested = size != null ? size : defaultPageSize;
+        return Math.max(1, Math.min(requested, maxPageSize));
+    }
+}
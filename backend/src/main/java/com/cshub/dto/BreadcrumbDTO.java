@@ -0,0 +1,45 @@
+package com.cshub.dto;
+
+/**
+ * One step of a topic's breadcrumb trail.
+ */
+public class BreadcrumbDTO {
+    private Long id;
+    private String title;
+    private String slug;
+
+    // Constructors
+    public BreadcrumbDTO() {
+    }
+
+    public BreadcrumbDTO(Long id, String title, String slug) {
+        this.id = id;
+        this.title = title;
+        this.slug = slug;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getSlug() {
+        return slug;
+    }
+
+    public void setSlug(String slug) {
+        this.slug = slug;
+    }
+}
@@ -0,0 +1,25 @@
+package com.cshub.dto;
+
+/**
+ * One topic in a bulk import.
+ * Same fields as CreateTopicRequest; the parent can also be given by slug (parentSlug),
+ * which may refer to another topic in the same batch.
+ * A topic whose slug already exists is updated, otherwise it is created.
+ */
+public class BulkTopicItem extends CreateTopicRequest {
+
+    private String parentSlug;
+
+    // Constructors
+    public BulkTopicItem() {
+    }
+
+    // Getters and Setters
+    public String getParentSlug() {
+        return parentSlug;
+    }
+
+    public void setParentSlug(String parentSlug) {
+        this.parentSlug = parentSlug;
+    }
+}
@@ -0,0 +1,32 @@
+package com.cshub.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+/**
+ * Request DTO for bulk topic create/update.
+ */
+public class BulkTopicRequest {
+
+    @NotEmpty(message = "At least one topic is required")
+    @Valid
+    private List<BulkTopicItem> topics;
+
+    // Constructors
+    public BulkTopicRequest() {
+    }
+
+    public BulkTopicRequest(List<BulkTopicItem> topics) {
+        this.topics = topics;
+    }
+
+    // Getters and Setters
+    public List<BulkTopicItem> getTopics() {
+        return topics;
+    }
+
+    public void setTopics(List<BulkTopicItem> topics) {
+        this.topics = topics;
+    }
+}
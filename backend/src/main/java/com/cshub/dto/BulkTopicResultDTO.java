@@ -0,0 +1,60 @@
+package com.cshub.dto;
+
+import java.util.List;
+
+/**
+ * Result of a bulk topic import.
+ */
+public class BulkTopicResultDTO {
+    private int created;
+    private int updated;
+    private List<Long> ids;
+    private long elapsedMillis;
+
+    // Constructors
+    public BulkTopicResultDTO() {
+    }
+
+    public BulkTopicResultDTO(int created, int updated, List<Long> ids, long elapsedMillis) {
+        this.created = created;
+        this.updated = updated;
+        this.ids = ids;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    // Getters and Setters
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+
+    /**
+     * Topic ids in request order.
+     */
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+}
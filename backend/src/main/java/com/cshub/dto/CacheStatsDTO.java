@@ -0,0 +1,86 @@
+package com.cshub.dto;
+
+/**
+ * DTO for cache statistics.
+ * Counters are cumulative since startup; weight is in content characters plus per-entry overhead.
+ */
+public class CacheStatsDTO {
+    private long hits;
+    private long misses;
+    private long evictions;
+    private double hitRate;
+    private int entries;
+    private long weight;
+    private long maxWeight;
+
+    // Constructors
+    public CacheStatsDTO() {
+    }
+
+    public CacheStatsDTO(long hits, long misses, long evictions, int entries, long weight, long maxWeight) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.hitRate = hits + misses > 0 ? (double) hits / (hits + misses) : 0.0;
+        this.entries = entries;
+        this.weight = weight;
+        this.maxWeight = maxWeight;
+    }
+
+    // Getters and Setters
+    public long getHits() {
+        return hits;
+    }
+
+    public void setHits(long hits) {
+        this.hits = hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public void setMisses(long misses) {
+        this.misses = misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public void setEvictions(long evictions) {
+        this.evictions = evictions;
+    }
+
+    public double getHitRate() {
+        return hitRate;
+    }
+
+    public void setHitRate(double hitRate) {
+        this.hitRate = hitRate;
+    }
+
+    public int getEntries() {
+        return entries;
+    }
+
+    public void setEntries(int entries) {
+        this.entries = entries;
+    }
+
+    public long getWeight() {
+        return weight;
+    }
+
+    public void setWeight(long weight) {
+        this.weight = weight;
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public void setMaxWeight(long maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+}
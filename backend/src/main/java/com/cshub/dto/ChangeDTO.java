@@ -0,0 +1,68 @@
+package com.cshub.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one change feed record.
+ * Deliberately compact: consumers re-fetch created/updated entities by id and drop deleted ones.
+ */
+public class ChangeDTO {
+    private Long seq;
+    private String entityType;
+    private Long entityId;
+    private String operation;
+    private LocalDateTime changedAt;
+
+    // Constructors
+    public ChangeDTO() {
+    }
+
+    public ChangeDTO(Long seq, String entityType, Long entityId, String operation, LocalDateTime changedAt) {
+        this.seq = seq;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.operation = operation;
+        this.changedAt = changedAt;
+    }
+
+    // Getters and Setters
+    public Long getSeq() {
+        return seq;
+    }
+
+    public void setSeq(Long seq) {
+        this.seq = seq;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(String entityType) {
+        this.entityType = entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+}
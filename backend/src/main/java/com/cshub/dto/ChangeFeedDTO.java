@@ -0,0 +1,49 @@
+package com.cshub.dto;
+
+import java.util.List;
+
+/**
+ * One page of the change feed.
+ * nextSince is always set: the seq of the last change returned, or the requested position when
+ * nothing new has happened, so a consumer can store it and poll with it unconditionally.
+ */
+public class ChangeFeedDTO {
+    private List<ChangeDTO> changes;
+    private long nextSince;
+    private boolean hasMore;
+
+    // Constructors
+    public ChangeFeedDTO() {
+    }
+
+    public ChangeFeedDTO(List<ChangeDTO> changes, long nextSince, boolean hasMore) {
+        this.changes = changes;
+        this.nextSince = nextSince;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and Setters
+    public List<ChangeDTO> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<ChangeDTO> changes) {
+        this.changes = changes;
+    }
+
+    public long getNextSince() {
+        return nextSince;
+    }
+
+    public void setNextSince(long nextSince) {
+        this.nextSince = nextSince;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
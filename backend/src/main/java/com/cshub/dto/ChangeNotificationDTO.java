@@ -0,0 +1,70 @@
+package com.cshub.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * DTO for one change pushed over the server-sent event stream.
+ * Only identifies what changed; clients compare treeVersion with the tree they hold and re-fetch if needed.
+ * topicId and slug are absent for bulk imports and tag changes, tagId for topic changes.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChangeNotificationDTO {
+    private String kind;
+    private Long topicId;
+    private String slug;
+    private Long tagId;
+    private long treeVersion;
+
+    // Constructors
+    public ChangeNotificationDTO() {
+    }
+
+    public ChangeNotificationDTO(String kind, Long topicId, String slug, Long tagId, long treeVersion) {
+        this.kind = kind;
+        this.topicId = topicId;
+        this.slug = slug;
+        this.tagId = tagId;
+        this.treeVersion = treeVersion;
+    }
+
+    // Getters and Setters
+    public String getKind() {
+        return kind;
+    }
+
+    public void setKind(String kind) {
+        this.kind = kind;
+    }
+
+    public Long getTopicId() {
+        return topicId;
+    }
+
+    public void setTopicId(Long topicId) {
+        this.topicId = topicId;
+    }
+
+    public String getSlug() {
+        return slug;
+    }
+
+    public void setSlug(String slug) {
+        this.slug = slug;
+    }
+
+    public Long getTagId() {
+        return tagId;
+    }
+
+    public void setTagId(Long tagId) {
+        this.tagId = tagId;
+    }
+
+    public long getTreeVersion() {
+        return treeVersion;
+    }
+
+    public void setTreeVersion(long treeVersion) {
+        this.treeVersion = treeVersion;
+    }
+}
@@ -0,0 +1,67 @@
+package com.cshub.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing.
+ * Pass nextCursor back as the "after" parameter to get the following page; null means this is the last page.
+ * facets (tag counts over the whole result, not just this page) is only present when requested.
+ *
+ * @param <T> item type
+ */
+public class CursorPageDTO<T> {
+    private List<T> items;
+    private Long nextCursor;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<TagDTO> facets;
+
+    // Constructors
+    public CursorPageDTO() {
+    }
+
+    public CursorPageDTO(List<T> items, Long nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Build a page from a result that was fetched with limit size + 1.
+     * The extra row only tells us whether another page exists; it is not returned.
+     */
+    public static <T> CursorPageDTO<T> of(List<T> fetched, int size, Function<T, Long> cursorOf) {
+        if (fetched.size() <= size) {
+            return new CursorPageDTO<>(fetched, null);
+        }
+        List<T> page = fetched.subList(0, size);
+        return new CursorPageDTO<>(page, cursorOf.apply(page.get(size - 1)));
+    }
+
+    // Getters and Setters
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(Long nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public List<TagDTO> getFacets() {
+        return facets;
+    }
+
+    public void setFacets(List<TagDTO> facets) {
+        this.facets = facets;
+    }
+}
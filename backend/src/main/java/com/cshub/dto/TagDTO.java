@@ -1,13 +1,19 @@
 package com.cshub.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 /**
  * DTO for Tag responses.
+ * topicCount is only filled in for facet and count listings and omitted from the JSON otherwise.
  */
 public class TagDTO {
     private Long id;
     private String name;
     private String color;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long topicCount;
+
     // Constructors
     public TagDTO() {
     }
@@ -18,6 +24,11 @@ public class TagDTO {
         this.color = color;
     }
 
+    public TagDTO(Long id, String name, String color, Long topicCount) {
+        this(id, name, color);
+        this.topicCount = topicCount;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -42,5 +53,12 @@ public class TagDTO {
     public void setColor(String color) {
         this.color = color;
     }
-}
 
+    public Long getTopicCount() {
+        return topicCount;
+    }
+
+    public void setTopicCount(Long topicCount) {
+        this.topicCount = topicCount;
+    }
+}
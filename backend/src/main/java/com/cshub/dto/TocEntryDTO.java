@@ -0,0 +1,45 @@
+package com.cshub.dto;
+
+/**
+ * DTO for one table-of-contents entry; anchor is the id of the heading in contentHtml.
+ */
+public class TocEntryDTO {
+    private int level;
+    private String text;
+    private String anchor;
+
+    // Constructors
+    public TocEntryDTO() {
+    }
+
+    public TocEntryDTO(int level, String text, String anchor) {
+        this.level = level;
+        this.text = text;
+        this.anchor = anchor;
+    }
+
+    // Getters and Setters
+    public int getLevel() {
+        return level;
+    }
+
+    public void setLevel(int level) {
+        this.level = level;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+
+    public String getAnchor() {
+        return anchor;
+    }
+
+    public void setAnchor(String anchor) {
+        this.anchor = anchor;
+    }
+}
@@ -1,5 +1,8 @@
 package com.cshub.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -7,12 +10,21 @@ import java.util.List;
 /**
  * DTO for Topic responses.
  * Demonstrates OOP principle: Separation of concerns - don't expose entities directly.
+ * contentHtml and toc are only filled in for single-topic reads with format=html.
+ * version is the topic row's optimistic-locking version; it feeds the ETag and is not serialized.
  */
 public class TopicDTO {
     private Long id;
     private String title;
     private String slug;
     private String content;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String contentHtml;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<TocEntryDTO> toc;
+
     private Long parentId;
     private Integer displayOrder;
     private List<TopicDTO> children = new ArrayList<>();
@@ -20,6 +32,9 @@ public class TopicDTO {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    @JsonIgnore
+    private Long version;
+
     // Constructors
     public TopicDTO() {
     }
@@ -63,6 +78,22 @@ public class TopicDTO {
         this.content = content;
     }
 
+    public String getContentHtml() {
+        return contentHtml;
+    }
+
+    public void setContentHtml(String contentHtml) {
+        this.contentHtml = contentHtml;
+    }
+
+    public List<TocEntryDTO> getToc() {
+        return toc;
+    }
+
+    public void setToc(List<TocEntryDTO> toc) {
+        this.toc = toc;
+    }
+
     public Long getParentId() {
         return parentId;
     }
@@ -110,5 +141,12 @@ public class TopicDTO {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
-}
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
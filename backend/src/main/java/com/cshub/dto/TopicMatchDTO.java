@@ -0,0 +1,56 @@
+package com.cshub.dto;
+
+/**
+ * DTO for fuzzy search results.
+ * Only what the search dropdown needs, plus the trigram similarity score (0.0 - 1.0).
+ */
+public class TopicMatchDTO {
+    private Long id;
+    private String title;
+    private String slug;
+    private Double score;
+
+    // Constructors
+    public TopicMatchDTO() {
+    }
+
+    public TopicMatchDTO(Long id, String title, String slug, Double score) {
+        this.id = id;
+        this.title = title;
+        this.slug = slug;
+        this.score = score;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getSlug() {
+        return slug;
+    }
+
+    public void setSlug(String slug) {
+        this.slug = slug;
+    }
+
+    public Double getScore() {
+        return score;
+    }
+
+    public void setScore(Double score) {
+        this.score = score;
+    }
+}
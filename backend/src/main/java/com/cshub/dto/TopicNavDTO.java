@@ -0,0 +1,88 @@
+package com.cshub.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lightweight DTO for sidebar navigation.
+ * Carries only what the tree needs to render - never the content body.
+ * Populated directly by a JPQL constructor expression in TopicRepository.
+ */
+public class TopicNavDTO {
+    private Long id;
+    private String title;
+    private String slug;
+    private Long parentId;
+    private Integer displayOrder;
+    private List<Long> tagIds = new ArrayList<>();
+    private List<TopicNavDTO> children = new ArrayList<>();
+
+    // Constructors
+    public TopicNavDTO() {
+    }
+
+    public TopicNavDTO(Long id, String title, String slug, Long parentId, Integer displayOrder) {
+        this.id = id;
+        this.title = title;
+        this.slug = slug;
+        this.parentId = parentId;
+        this.displayOrder = displayOrder;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getSlug() {
+        return slug;
+    }
+
+    public void setSlug(String slug) {
+        this.slug = slug;
+    }
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+    }
+
+    public Integer getDisplayOrder() {
+        return displayOrder;
+    }
+
+    public void setDisplayOrder(Integer displayOrder) {
+        this.displayOrder = displayOrder;
+    }
+
+    public List<Long> getTagIds() {
+        return tagIds;
+    }
+
+    public void setTagIds(List<Long> tagIds) {
+        this.tagIds = tagIds;
+    }
+
+    public List<TopicNavDTO> getChildren() {
+        return children;
+    }
+
+    public void setChildren(List<TopicNavDTO> children) {
+        this.children = children;
+    }
+}
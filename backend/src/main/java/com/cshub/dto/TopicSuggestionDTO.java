@@ -0,0 +1,46 @@
+package com.cshub.dto;
+
+/**
+ * DTO for autocomplete suggestions.
+ * Just enough to render a dropdown entry and navigate to the topic.
+ */
+public class TopicSuggestionDTO {
+    private Long id;
+    private String title;
+    private String slug;
+
+    // Constructors
+    public TopicSuggestionDTO() {
+    }
+
+    public TopicSuggestionDTO(Long id, String title, String slug) {
+        this.id = id;
+        this.title = title;
+        this.slug = slug;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getSlug() {
+        return slug;
+    }
+
+    public void setSlug(String slug) {
+        this.slug = slug;
+    }
+}
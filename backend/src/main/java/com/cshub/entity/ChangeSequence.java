@@ -0,0 +1,47 @@
+package com.cshub.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Single-row counter handing out change feed sequence numbers.
+ * Demonstrates DBMS concept: a row lock (SELECT ... FOR UPDATE) held until commit serializes
+ * writers, so sequence numbers become visible in the order they were assigned.
+ */
+@Entity
+@Table(name = "change_sequence")
+public class ChangeSequence {
+
+    public static final int SINGLETON_ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(name = "last_seq", nullable = false)
+    private long lastSeq;
+
+    // Constructors
+    public ChangeSequence() {
+    }
+
+    public ChangeSequence(Integer id, long lastSeq) {
+        this.id = id;
+        this.lastSeq = lastSeq;
+    }
+
+    // Getters and Setters
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public long getLastSeq() {
+        return lastSeq;
+    }
+
+    public void setLastSeq(long lastSeq) {
+        this.lastSeq = lastSeq;
+    }
+}
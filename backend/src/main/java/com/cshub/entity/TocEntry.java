@@ -0,0 +1,50 @@
+package com.cshub.entity;
+
+import java.io.Serializable;
+
+/**
+ * One heading of a topic's table of contents, stored in the topic's toc JSON column.
+ */
+public class TocEntry implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private int level;
+    private String text;
+    private String anchor;
+
+    // Constructors
+    public TocEntry() {
+    }
+
+    public TocEntry(int level, String text, String anchor) {
+        this.level = level;
+        this.text = text;
+        this.anchor = anchor;
+    }
+
+    // Getters and Setters
+    public int getLevel() {
+        return level;
+    }
+
+    public void setLevel(int level) {
+        this.level = level;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+
+    public String getAnchor() {
+        return anchor;
+    }
+
+    public void setAnchor(String anchor) {
+        this.anchor = anchor;
+    }
+}
@@ -2,6 +2,9 @@ package com.cshub.entity;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -17,7 +20,8 @@ import java.util.Set;
 public class Topic {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "topic_id_seq")
+    @SequenceGenerator(name = "topic_id_seq", sequenceName = "topic_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Title is required")
@@ -31,6 +35,14 @@ public class Topic {
     @Column(columnDefinition = "TEXT")
     private String content;
 
+    // content rendered to sanitized HTML at write time, with its table of contents
+    @Column(name = "content_html", columnDefinition = "TEXT")
+    private String contentHtml;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "toc")
+    private List<TocEntry> toc;
+
     // Self-referencing relationship - This is the TREE structure
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parent_id")
@@ -49,9 +61,18 @@ public class Topic {
     )
     private Set<Tag> tags = new HashSet<>();
 
-    @Column(name = "display_order")
+    @Column(name = "display_order", nullable = false)
     private Integer displayOrder = 0;
 
+    // Materialized path: ids from the root down to this topic, e.g. "/1/7/42/"
+    @Column(length = 1024)
+    private String path;
+
+    // Optimistic locking - bumped on every update, also serves as the HTTP ETag
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -73,6 +94,10 @@ public class Topic {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        // The sequence id is assigned before this callback, so the path goes into the INSERT itself
+        if (path == null) {
+            path = childPath(parent, id);
+        }
     }
 
     @PreUpdate
@@ -80,6 +105,14 @@ public class Topic {
         updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Materialized path of a topic placed under the given parent (null for a root).
+     */
+    public static String childPath(Topic parent, Long id) {
+        String parentPath = parent != null ? parent.getPath() : "/";
+        return parentPath + id + "/";
+    }
+
     // Helper methods for tree operations
     public void addChild(Topic child) {
         children.add(child);
@@ -142,6 +175,22 @@ public class Topic {
         this.content = content;
     }
 
+    public String getContentHtml() {
+        return contentHtml;
+    }
+
+    public void setContentHtml(String contentHtml) {
+        this.contentHtml = contentHtml;
+    }
+
+    public List<TocEntry> getToc() {
+        return toc;
+    }
+
+    public void setToc(List<TocEntry> toc) {
+        this.toc = toc;
+    }
+
     public Topic getParent() {
         return parent;
     }
@@ -174,6 +223,22 @@ public class Topic {
         this.displayOrder = displayOrder;
     }
 
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
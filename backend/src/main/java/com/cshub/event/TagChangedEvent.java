@@ -0,0 +1,43 @@
+package com.cshub.event;
+
+/**
+ * Application event published by TagService whenever a tag is written.
+ * Topic DTOs embed their tags, so topic-level caches must react to these as well.
+ */
+public class TagChangedEvent {
+
+    public enum Type {
+        CREATED, DELETED
+    }
+
+    private final Type type;
+    private final Long tagId;
+    private final String name;
+
+    public TagChangedEvent(Type type, Long tagId, String name) {
+        this.type = type;
+        this.tagId = tagId;
+        this.name = name;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getTagId() {
+        return tagId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return "TagChangedEvent{" +
+                "type=" + type +
+                ", tagId=" + tagId +
+                ", name='" + name + '\'' +
+                '}';
+    }
+}
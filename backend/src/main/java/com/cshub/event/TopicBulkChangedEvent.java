@@ -0,0 +1,63 @@
+package com.cshub.event;
+
+import com.cshub.dto.TopicDTO;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Application event published once per committed bulk import.
+ * A bulk write can touch thousands of topics, so instead of one TopicChangedEvent per row
+ * (and one index patch or tree rebuild per row) listeners get a single event and patch once.
+ * The event carries the written topics, so no listener has to reload the corpus to see them.
+ */
+public class TopicBulkChangedEvent {
+
+    private final List<TopicDTO> topics;
+    private final List<Long> topicIds;
+    private final Set<Long> createdTopicIds;
+
+    public TopicBulkChangedEvent(List<TopicDTO> topics, Collection<Long> createdTopicIds) {
+        this.topics = List.copyOf(topics);
+        this.topicIds = this.topics.stream().map(TopicDTO::getId).toList();
+        this.createdTopicIds = Set.copyOf(createdTopicIds);
+    }
+
+    /**
+     * Every created or updated topic as committed (with tags, without children), in request order.
+     */
+    public List<TopicDTO> getTopics() {
+        return topics;
+    }
+
+    /**
+     * Ids of every created or updated topic, in request order.
+     */
+    public List<Long> getTopicIds() {
+        return topicIds;
+    }
+
+    /**
+     * Ids of the topics the import created; every other id in getTopicIds() was updated.
+     */
+    public Set<Long> getCreatedTopicIds() {
+        return createdTopicIds;
+    }
+
+    public int getCreated() {
+        return createdTopicIds.size();
+    }
+
+    public int getUpdated() {
+        return topicIds.size() - createdTopicIds.size();
+    }
+
+    @Override
+    public String toString() {
+        return "TopicBulkChangedEvent{" +
+                "created=" + getCreated() +
+                ", updated=" + getUpdated() +
+                '}';
+    }
+}
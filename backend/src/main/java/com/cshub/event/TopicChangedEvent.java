@@ -0,0 +1,82 @@
+package com.cshub.event;
+
+import com.cshub.dto.TopicDTO;
+
+import java.util.List;
+
+/**
+ * Application event published by TopicService whenever a topic is written.
+ * Listeners use @TransactionalEventListener so they only react to committed changes.
+ *
+ * Created/updated events carry the mapped DTO so in-memory indexes can update without
+ * going back to the database. Deleted events carry the ids of the whole removed subtree,
+ * because children are removed by cascade.
+ */
+public class TopicChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Type type;
+    private final Long topicId;
+    private final String slug;
+    private final TopicDTO topic;
+    private final List<Long> removedTopicIds;
+
+    public TopicChangedEvent(Type type, Long topicId, String slug, TopicDTO topic, List<Long> removedTopicIds) {
+        this.type = type;
+        this.topicId = topicId;
+        this.slug = slug;
+        this.topic = topic;
+        this.removedTopicIds = removedTopicIds != null ? List.copyOf(removedTopicIds) : List.of();
+    }
+
+    public static TopicChangedEvent created(TopicDTO topic) {
+        return new TopicChangedEvent(Type.CREATED, topic.getId(), topic.getSlug(), topic, null);
+    }
+
+    public static TopicChangedEvent updated(TopicDTO topic) {
+        return new TopicChangedEvent(Type.UPDATED, topic.getId(), topic.getSlug(), topic, null);
+    }
+
+    public static TopicChangedEvent deleted(Long topicId, String slug, List<Long> removedTopicIds) {
+        return new TopicChangedEvent(Type.DELETED, topicId, slug, null, removedTopicIds);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getTopicId() {
+        return topicId;
+    }
+
+    public String getSlug() {
+        return slug;
+    }
+
+    /**
+     * The topic as committed, or null for deletes.
+     */
+    public TopicDTO getTopic() {
+        return topic;
+    }
+
+    /**
+     * Ids of the deleted topic and all its descendants (empty unless DELETED).
+     */
+    public List<Long> getRemovedTopicIds() {
+        return removedTopicIds;
+    }
+
+    @Override
+    public String toString() {
+        return "TopicChangedEvent{" +
+                "type=" + type +
+                ", topicId=" + topicId +
+                ", slug='" + slug + '\'' +
+                ", removed=" + removedTopicIds.size() +
+                '}';
+    }
+}
@@ -1,11 +1,14 @@
 package com.cshub.mapper;
 
 import com.cshub.dto.TagDTO;
+import com.cshub.dto.TocEntryDTO;
 import com.cshub.dto.TopicDTO;
 import com.cshub.entity.Tag;
+import com.cshub.entity.TocEntry;
 import com.cshub.entity.Topic;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.stream.Collectors;
 
 /**
@@ -23,6 +26,19 @@ public class TopicMapper {
         if (topic == null) {
             return null;
         }
+        return toDTO(topic, topic.getTags().stream()
+                .map(this::tagToDTO)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Convert Topic entity to TopicDTO with tags that were already resolved by the caller.
+     * Avoids touching the lazy tags collection (used when streaming large result sets).
+     */
+    public TopicDTO toDTO(Topic topic, List<TagDTO> tags) {
+        if (topic == null) {
+            return null;
+        }
 
         TopicDTO dto = new TopicDTO();
         dto.setId(topic.getId());
@@ -33,11 +49,8 @@ public class TopicMapper {
         dto.setDisplayOrder(topic.getDisplayOrder());
         dto.setCreatedAt(topic.getCreatedAt());
         dto.setUpdatedAt(topic.getUpdatedAt());
-
-        // Map tags
-        dto.setTags(topic.getTags().stream()
-                .map(this::tagToDTO)
-                .collect(Collectors.toList()));
+        dto.setVersion(topic.getVersion());
+        dto.setTags(tags);
 
         return dto;
     }
@@ -56,6 +69,18 @@ public class TopicMapper {
         return dto;
     }
 
+    /**
+     * Convert a stored table of contents to DTOs.
+     */
+    public List<TocEntryDTO> tocToDTO(List<TocEntry> toc) {
+        if (toc == null) {
+            return null;
+        }
+        return toc.stream()
+                .map(entry -> new TocEntryDTO(entry.getLevel(), entry.getText(), entry.getAnchor()))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Convert Tag entity to TagDTO.
      */
@@ -0,0 +1,27 @@
+package com.cshub.repository;
+
+import com.cshub.entity.ChangeLogEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for the change feed.
+ */
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+
+    /**
+     * Keyset page of the feed: entries after the given sequence number, oldest first (primary key range scan).
+     */
+    List<ChangeLogEntry> findBySeqGreaterThanOrderBySeqAsc(Long since, Limit limit);
+
+    /**
+     * Highest committed sequence number, or 0 for an empty feed.
+     */
+    @Query("SELECT COALESCE(MAX(c.seq), 0) FROM ChangeLogEntry c")
+    long findLatestSeq();
+}
@@ -0,0 +1,25 @@
+package com.cshub.repository;
+
+import com.cshub.entity.ChangeSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository for the change feed sequence counter.
+ */
+@Repository
+public interface ChangeSequenceRepository extends JpaRepository<ChangeSequence, Integer> {
+
+    /**
+     * Read the counter with a write lock (SELECT ... FOR UPDATE), held until the transaction ends.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ChangeSequence s WHERE s.id = :id")
+    Optional<ChangeSequence> findForUpdate(@Param("id") Integer id);
+}
@@ -0,0 +1,239 @@
+package com.cshub.repository;
+
+import com.cshub.dto.TagDTO;
+import com.cshub.dto.TopicDTO;
+import com.cshub.dto.TopicNavDTO;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Non-blocking reads of topics and their tags over R2DBC ("reactive" profile).
+ * Demonstrates DBMS: the same keyset and join queries as TopicRepository, written as plain SQL
+ * because there is no ORM on this path. Rows map straight to DTOs.
+ *
+ * The SQL sticks to what PostgreSQL and H2 both accept.
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveTopicRepository {
+
+    private static final String NAV_COLUMNS = "t.id, t.title, t.slug, t.parent_id, t.display_order";
+    private static final String TOPIC_COLUMNS = NAV_COLUMNS + ", t.content, t.created_at, t.updated_at";
+
+    /**
+     * A tag attached to a topic.
+     */
+    public record TopicTagRow(Long topicId, TagDTO tag) {
+    }
+
+    /**
+     * A single topic with its stored rendering; toc is the raw JSON of the toc column.
+     */
+    public record TopicDetailRow(TopicDTO topic, String contentHtml, String toc) {
+    }
+
+    private final DatabaseClient databaseClient;
+    private final Duration queryDelay;
+
+    public ReactiveTopicRepository(DatabaseClient databaseClient,
+                                   @Value("${cshub.slow-db.latency:0ms}") Duration queryDelay) {
+        this.databaseClient = databaseClient;
+        this.queryDelay = queryDelay;
+    }
+
+    /**
+     * Every topic as a navigation row, siblings in display order.
+     */
+    public Flux<TopicNavDTO> findAllNavigation() {
+        return delayed(databaseClient.sql("SELECT " + NAV_COLUMNS + " FROM topic t ORDER BY t.display_order, t.id")
+                .map(ReactiveTopicRepository::toNav)
+                .all());
+    }
+
+    /**
+     * Every topic with content (no tags, no rendering).
+     */
+    public Flux<TopicDTO> findAll() {
+        return delayed(databaseClient.sql("SELECT " + TOPIC_COLUMNS + " FROM topic t")
+                .map(ReactiveTopicRepository::toTopic)
+                .all());
+    }
+
+    /**
+     * Every (topic, tag) pair of the topic_tags join table.
+     */
+    public Flux<TopicTagRow> findAllTopicTags() {
+        return delayed(databaseClient.sql("SELECT tt.topic_id, g.id, g.name, g.color " +
+                        "FROM topic_tags tt JOIN tag g ON g.id = tt.tag_id ORDER BY tt.topic_id, g.id")
+                .map(ReactiveTopicRepository::toTopicTag)
+                .all());
+    }
+
+    /**
+     * Tags of the given topics, in one IN query.
+     */
+    public Flux<TopicTagRow> findTopicTags(Collection<Long> topicIds) {
+        if (topicIds.isEmpty()) {
+            return Flux.empty();
+        }
+        return delayed(databaseClient.sql("SELECT tt.topic_id, g.id, g.name, g.color " +
+                        "FROM topic_tags tt JOIN tag g ON g.id = tt.tag_id " +
+                        "WHERE tt.topic_id IN (:topicIds) ORDER BY tt.topic_id, g.id")
+                .bind("topicIds", topicIds)
+                .map(ReactiveTopicRepository::toTopicTag)
+                .all());
+    }
+
+    public Mono<TopicDetailRow> findById(Long id) {
+        return delayed(databaseClient.sql("SELECT " + TOPIC_COLUMNS + ", t.content_html, CAST(t.toc AS VARCHAR) AS toc " +
+                        "FROM topic t WHERE t.id = :id")
+                .bind("id", id)
+                .map(ReactiveTopicRepository::toDetail)
+                .one());
+    }
+
+    public Mono<TopicDetailRow> findBySlug(String slug) {
+        return delayed(databaseClient.sql("SELECT " + TOPIC_COLUMNS + ", t.content_html, CAST(t.toc AS VARCHAR) AS toc " +
+                        "FROM topic t WHERE t.slug = :slug")
+                .bind("slug", slug)
+                .map(ReactiveTopicRepository::toDetail)
+                .one());
+    }
+
+    public Mono<Boolean> existsById(Long id) {
+        return delayed(databaseClient.sql("SELECT COUNT(*) FROM topic t WHERE t.id = :id")
+                .bind("id", id)
+                .map(row -> row.get(0, Long.class) > 0)
+                .one());
+    }
+
+    public Mono<Integer> findDisplayOrderById(Long id) {
+        return delayed(databaseClient.sql("SELECT t.display_order FROM topic t WHERE t.id = :id")
+                .bind("id", id)
+                .map(row -> row.get(0, Integer.class))
+                .one());
+    }
+
+    /**
+     * Topics after the cursor id, at most limit of them (keyset on the primary key).
+     */
+    public Flux<TopicDTO> findPage(long after, int limit) {
+        return delayed(databaseClient.sql("SELECT " + TOPIC_COLUMNS + " FROM topic t WHERE t.id > :after ORDER BY t.id LIMIT :limit")
+                .bind("after", after)
+                .bind("limit", limit)
+                .map(ReactiveTopicRepository::toTopic)
+                .all());
+    }
+
+    /**
+     * Keyset page of topics whose title or content contains the keyword, case-insensitively.
+     */
+    public Flux<TopicDTO> search(String keyword, long after, int limit) {
+        String pattern = "%" + escapeLike(keyword.toLowerCase(Locale.ROOT)) + "%";
+        return delayed(databaseClient.sql("SELECT " + TOPIC_COLUMNS + " FROM topic t " +
+                        "WHERE (LOWER(t.title) LIKE :pattern ESCAPE '\\' OR LOWER(t.content) LIKE :pattern ESCAPE '\\') " +
+                        "AND t.id > :after ORDER BY t.id LIMIT :limit")
+                .bind("pattern", pattern)
+                .bind("after", after)
+                .bind("limit", limit)
+                .map(ReactiveTopicRepository::toTopic)
+                .all());
+    }
+
+    /**
+     * Keyset page of topics carrying the named tag.
+     */
+    public Flux<TopicDTO> findByTagName(String tagName, long after, int limit) {
+        return delayed(databaseClient.sql("SELECT " + TOPIC_COLUMNS + " FROM topic t " +
+                        "JOIN topic_tags tt ON tt.topic_id = t.id JOIN tag g ON g.id = tt.tag_id " +
+                        "WHERE g.name = :tagName AND t.id > :after ORDER BY t.id LIMIT :limit")
+                .bind("tagName", tagName)
+                .bind("after", after)
+                .bind("limit", limit)
+                .map(ReactiveTopicRepository::toTopic)
+                .all());
+    }
+
+    /**
+     * Root topics as navigation rows, keyset on (display_order, id).
+     */
+    public Flux<TopicNavDTO> findRootNavigation(int afterOrder, long afterId, int limit) {
+        return delayed(databaseClient.sql("SELECT " + NAV_COLUMNS + " FROM topic t WHERE t.parent_id IS NULL " +
+                        "AND (t.display_order > :afterOrder OR (t.display_order = :afterOrder AND t.id > :afterId)) " +
+                        "ORDER BY t.display_order, t.id LIMIT :limit")
+                .bind("afterOrder", afterOrder)
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map(ReactiveTopicRepository::toNav)
+                .all());
+    }
+
+    /**
+     * Direct children as navigation rows, keyset on (display_order, id).
+     */
+    public Flux<TopicNavDTO> findChildrenNavigation(Long parentId, int afterOrder, long afterId, int limit) {
+        return delayed(databaseClient.sql("SELECT " + NAV_COLUMNS + " FROM topic t WHERE t.parent_id = :parentId " +
+                        "AND (t.display_order > :afterOrder OR (t.display_order = :afterOrder AND t.id > :afterId)) " +
+                        "ORDER BY t.display_order, t.id LIMIT :limit")
+                .bind("parentId", parentId)
+                .bind("afterOrder", afterOrder)
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map(ReactiveTopicRepository::toNav)
+                .all());
+    }
+
+    // ---- helpers ----
+
+    /**
+     * Apply the simulated database latency of the "slow-db" profile, without blocking a thread.
+     */
+    private <T> Flux<T> delayed(Flux<T> query) {
+        return queryDelay.isZero() ? query : Mono.delay(queryDelay).thenMany(query);
+    }
+
+    private <T> Mono<T> delayed(Mono<T> query) {
+        return queryDelay.isZero() ? query : Mono.delay(queryDelay).then(query);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static TopicNavDTO toNav(Readable row) {
+        return new TopicNavDTO(row.get("id", Long.class), row.get("title", String.class), row.get("slug", String.class),
+                row.get("parent_id", Long.class), row.get("display_order", Integer.class));
+    }
+
+    private static TopicDTO toTopic(Readable row) {
+        TopicDTO dto = new TopicDTO();
+        dto.setId(row.get("id", Long.class));
+        dto.setTitle(row.get("title", String.class));
+        dto.setSlug(row.get("slug", String.class));
+        dto.setContent(row.get("content", String.class));
+        dto.setParentId(row.get("parent_id", Long.class));
+        dto.setDisplayOrder(row.get("display_order", Integer.class));
+        dto.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        dto.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        return dto;
+    }
+
+    private static TopicDetailRow toDetail(Readable row) {
+        return new TopicDetailRow(toTopic(row), row.get("content_html", String.class), row.get("toc", String.class));
+    }
+
+    private static TopicTagRow toTopicTag(Readable row) {
+        return new TopicTagRow(row.get("topic_id", Long.class),
+                new TagDTO(row.get("id", Long.class), row.get("name", String.class), row.get("color", String.class)));
+    }
+}
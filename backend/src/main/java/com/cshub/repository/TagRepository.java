@@ -1,9 +1,12 @@
 package com.cshub.repository;
 
+import com.cshub.dto.TagDTO;
 import com.cshub.entity.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -21,5 +24,18 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
      * Check if tag with name already exists.
      */
     boolean existsByName(String name);
-}
 
+    /**
+     * Version of the whole tag set, for conditional GET on /api/tags.
+     */
+    @Query("SELECT COUNT(t) AS count, COALESCE(MAX(t.id), 0) AS maxId FROM Tag t")
+    TagSetVersionView getTagSetVersion();
+
+    /**
+     * Every tag with the number of topics carrying it, most used first.
+     * One GROUP BY over topic_tags instead of a COUNT per tag; unused tags come back with 0.
+     */
+    @Query("SELECT new com.cshub.dto.TagDTO(t.id, t.name, t.color, COUNT(topic)) FROM Tag t " +
+           "LEFT JOIN t.topics topic GROUP BY t.id, t.name, t.color ORDER BY COUNT(topic) DESC, t.name")
+    List<TagDTO> findAllWithTopicCounts();
+}
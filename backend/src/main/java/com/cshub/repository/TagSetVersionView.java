@@ -0,0 +1,13 @@
+package com.cshub.repository;
+
+/**
+ * Aggregate that changes whenever the set of tags changes.
+ * Tags are only ever created (new, higher id) or deleted (lower count), so (count, max id)
+ * identifies the tag set without a separate version column.
+ */
+public interface TagSetVersionView {
+
+    Long getCount();
+
+    Long getMaxId();
+}
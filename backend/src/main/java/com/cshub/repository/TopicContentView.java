@@ -0,0 +1,11 @@
+package com.cshub.repository;
+
+/**
+ * Projection of a topic's id and markdown content, for rendering without loading tags or parents.
+ */
+public interface TopicContentView {
+
+    Long getId();
+
+    String getContent();
+}
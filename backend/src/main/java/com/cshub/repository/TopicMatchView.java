@@ -0,0 +1,16 @@
+package com.cshub.repository;
+
+/**
+ * Projection for fuzzy title/slug matches.
+ * Spring Data maps the native query's column aliases onto these getters.
+ */
+public interface TopicMatchView {
+
+    Long getId();
+
+    String getTitle();
+
+    String getSlug();
+
+    Double getScore();
+}
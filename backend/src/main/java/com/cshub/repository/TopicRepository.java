@@ -1,13 +1,22 @@
 package com.cshub.repository;
 
+import com.cshub.dto.TopicNavDTO;
+import com.cshub.entity.TocEntry;
 import com.cshub.entity.Topic;
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository for Topic entity.
@@ -22,6 +31,44 @@ public interface TopicRepository extends JpaRepository<Topic, Long> {
      */
     Optional<Topic> findBySlug(String slug);
 
+    /**
+     * Find topic by slug with its tags fetched in the same query.
+     * Lets single-topic reads run without a surrounding transaction.
+     */
+    @Query("SELECT t FROM Topic t LEFT JOIN FETCH t.tags WHERE t.slug = :slug")
+    Optional<Topic> findWithTagsBySlug(@Param("slug") String slug);
+
+    /**
+     * Find topic by id with its tags fetched in the same query.
+     */
+    @Query("SELECT t FROM Topic t LEFT JOIN FETCH t.tags WHERE t.id = :id")
+    Optional<Topic> findWithTagsById(@Param("id") Long id);
+
+    /**
+     * Find topics by id with their tags fetched in the same query (one page of search results).
+     */
+    @Query("SELECT DISTINCT t FROM Topic t LEFT JOIN FETCH t.tags WHERE t.id IN :ids")
+    List<Topic> findWithTagsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Topics whose markdown has not been pre-rendered yet, one keyset batch at a time.
+     */
+    @Query("SELECT t.id AS id, t.content AS content FROM Topic t " +
+           "WHERE t.contentHtml IS NULL AND t.id > :after ORDER BY t.id")
+    List<TopicContentView> findUnrenderedContent(@Param("after") Long after, Limit limit);
+
+    /**
+     * Store pre-rendered HTML and table of contents without touching version or updated_at.
+     */
+    @Modifying
+    @Query("UPDATE Topic t SET t.contentHtml = :html, t.toc = :toc WHERE t.id = :id")
+    int updateRenderedContent(@Param("id") Long id, @Param("html") String html, @Param("toc") List<TocEntry> toc);
+
+    /**
+     * Find every topic whose slug is in the given set - one query per chunk of a bulk import.
+     */
+    List<Topic> findBySlugIn(Collection<String> slugs);
+
     /**
      * Find all root topics (topics without parent).
      * This is the starting point for building the tree hierarchy.
@@ -34,21 +81,128 @@ public interface TopicRepository extends JpaRepository<Topic, Long> {
     List<Topic> findByParentId(Long parentId);
 
     /**
-     * Find all topics by tag name.
+     * Direct children of a topic as navigation rows, one keyset page at a time.
+     * Keyset on (displayOrder, id) after the given position; touches only columns of
+     * idx_topic_parent_order_covering, so PostgreSQL can answer it with an index-only scan.
+     */
+    @Query("SELECT new com.cshub.dto.TopicNavDTO(t.id, t.title, t.slug, t.parent.id, t.displayOrder) " +
+           "FROM Topic t WHERE t.parent.id = :parentId " +
+           "AND (t.displayOrder > :afterOrder OR (t.displayOrder = :afterOrder AND t.id > :afterId)) " +
+           "ORDER BY t.displayOrder, t.id")
+    List<TopicNavDTO> findChildrenNavigation(@Param("parentId") Long parentId,
+                                             @Param("afterOrder") Integer afterOrder,
+                                             @Param("afterId") Long afterId,
+                                             Limit limit);
+
+    /**
+     * Root topics as navigation rows, one keyset page at a time (same index, parent_id IS NULL).
+     */
+    @Query("SELECT new com.cshub.dto.TopicNavDTO(t.id, t.title, t.slug, t.parent.id, t.displayOrder) " +
+           "FROM Topic t WHERE t.parent IS NULL " +
+           "AND (t.displayOrder > :afterOrder OR (t.displayOrder = :afterOrder AND t.id > :afterId)) " +
+           "ORDER BY t.displayOrder, t.id")
+    List<TopicNavDTO> findRootNavigation(@Param("afterOrder") Integer afterOrder,
+                                         @Param("afterId") Long afterId,
+                                         Limit limit);
+
+    /**
+     * A topic and its descendants down to maxDepth levels, in one recursive CTE.
+     * Demonstrates DBMS: WITH RECURSIVE walks parent_id -> id edges server-side, using the
+     * (parent_id, ...) index at each level, so the cost is proportional to the subtree, not the table.
+     * Rows come back ordered by depth, then displayOrder, so parents always precede their children.
+     */
+    @Query(value = "WITH RECURSIVE subtree (id, title, slug, parent_id, display_order, depth) AS ( " +
+                   "    SELECT t.id, t.title, t.slug, t.parent_id, t.display_order, 0 " +
+                   "    FROM topic t WHERE t.id = :rootId " +
+                   "    UNION ALL " +
+                   "    SELECT c.id, c.title, c.slug, c.parent_id, c.display_order, s.depth + 1 " +
+                   "    FROM topic c JOIN subtree s ON c.parent_id = s.id " +
+                   "    WHERE s.depth < :maxDepth " +
+                   ") " +
+                   "SELECT id AS id, title AS title, slug AS slug, parent_id AS parentId, " +
+                   "display_order AS displayOrder, depth AS depth " +
+                   "FROM subtree ORDER BY depth, display_order, id",
+           nativeQuery = true)
+    List<TopicSubtreeRow> findSubtree(@Param("rootId") Long rootId, @Param("maxDepth") int maxDepth);
+
+    /**
+     * Materialized path of a topic ("/1/7/42/") - the whole ancestor chain in one row.
+     */
+    @Query("SELECT t.path FROM Topic t WHERE t.id = :id")
+    Optional<String> findPathById(@Param("id") Long id);
+
+    /**
+     * Navigation rows for a set of topics (e.g. the ancestors parsed from a path).
+     */
+    @Query("SELECT new com.cshub.dto.TopicNavDTO(t.id, t.title, t.slug, t.parent.id, t.displayOrder) " +
+           "FROM Topic t WHERE t.id IN :ids")
+    List<TopicNavDTO> findNavigationByIds(@Param("ids") List<Long> ids);
+
+    /**
+     * Re-root a moved subtree: swap the old path prefix for the new one on the topic and all its descendants.
+     * Demonstrates DBMS: the subtree is a single prefix range scan on idx_topic_path.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Topic t SET t.path = CONCAT(:newPrefix, SUBSTRING(t.path, :oldPrefixLength + 1)) " +
+           "WHERE t.path LIKE CONCAT(:oldPrefix, '%')")
+    int movePathPrefix(@Param("oldPrefix") String oldPrefix,
+                       @Param("oldPrefixLength") int oldPrefixLength,
+                       @Param("newPrefix") String newPrefix);
+
+    /**
+     * Display order of a topic - resolves a child-listing cursor back to its keyset position.
+     */
+    @Query("SELECT t.displayOrder FROM Topic t WHERE t.id = :id")
+    Optional<Integer> findDisplayOrderById(@Param("id") Long id);
+
+    /**
+     * Find topics by tag name, one keyset page at a time.
      * Demonstrates DBMS: Querying Many-to-Many relationship.
      */
-    @Query("SELECT t FROM Topic t JOIN t.tags tag WHERE tag.name = :tagName")
-    List<Topic> findByTagName(@Param("tagName") String tagName);
+    @Query("SELECT t FROM Topic t JOIN t.tags tag WHERE tag.name = :tagName AND t.id > :after ORDER BY t.id")
+    List<Topic> findByTagName(@Param("tagName") String tagName, @Param("after") Long after, Limit limit);
+
+    /**
+     * Keyset page over all topics: rows with id greater than the cursor, in id order.
+     */
+    List<Topic> findByIdGreaterThanOrderByIdAsc(Long after, Limit limit);
 
     /**
      * Search topics by title or content.
      * Used for the search bar feature.
      * Using ILIKE for case-insensitive search (PostgreSQL specific).
+     * Only used while the in-memory search index is still building; tags are fetched in the same query.
      */
-    @Query("SELECT t FROM Topic t WHERE LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+    @Query("SELECT DISTINCT t FROM Topic t LEFT JOIN FETCH t.tags WHERE LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
            "OR LOWER(t.content) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     List<Topic> searchByKeyword(@Param("keyword") String keyword);
 
+    /**
+     * Full-text search ranked by relevance (PostgreSQL specific).
+     * Uses the trigger-maintained search_vector column and its GIN index (see V3 migration).
+     * websearch_to_tsquery accepts user input safely: quoted phrases, "or" and -exclusions.
+     */
+    @Query(value = "SELECT t.* FROM topic t, websearch_to_tsquery('english', :query) q " +
+                   "WHERE t.search_vector @@ q " +
+                   "ORDER BY ts_rank(t.search_vector, q) DESC, t.id " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<Topic> searchFullText(@Param("query") String query, @Param("limit") int limit);
+
+    /**
+     * Typo-tolerant search on title and slug using trigram similarity (PostgreSQL pg_trgm).
+     * The % operator is served by the GIN trigram indexes (see V4 migration); only the
+     * matching rows are scored, and the content column is never read.
+     */
+    @Query(value = "SELECT t.id AS id, t.title AS title, t.slug AS slug, " +
+                   "CAST(GREATEST(similarity(t.title, :query), similarity(t.slug, :query)) AS double precision) AS score " +
+                   "FROM topic t " +
+                   "WHERE t.title % :query OR t.slug % :query " +
+                   "ORDER BY score DESC, t.id " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<TopicMatchView> searchFuzzy(@Param("query") String query, @Param("limit") int limit);
+
     /**
      * Fetch all topics with their tags in a single query.
      * Solves the N+1 select problem using JOIN FETCH.
@@ -57,6 +211,36 @@ public interface TopicRepository extends JpaRepository<Topic, Long> {
     @Query("SELECT DISTINCT t FROM Topic t LEFT JOIN FETCH t.tags")
     List<Topic> findAllWithTags();
 
+    /**
+     * Stream every topic in id order through a server-side cursor.
+     * The fetch size makes the JDBC driver pull rows in batches instead of buffering the whole table
+     * (PostgreSQL only honours it inside a transaction). Must be consumed in a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT t FROM Topic t ORDER BY t.id")
+    Stream<Topic> streamAllOrderedById();
+
+    /**
+     * Fetch the navigation fields of every topic, already in sibling order.
+     * Projects straight into DTOs so the TEXT content column is never read.
+     */
+    @Query("SELECT new com.cshub.dto.TopicNavDTO(t.id, t.title, t.slug, t.parent.id, t.displayOrder) " +
+           "FROM Topic t ORDER BY t.displayOrder, t.id")
+    List<TopicNavDTO> findAllNavigation();
+
+    /**
+     * Fetch every (topic id, tag id) pair from the join table.
+     * Companion to findAllNavigation - two narrow queries instead of loading entities.
+     */
+    @Query("SELECT t.id, tag.id FROM Topic t JOIN t.tags tag")
+    List<Object[]> findAllTopicTagIds();
+
+    /**
+     * (topic id, tag id) pairs for a handful of topics - fills tagIds on a page of navigation rows.
+     */
+    @Query("SELECT t.id, tag.id FROM Topic t JOIN t.tags tag WHERE t.id IN :ids")
+    List<Object[]> findTopicTagIdsByTopicIds(@Param("ids") List<Long> ids);
+
     /**
      * Check if slug already exists (for validation).
      */
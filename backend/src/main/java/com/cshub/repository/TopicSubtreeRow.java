@@ -0,0 +1,20 @@
+package com.cshub.repository;
+
+/**
+ * One row of a recursive subtree query: navigation fields plus the distance from the subtree root.
+ * Spring Data maps the native query's column aliases onto these getters.
+ */
+public interface TopicSubtreeRow {
+
+    Long getId();
+
+    String getTitle();
+
+    String getSlug();
+
+    Long getParentId();
+
+    Integer getDisplayOrder();
+
+    Integer getDepth();
+}
@@ -0,0 +1,74 @@
+package com.cshub.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Sorted, duplicate-free list of document ordinals backed by a primitive int array.
+ * Demonstrates DSA: Binary search for O(log n) lookup and in-place insertion into a sorted array.
+ *
+ * Not thread-safe - TopicSearchIndex guards every instance with its read/write lock.
+ */
+final class IntPostings {
+
+    private final String term;
+    private int[] docs = new int[4];
+    private int size;
+
+    IntPostings(String term) {
+        this.term = term;
+    }
+
+    /**
+     * The term this list belongs to, so a document can unlink itself without re-tokenizing.
+     */
+    String term() {
+        return term;
+    }
+
+    /**
+     * Insert an ordinal, keeping the array sorted. No-op if already present.
+     */
+    void add(int doc) {
+        int pos = Arrays.binarySearch(docs, 0, size, doc);
+        if (pos >= 0) {
+            return;
+        }
+        int insertAt = -pos - 1;
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, size * 2);
+        }
+        System.arraycopy(docs, insertAt, docs, insertAt + 1, size - insertAt);
+        docs[insertAt] = doc;
+        size++;
+    }
+
+    /**
+     * Remove an ordinal. No-op if absent.
+     */
+    void remove(int doc) {
+        int pos = Arrays.binarySearch(docs, 0, size, doc);
+        if (pos < 0) {
+            return;
+        }
+        System.arraycopy(docs, pos + 1, docs, pos, size - pos - 1);
+        size--;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * OR this posting list into a bitset.
+     */
+    void addTo(BitSet bits) {
+        for (int i = 0; i < size; i++) {
+            bits.set(docs[i]);
+        }
+    }
+}
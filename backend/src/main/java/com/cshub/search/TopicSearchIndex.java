@@ -0,0 +1,383 @@
+package com.cshub.search;
+
+import com.cshub.dto.TagDTO;
+import com.cshub.dto.TopicDTO;
+import com.cshub.entity.Topic;
+import com.cshub.event.TagChangedEvent;
+import com.cshub.event.TopicBulkChangedEvent;
+import com.cshub.event.TopicChangedEvent;
+import com.cshub.mapper.TopicMapper;
+import com.cshub.repository.TopicRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over topic titles and content.
+ * Demonstrates DSA: Inverted index (term -> sorted postings), TreeMap range scan for prefix matching,
+ * and BitSet intersection for multi-term queries.
+ *
+ * Each topic gets a dense int ordinal; postings are primitive int arrays of ordinals.
+ * The index is built once at startup and then patched from committed TopicChangedEvents,
+ * so matching never touches the database. Only ids, tag ids and posting links are kept per topic -
+ * callers load the content of the page they actually show.
+ *
+ * Query semantics: the query is tokenized like the documents; every token must match (AND).
+ * The last token is treated as a prefix, so results appear while the user is still typing.
+ */
+@Component
+public class TopicSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TopicSearchIndex.class);
+
+    private final TopicRepository topicRepository;
+    private final TopicMapper topicMapper;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // One rebuild at a time, so there is never more than one list of patches to replay
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // All fields below are guarded by lock
+    private final NavigableMap<String, IntPostings> postings = new TreeMap<>();
+    private final Map<Long, Integer> ordinalById = new HashMap<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private Document[] documents = new Document[64];
+    private int nextOrdinal;
+    // Non-null while a rebuild is reading the database: patches applied meanwhile, replayed over the reload
+    private List<Runnable> pendingPatches;
+    private volatile boolean ready;
+
+    public TopicSearchIndex(TopicRepository topicRepository, TopicMapper topicMapper) {
+        this.topicRepository = topicRepository;
+        this.topicMapper = topicMapper;
+    }
+
+    /**
+     * Build the index once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Patch the index after a topic write commits.
+     */
+    @TransactionalEventListener
+    public void onTopicChanged(TopicChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED, UPDATED -> index(event.getTopic());
+            case DELETED -> event.getRemovedTopicIds().forEach(this::remove);
+        }
+    }
+
+    /**
+     * A bulk import carries the topics it wrote; patch them all under one write lock.
+     */
+    @TransactionalEventListener
+    public void onTopicsBulkChanged(TopicBulkChangedEvent event) {
+        indexAll(event.getTopics());
+    }
+
+    /**
+     * Deleting a tag only changes the tag ids kept for facets; strip it in place.
+     */
+    @TransactionalEventListener
+    public void onTagChanged(TagChangedEvent event) {
+        if (event.getType() == TagChangedEvent.Type.DELETED) {
+            removeTag(event.getTagId());
+        }
+    }
+
+    /**
+     * Reload every topic from the database and replace the index contents.
+     * The database is read without holding the index lock, so searches keep being served;
+     * patches that land meanwhile are recorded and re-applied over the reloaded contents,
+     * so a write committed during the read is never lost.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                pendingPatches = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            List<Topic> topics;
+            try {
+                topics = topicRepository.findAllWithTags();
+            } catch (RuntimeException e) {
+                lock.writeLock().lock();
+                try {
+                    pendingPatches = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                throw e;
+            }
+
+            lock.writeLock().lock();
+            try {
+                postings.clear();
+                ordinalById.clear();
+                freeOrdinals.clear();
+                documents = new Document[Math.max(64, topics.size())];
+                nextOrdinal = 0;
+                for (Topic topic : topics) {
+                    addDocument(topicMapper.toDTO(topic));
+                }
+                pendingPatches.forEach(Runnable::run);
+                pendingPatches = null;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.info("Search index built with {} topics and {} terms", topics.size(), postings.size());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Whether the initial build has completed.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Add or replace a topic in the index.
+     */
+    public void index(TopicDTO topic) {
+        if (topic == null || topic.getId() == null) {
+            return;
+        }
+        indexAll(List.of(topic));
+    }
+
+    /**
+     * Add or replace several topics at once.
+     */
+    public void indexAll(Collection<TopicDTO> topics) {
+        lock.writeLock().lock();
+        try {
+            patch(() -> {
+                for (TopicDTO topic : topics) {
+                    removeDocument(topic.getId());
+                    addDocument(topic);
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a topic from the index.
+     */
+    public void remove(Long topicId) {
+        lock.writeLock().lock();
+        try {
+            patch(() -> removeDocument(topicId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drop a tag id from every topic that carries it. One pass over the documents, no database access.
+     */
+    public void removeTag(long tagId) {
+        lock.writeLock().lock();
+        try {
+            patch(() -> {
+                for (int ord = 0; ord < nextOrdinal; ord++) {
+                    Document document = documents[ord];
+                    if (document != null && Arrays.stream(document.tagIds()).anyMatch(id -> id == tagId)) {
+                        long[] remaining = Arrays.stream(document.tagIds()).filter(id -> id != tagId).toArray();
+                        documents[ord] = new Document(document.id(), remaining, document.postings());
+                    }
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of all topics matching every token of the query, in ascending order.
+     */
+    public List<Long> search(String query) {
+        List<String> queryTokens = tokenize(query);
+        if (queryTokens.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            BitSet matches = null;
+            for (int i = 0; i < queryTokens.size(); i++) {
+                boolean isLast = i == queryTokens.size() - 1;
+                BitSet tokenMatches = lookup(queryTokens.get(i), isLast);
+                if (matches == null) {
+                    matches = tokenMatches;
+                } else {
+                    matches.and(tokenMatches);
+                }
+                if (matches.isEmpty()) {
+                    return Collections.emptyList();
+                }
+            }
+
+            long[] ids = new long[matches.cardinality()];
+            int n = 0;
+            for (int ord = matches.nextSetBit(0); ord >= 0; ord = matches.nextSetBit(ord + 1)) {
+                ids[n++] = documents[ord].id();
+            }
+            Arrays.sort(ids);
+            return Arrays.stream(ids).boxed().toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of the given topics carrying each tag (tag id -> count), for search facets.
+     * Ids that are no longer indexed are skipped.
+     */
+    public Map<Long, Long> tagCounts(Collection<Long> topicIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (Long topicId : topicIds) {
+                Integer ordinal = ordinalById.get(topicId);
+                if (ordinal != null) {
+                    for (long tagId : documents[ordinal].tagIds()) {
+                        counts.merge(tagId, 1L, Long::sum);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return counts;
+    }
+
+    /**
+     * Number of topics currently indexed.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinalById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Split text into lower-case alphanumeric tokens.
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    // Caller must hold the read lock
+    private BitSet lookup(String token, boolean prefix) {
+        BitSet bits = new BitSet(nextOrdinal);
+        if (prefix) {
+            // All terms in [token, token + Character.MAX_VALUE) share the prefix - a TreeMap range scan
+            for (IntPostings list : postings.subMap(token, true, token + Character.MAX_VALUE, false).values()) {
+                list.addTo(bits);
+            }
+        } else {
+            IntPostings list = postings.get(token);
+            if (list != null) {
+                list.addTo(bits);
+            }
+        }
+        return bits;
+    }
+
+    // Caller must hold the write lock
+    private void patch(Runnable patch) {
+        patch.run();
+        if (pendingPatches != null) {
+            pendingPatches.add(patch);
+        }
+    }
+
+    // Caller must hold the write lock
+    private void addDocument(TopicDTO topic) {
+        int ordinal = freeOrdinals.isEmpty() ? nextOrdinal++ : freeOrdinals.pop();
+        if (ordinal >= documents.length) {
+            documents = Arrays.copyOf(documents, documents.length * 2);
+        }
+        Set<String> terms = termsOf(topic);
+        IntPostings[] lists = new IntPostings[terms.size()];
+        int i = 0;
+        for (String term : terms) {
+            IntPostings list = postings.computeIfAbsent(term, IntPostings::new);
+            list.add(ordinal);
+            lists[i++] = list;
+        }
+        long[] tagIds = topic.getTags() == null ? new long[0]
+                : topic.getTags().stream().mapToLong(TagDTO::getId).toArray();
+        documents[ordinal] = new Document(topic.getId(), tagIds, lists);
+        ordinalById.put(topic.getId(), ordinal);
+    }
+
+    // Caller must hold the write lock
+    private void removeDocument(Long topicId) {
+        Integer ordinal = ordinalById.remove(topicId);
+        if (ordinal == null) {
+            return;
+        }
+        for (IntPostings list : documents[ordinal].postings()) {
+            list.remove(ordinal);
+            if (list.isEmpty()) {
+                postings.remove(list.term());
+            }
+        }
+        documents[ordinal] = null;
+        freeOrdinals.push(ordinal);
+    }
+
+    private static Set<String> termsOf(TopicDTO topic) {
+        Set<String> terms = new HashSet<>(tokenize(topic.getTitle()));
+        terms.addAll(tokenize(topic.getContent()));
+        return terms;
+    }
+
+    /**
+     * What is kept per topic: its id, its tag ids (for facets) and the posting lists it appears in
+     * (to unlink it on update or delete). Title and content are not retained.
+     */
+    private record Document(long id, long[] tagIds, IntPostings[] postings) {
+    }
+}
@@ -0,0 +1,414 @@
+package com.cshub.search;
+
+import com.cshub.dto.TagDTO;
+import com.cshub.dto.TopicDTO;
+import com.cshub.dto.TopicNavDTO;
+import com.cshub.dto.TopicSuggestionDTO;
+import com.cshub.entity.Tag;
+import com.cshub.event.TagChangedEvent;
+import com.cshub.event.TopicBulkChangedEvent;
+import com.cshub.event.TopicChangedEvent;
+import com.cshub.repository.TagRepository;
+import com.cshub.repository.TopicRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-memory prefix index for search-as-you-type suggestions.
+ * Demonstrates DSA: Sorted arrays with binary search (lower bound) for prefix lookup,
+ * and a linear merge to apply updates in O(n) instead of re-sorting.
+ *
+ * Keys are lower-cased titles (plus every word-start suffix, so "sort" finds "Bubble Sort"),
+ * slugs, and tag names. Title/slug keys are ranked before tag keys.
+ *
+ * The index is an immutable snapshot behind a volatile field: readers never lock,
+ * writers build a new snapshot and swap it in.
+ */
+@Component
+public class TopicSuggestIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TopicSuggestIndex.class);
+
+    private final TopicRepository topicRepository;
+    private final TagRepository tagRepository;
+
+    // One rebuild at a time, so there is never more than one list of patches to replay
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    // Guarded by this. Non-null while a rebuild is reading the database: patches applied meanwhile,
+    // replayed over the reloaded snapshot
+    private List<UnaryOperator<Snapshot>> pendingPatches;
+
+    public TopicSuggestIndex(TopicRepository topicRepository, TagRepository tagRepository) {
+        this.topicRepository = topicRepository;
+        this.tagRepository = tagRepository;
+    }
+
+    /**
+     * Build the index once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Patch the index after a topic write commits.
+     */
+    @TransactionalEventListener
+    public void onTopicChanged(TopicChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED, UPDATED -> index(event.getTopic());
+            case DELETED -> remove(event.getRemovedTopicIds());
+        }
+    }
+
+    /**
+     * A bulk import carries the topics it wrote; merge them into the snapshot in one pass.
+     */
+    @TransactionalEventListener
+    public void onTopicsBulkChanged(TopicBulkChangedEvent event) {
+        indexAll(event.getTopics());
+    }
+
+    /**
+     * Deleting a tag drops its key from the tag keys; nothing else in the snapshot refers to it.
+     */
+    @TransactionalEventListener
+    public void onTagChanged(TagChangedEvent event) {
+        if (event.getType() == TagChangedEvent.Type.DELETED) {
+            removeTag(event.getName());
+        }
+    }
+
+    /**
+     * Reload navigation rows and tag assignments (two narrow queries) and replace the snapshot.
+     * The read and the sort run without holding the monitor, so writers are not blocked meanwhile;
+     * patches that land during the read are recorded and re-applied to the new snapshot.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            synchronized (this) {
+                pendingPatches = new ArrayList<>();
+            }
+
+            List<Row> rows;
+            Snapshot loaded;
+            try {
+                rows = readRows();
+                loaded = Snapshot.EMPTY.with(Collections.emptySet(), rows);
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    pendingPatches = null;
+                }
+                throw e;
+            }
+
+            synchronized (this) {
+                for (UnaryOperator<Snapshot> patch : pendingPatches) {
+                    loaded = patch.apply(loaded);
+                }
+                pendingPatches = null;
+                snapshot = loaded;
+            }
+            logger.info("Suggest index built with {} topics", rows.size());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private List<Row> readRows() {
+        List<TopicNavDTO> topics = topicRepository.findAllNavigation();
+        Map<Long, String> tagNames = new HashMap<>();
+        for (Tag tag : tagRepository.findAll()) {
+            tagNames.put(tag.getId(), tag.getName());
+        }
+        Map<Long, List<String>> tagNamesByTopic = new HashMap<>();
+        for (Object[] row : topicRepository.findAllTopicTagIds()) {
+            String name = tagNames.get((Long) row[1]);
+            if (name != null) {
+                tagNamesByTopic.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add(name);
+            }
+        }
+
+        List<Row> rows = new ArrayList<>(topics.size());
+        for (TopicNavDTO topic : topics) {
+            rows.add(new Row(topic.getId(), topic.getTitle(), topic.getSlug(),
+                    tagNamesByTopic.getOrDefault(topic.getId(), List.of())));
+        }
+        return rows;
+    }
+
+    /**
+     * Add or replace a topic.
+     */
+    public void index(TopicDTO topic) {
+        if (topic == null || topic.getId() == null) {
+            return;
+        }
+        Row row = Row.of(topic);
+        patch(current -> current.with(Set.of(row.id()), List.of(row)));
+    }
+
+    /**
+     * Add or replace several topics with a single merge.
+     */
+    public void indexAll(List<TopicDTO> topics) {
+        Set<Long> ids = new HashSet<>();
+        List<Row> rows = new ArrayList<>(topics.size());
+        for (TopicDTO topic : topics) {
+            ids.add(topic.getId());
+            rows.add(Row.of(topic));
+        }
+        patch(current -> current.with(ids, rows));
+    }
+
+    /**
+     * Remove every entry of a tag, by name.
+     */
+    public void removeTag(String name) {
+        if (name != null) {
+            patch(current -> current.withoutTag(name));
+        }
+    }
+
+    /**
+     * Remove topics by id.
+     */
+    public void remove(Collection<Long> topicIds) {
+        if (!topicIds.isEmpty()) {
+            Set<Long> ids = new HashSet<>(topicIds);
+            patch(current -> current.with(ids, Collections.emptyList()));
+        }
+    }
+
+    private synchronized void patch(UnaryOperator<Snapshot> patch) {
+        snapshot = patch.apply(snapshot);
+        if (pendingPatches != null) {
+            pendingPatches.add(patch);
+        }
+    }
+
+    /**
+     * Top suggestions for a prefix: title/slug matches first, then tag matches,
+     * each in key order, without duplicates.
+     */
+    public List<TopicSuggestionDTO> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        Snapshot current = snapshot;
+        LinkedHashSet<Long> ids = new LinkedHashSet<>();
+        current.names.collect(key, limit, ids);
+        current.tags.collect(key, limit, ids);
+
+        List<TopicSuggestionDTO> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            results.add(current.topics.get(id));
+        }
+        return results;
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The fields of one topic that produce keys and the suggestion payload.
+     */
+    private record Row(long id, String title, String slug, List<String> tagNames) {
+
+        static Row of(TopicDTO topic) {
+            List<String> tagNames = new ArrayList<>();
+            if (topic.getTags() != null) {
+                for (TagDTO tag : topic.getTags()) {
+                    tagNames.add(tag.getName());
+                }
+            }
+            return new Row(topic.getId(), topic.getTitle(), topic.getSlug(), tagNames);
+        }
+    }
+
+    /**
+     * Immutable state: two sorted key arrays plus the suggestion payload per topic.
+     */
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(SortedKeys.EMPTY, SortedKeys.EMPTY, Map.of());
+
+        final SortedKeys names;
+        final SortedKeys tags;
+        final Map<Long, TopicSuggestionDTO> topics;
+
+        Snapshot(SortedKeys names, SortedKeys tags, Map<Long, TopicSuggestionDTO> topics) {
+            this.names = names;
+            this.tags = tags;
+            this.topics = topics;
+        }
+
+        /**
+         * New snapshot with removedIds dropped and added topics (re)inserted.
+         */
+        Snapshot with(Set<Long> removedIds, List<Row> added) {
+            Set<Long> dropped = new HashSet<>(removedIds);
+            List<SortedKeys.Entry> nameEntries = new ArrayList<>();
+            List<SortedKeys.Entry> tagEntries = new ArrayList<>();
+            Map<Long, TopicSuggestionDTO> newTopics = new HashMap<>(topics);
+            newTopics.keySet().removeAll(dropped);
+
+            for (Row topic : added) {
+                dropped.add(topic.id());
+                newTopics.put(topic.id(), new TopicSuggestionDTO(topic.id(), topic.title(), topic.slug()));
+                for (String key : titleKeys(topic.title())) {
+                    nameEntries.add(new SortedKeys.Entry(key, topic.id()));
+                }
+                nameEntries.add(new SortedKeys.Entry(normalize(topic.slug()), topic.id()));
+                for (String tagName : topic.tagNames()) {
+                    tagEntries.add(new SortedKeys.Entry(normalize(tagName), topic.id()));
+                }
+            }
+            return new Snapshot(names.merge(dropped, nameEntries), tags.merge(dropped, tagEntries), newTopics);
+        }
+
+        /**
+         * New snapshot without the entries of one tag name.
+         */
+        Snapshot withoutTag(String name) {
+            return new Snapshot(names, tags.without(normalize(name)), topics);
+        }
+
+        /**
+         * "Bubble Sort Basics" -> ["bubble sort basics", "sort basics", "basics"]
+         */
+        private static List<String> titleKeys(String title) {
+            String normalized = normalize(title);
+            List<String> keys = new ArrayList<>();
+            if (normalized.isEmpty()) {
+                return keys;
+            }
+            keys.add(normalized);
+            for (int i = 1; i < normalized.length(); i++) {
+                if (!Character.isLetterOrDigit(normalized.charAt(i - 1)) && Character.isLetterOrDigit(normalized.charAt(i))) {
+                    keys.add(normalized.substring(i));
+                }
+            }
+            return keys;
+        }
+    }
+
+    /**
+     * Parallel arrays of keys and topic ids, sorted by (key, id).
+     */
+    private static final class SortedKeys {
+
+        static final SortedKeys EMPTY = new SortedKeys(new String[0], new long[0]);
+
+        record Entry(String key, long topicId) implements Comparable<Entry> {
+            @Override
+            public int compareTo(Entry other) {
+                int cmp = key.compareTo(other.key);
+                return cmp != 0 ? cmp : Long.compare(topicId, other.topicId);
+            }
+        }
+
+        final String[] keys;
+        final long[] topicIds;
+
+        SortedKeys(String[] keys, long[] topicIds) {
+            this.keys = keys;
+            this.topicIds = topicIds;
+        }
+
+        /**
+         * Walk all keys starting with prefix, adding topic ids until limit distinct ids are collected.
+         */
+        void collect(String prefix, int limit, Set<Long> ids) {
+            for (int i = lowerBound(prefix); i < keys.length && ids.size() < limit; i++) {
+                if (!keys[i].startsWith(prefix)) {
+                    break;
+                }
+                ids.add(topicIds[i]);
+            }
+        }
+
+        /**
+         * Binary search for the first key >= prefix.
+         */
+        private int lowerBound(String prefix) {
+            int lo = 0;
+            int hi = keys.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (keys[mid].compareTo(prefix) < 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        /**
+         * Copy without the contiguous run of entries whose key is exactly key.
+         */
+        SortedKeys without(String key) {
+            int from = lowerBound(key);
+            int to = from;
+            while (to < keys.length && keys[to].equals(key)) {
+                to++;
+            }
+            if (from == to) {
+                return this;
+            }
+            String[] newKeys = new String[keys.length - (to - from)];
+            long[] newIds = new long[newKeys.length];
+            System.arraycopy(keys, 0, newKeys, 0, from);
+            System.arraycopy(keys, to, newKeys, from, keys.length - to);
+            System.arraycopy(topicIds, 0, newIds, 0, from);
+            System.arraycopy(topicIds, to, newIds, from, topicIds.length - to);
+            return new SortedKeys(newKeys, newIds);
+        }
+
+        /**
+         * Linear merge: keep existing entries whose topic is not dropped, interleave the new ones.
+         */
+        SortedKeys merge(Set<Long> droppedIds, List<Entry> added) {
+            Collections.sort(added);
+            String[] newKeys = new String[keys.length + added.size()];
+            long[] newIds = new long[newKeys.length];
+            int i = 0;
+            int j = 0;
+            int n = 0;
+            while (i < keys.length || j < added.size()) {
+                if (i < keys.length && droppedIds.contains(topicIds[i])) {
+                    i++;
+                    continue;
+                }
+                boolean takeExisting = j >= added.size()
+                        || (i < keys.length && new Entry(keys[i], topicIds[i]).compareTo(added.get(j)) <= 0);
+                if (takeExisting) {
+                    newKeys[n] = keys[i];
+                    newIds[n++] = topicIds[i++];
+                } else {
+                    Entry entry = added.get(j++);
+                    newKeys[n] = entry.key();
+                    newIds[n++] = entry.topicId();
+                }
+            }
+            return new SortedKeys(Arrays.copyOf(newKeys, n), Arrays.copyOf(newIds, n));
+        }
+    }
+}
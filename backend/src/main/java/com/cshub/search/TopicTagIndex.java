@@ -0,0 +1,499 @@
+package com.cshub.search;
+
+import com.cshub.dto.TagDTO;
+import com.cshub.dto.TopicDTO;
+import com.cshub.dto.TopicNavDTO;
+import com.cshub.entity.Tag;
+import com.cshub.event.TagChangedEvent;
+import com.cshub.event.TopicBulkChangedEvent;
+import com.cshub.event.TopicChangedEvent;
+import com.cshub.repository.TagRepository;
+import com.cshub.repository.TopicRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory tag bitmap index for multi-tag filtering ("Graph AND Algorithm NOT Advanced").
+ * Demonstrates DSA: One bitmap per tag over dense topic ordinals; boolean tag expressions
+ * become word-at-a-time AND / OR / AND-NOT over long[] words.
+ *
+ * Ordinals are assigned in topic id order, so walking a result bitmap from low to high bits
+ * yields topics sorted by id and keyset paging is a binary search plus nextSetBit.
+ * New topics normally get the next sequence id and are appended; anything that would break
+ * the order (an older id reappearing) or too many deleted ordinals triggers an in-memory compaction.
+ *
+ * Each ordinal also keeps the topic's navigation fields, so filtering never reads topic or topic_tags.
+ */
+@Component
+public class TopicTagIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TopicTagIndex.class);
+
+    private final TopicRepository topicRepository;
+    private final TagRepository tagRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // One rebuild at a time, so there is never more than one list of patches to replay
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // All fields below are guarded by lock
+    private final Map<String, BitSet> bitmapsByTag = new HashMap<>();
+    private final BitSet alive = new BitSet();
+    private long[] ids = new long[64];
+    private Row[] rows = new Row[64];
+    private int nextOrdinal;
+    // Non-null while a rebuild is reading the database: patches applied meanwhile, replayed over the reload
+    private List<Runnable> pendingPatches;
+    private volatile boolean ready;
+
+    public TopicTagIndex(TopicRepository topicRepository, TagRepository tagRepository) {
+        this.topicRepository = topicRepository;
+        this.tagRepository = tagRepository;
+    }
+
+    /**
+     * Build the index once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Patch the index after a topic write commits.
+     */
+    @TransactionalEventListener
+    public void onTopicChanged(TopicChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED, UPDATED -> index(event.getTopic());
+            case DELETED -> remove(event.getRemovedTopicIds());
+        }
+    }
+
+    /**
+     * A bulk import carries the topics it wrote; patch them all under one write lock.
+     */
+    @TransactionalEventListener
+    public void onTopicsBulkChanged(TopicBulkChangedEvent event) {
+        indexAll(event.getTopics());
+    }
+
+    /**
+     * Deleting a tag drops its bitmap and its id from every row that carried it.
+     */
+    @TransactionalEventListener
+    public void onTagChanged(TagChangedEvent event) {
+        if (event.getType() == TagChangedEvent.Type.DELETED) {
+            removeTag(event.getTagId(), event.getName());
+        }
+    }
+
+    /**
+     * Reload navigation rows and tag assignments (two narrow queries) and replace the index contents.
+     * The database is read without holding the index lock; patches that land meanwhile are recorded
+     * and re-applied over the reloaded rows, so a write committed during the read is never lost.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                pendingPatches = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            List<Row> loaded;
+            try {
+                loaded = readRows();
+            } catch (RuntimeException e) {
+                lock.writeLock().lock();
+                try {
+                    pendingPatches = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                throw e;
+            }
+
+            int tagCount;
+            lock.writeLock().lock();
+            try {
+                load(loaded);
+                pendingPatches.forEach(Runnable::run);
+                pendingPatches = null;
+                tagCount = bitmapsByTag.size();
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.info("Tag index built with {} topics and {} tags", loaded.size(), tagCount);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private List<Row> readRows() {
+        List<TopicNavDTO> topics = topicRepository.findAllNavigation();
+        Map<Long, String> tagNames = new HashMap<>();
+        for (Tag tag : tagRepository.findAll()) {
+            tagNames.put(tag.getId(), tag.getName());
+        }
+        Map<Long, List<Long>> tagIdsByTopic = new HashMap<>();
+        for (Object[] row : topicRepository.findAllTopicTagIds()) {
+            tagIdsByTopic.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((Long) row[1]);
+        }
+
+        List<Row> loaded = new ArrayList<>(topics.size());
+        for (TopicNavDTO topic : topics) {
+            List<Long> topicTagIds = tagIdsByTopic.getOrDefault(topic.getId(), List.of());
+            List<String> names = new ArrayList<>(topicTagIds.size());
+            for (Long tagId : topicTagIds) {
+                names.add(tagNames.get(tagId));
+            }
+            loaded.add(new Row(topic.getId(), topic.getTitle(), topic.getSlug(), topic.getParentId(),
+                    topic.getDisplayOrder(), toArray(topicTagIds), names.toArray(new String[0])));
+        }
+        return loaded;
+    }
+
+    /**
+     * Whether the initial build has completed.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Build the index if the startup build has not completed yet. Single-flight: callers that arrive
+     * while a build is running wait for it instead of starting their own corpus load.
+     */
+    public void ensureReady() {
+        if (ready) {
+            return;
+        }
+        rebuildLock.lock();
+        try {
+            if (!ready) {
+                rebuild();
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Add or replace a topic.
+     */
+    public void index(TopicDTO topic) {
+        if (topic == null || topic.getId() == null) {
+            return;
+        }
+        indexAll(List.of(topic));
+    }
+
+    /**
+     * Add or replace several topics under one write lock.
+     * New topics are applied in id order, so a batch of fresh ids only ever appends.
+     */
+    public void indexAll(Collection<TopicDTO> topics) {
+        List<Row> rows = new ArrayList<>(topics.size());
+        for (TopicDTO topic : topics) {
+            rows.add(toRow(topic));
+        }
+        rows.sort(Comparator.comparingLong(Row::id));
+
+        lock.writeLock().lock();
+        try {
+            patch(() -> {
+                List<Row> renumbered = new ArrayList<>();
+                for (Row row : rows) {
+                    int ordinal = ordinalOf(row.id());
+                    if (ordinal >= 0) {
+                        clearOrdinal(ordinal);
+                        setOrdinal(ordinal, row);
+                    } else if (nextOrdinal == 0 || row.id() > ids[nextOrdinal - 1]) {
+                        append(row);
+                    } else {
+                        renumbered.add(row);
+                    }
+                }
+                if (!renumbered.isEmpty()) {
+                    // Ids lower than the newest one: renumber once so ordinals stay in id order
+                    List<Row> all = liveRows();
+                    all.addAll(renumbered);
+                    load(all);
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Row toRow(TopicDTO topic) {
+        List<TagDTO> tags = topic.getTags() != null ? topic.getTags() : List.of();
+        long[] tagIds = new long[tags.size()];
+        String[] tagNames = new String[tags.size()];
+        for (int i = 0; i < tags.size(); i++) {
+            tagIds[i] = tags.get(i).getId();
+            tagNames[i] = tags.get(i).getName();
+        }
+        return new Row(topic.getId(), topic.getTitle(), topic.getSlug(), topic.getParentId(),
+                topic.getDisplayOrder() != null ? topic.getDisplayOrder() : 0, tagIds, tagNames);
+    }
+
+    /**
+     * Remove topics by id.
+     */
+    public void remove(Collection<Long> topicIds) {
+        lock.writeLock().lock();
+        try {
+            patch(() -> {
+                for (Long topicId : topicIds) {
+                    int ordinal = ordinalOf(topicId);
+                    if (ordinal >= 0) {
+                        clearOrdinal(ordinal);
+                    }
+                }
+                // Reclaim ordinals once more than half of them are dead
+                if (nextOrdinal > 64 && alive.cardinality() < nextOrdinal / 2) {
+                    load(liveRows());
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * One keyset page of topics carrying every tag in all, at least one tag in any (if given)
+     * and none of the tags in none, ordered by id. Tag names are matched exactly.
+     */
+    public List<TopicNavDTO> filter(Collection<String> all, Collection<String> any, Collection<String> none,
+                                    Long after, int limit) {
+        lock.readLock().lock();
+        try {
+            return page(evaluate(all, any, none), after, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The same page plus facet counts (how many matching topics carry each tag id) over the whole
+     * matching set. The expression is evaluated once, under one read lock, so the counts always
+     * describe the same index state as the page.
+     */
+    public FilterResult filterWithCounts(Collection<String> all, Collection<String> any, Collection<String> none,
+                                         Long after, int limit) {
+        lock.readLock().lock();
+        try {
+            BitSet matches = evaluate(all, any, none);
+            Map<Long, Long> counts = new HashMap<>();
+            for (int ord = matches.nextSetBit(0); ord >= 0; ord = matches.nextSetBit(ord + 1)) {
+                for (long tagId : rows[ord].tagIds()) {
+                    counts.merge(tagId, 1L, Long::sum);
+                }
+            }
+            return new FilterResult(page(matches, after, limit), counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of topics currently indexed.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return alive.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * A filter page together with the tag counts of every match.
+     */
+    public record FilterResult(List<TopicNavDTO> page, Map<Long, Long> tagCounts) {
+    }
+
+    // ---- internals, callers hold the lock ----
+
+    private List<TopicNavDTO> page(BitSet matches, Long after, int limit) {
+        int from = after != null ? firstOrdinalAfter(after) : 0;
+        List<TopicNavDTO> page = new ArrayList<>(Math.min(limit, 64));
+        for (int ord = matches.nextSetBit(from); ord >= 0 && page.size() < limit; ord = matches.nextSetBit(ord + 1)) {
+            page.add(rows[ord].toNavDTO());
+        }
+        return page;
+    }
+
+    /**
+     * (AND of all) AND (OR of any) AND NOT (OR of none); with no all/any terms, start from every live topic.
+     */
+    private BitSet evaluate(Collection<String> all, Collection<String> any, Collection<String> none) {
+        BitSet result = (BitSet) alive.clone();
+        for (String tag : all) {
+            BitSet bitmap = bitmapsByTag.get(tag);
+            if (bitmap == null) {
+                return new BitSet();
+            }
+            result.and(bitmap);
+        }
+        if (!any.isEmpty()) {
+            BitSet union = new BitSet();
+            for (String tag : any) {
+                BitSet bitmap = bitmapsByTag.get(tag);
+                if (bitmap != null) {
+                    union.or(bitmap);
+                }
+            }
+            result.and(union);
+        }
+        for (String tag : none) {
+            BitSet bitmap = bitmapsByTag.get(tag);
+            if (bitmap != null) {
+                result.andNot(bitmap);
+            }
+        }
+        return result;
+    }
+
+    private void removeTag(Long tagId, String tagName) {
+        lock.writeLock().lock();
+        try {
+            patch(() -> {
+                BitSet bitmap = bitmapsByTag.remove(tagName);
+                if (bitmap == null) {
+                    return;
+                }
+                for (int ord = bitmap.nextSetBit(0); ord >= 0; ord = bitmap.nextSetBit(ord + 1)) {
+                    rows[ord] = rows[ord].withoutTag(tagId);
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void patch(Runnable patch) {
+        patch.run();
+        if (pendingPatches != null) {
+            pendingPatches.add(patch);
+        }
+    }
+
+    private void load(List<Row> loaded) {
+        loaded.sort(Comparator.comparingLong(Row::id));
+        bitmapsByTag.clear();
+        alive.clear();
+        int capacity = Math.max(64, loaded.size());
+        ids = new long[capacity];
+        rows = new Row[capacity];
+        nextOrdinal = 0;
+        for (Row row : loaded) {
+            append(row);
+        }
+    }
+
+    private void append(Row row) {
+        if (nextOrdinal == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+            rows = Arrays.copyOf(rows, rows.length * 2);
+        }
+        ids[nextOrdinal] = row.id();
+        setOrdinal(nextOrdinal++, row);
+    }
+
+    private void setOrdinal(int ordinal, Row row) {
+        rows[ordinal] = row;
+        alive.set(ordinal);
+        for (String tag : row.tagNames()) {
+            bitmapsByTag.computeIfAbsent(tag, k -> new BitSet()).set(ordinal);
+        }
+    }
+
+    private void clearOrdinal(int ordinal) {
+        for (String tag : rows[ordinal].tagNames()) {
+            BitSet bitmap = bitmapsByTag.get(tag);
+            if (bitmap != null) {
+                bitmap.clear(ordinal);
+                if (bitmap.isEmpty()) {
+                    bitmapsByTag.remove(tag);
+                }
+            }
+        }
+        alive.clear(ordinal);
+    }
+
+    private List<Row> liveRows() {
+        List<Row> live = new ArrayList<>(alive.cardinality() + 1);
+        for (int ord = alive.nextSetBit(0); ord >= 0; ord = alive.nextSetBit(ord + 1)) {
+            live.add(rows[ord]);
+        }
+        return live;
+    }
+
+    /**
+     * Ordinal of a live topic id, or -1.
+     */
+    private int ordinalOf(long topicId) {
+        int ordinal = Arrays.binarySearch(ids, 0, nextOrdinal, topicId);
+        return ordinal >= 0 && alive.get(ordinal) ? ordinal : -1;
+    }
+
+    /**
+     * First ordinal whose id is greater than the cursor.
+     */
+    private int firstOrdinalAfter(long after) {
+        int ordinal = Arrays.binarySearch(ids, 0, nextOrdinal, after);
+        return ordinal >= 0 ? ordinal + 1 : -ordinal - 1;
+    }
+
+    private static long[] toArray(List<Long> values) {
+        long[] array = new long[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+
+    /**
+     * Navigation fields of one topic, immutable.
+     */
+    private record Row(long id, String title, String slug, Long parentId, int displayOrder,
+                       long[] tagIds, String[] tagNames) {
+
+        TopicNavDTO toNavDTO() {
+            TopicNavDTO dto = new TopicNavDTO(id, title, slug, parentId, displayOrder);
+            for (long tagId : tagIds) {
+                dto.getTagIds().add(tagId);
+            }
+            return dto;
+        }
+
+        Row withoutTag(Long tagId) {
+            List<Long> keptIds = new ArrayList<>();
+            List<String> keptNames = new ArrayList<>();
+            for (int i = 0; i < tagIds.length; i++) {
+                if (tagIds[i] != tagId) {
+                    keptIds.add(tagIds[i]);
+                    keptNames.add(tagNames[i]);
+                }
+            }
+            return new Row(id, title, slug, parentId, displayOrder, toArray(keptIds), keptNames.toArray(new String[0]));
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.cshub.service;
+
+import com.cshub.cache.TopicTreeCache;
+import com.cshub.dto.ChangeNotificationDTO;
+import com.cshub.event.TagChangedEvent;
+import com.cshub.event.TopicBulkChangedEvent;
+import com.cshub.event.TopicChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes committed topic and tag changes to open server-sent event streams, so clients
+ * re-fetch the tree when it changes instead of polling it.
+ * Demonstrates concurrency: fan-out through bounded per-subscriber queues drained on a small thread pool.
+ *
+ * Publishing never blocks the committing thread. Each notification is serialized once and offered to
+ * every subscriber's queue; a subscriber whose queue is full is a slow consumer and is disconnected
+ * rather than buffered without limit. Its EventSource reconnects, receives a "ready" event with the
+ * current tree version and re-syncs from there, so a drop loses no information.
+ * Writes to one connection happen on one sender thread at a time, in order. A write to a dead peer
+ * can hold its sender thread until the container's write timeout, which is why there are several.
+ */
+@Service
+public class ChangeStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeStreamService.class);
+
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("keep-alive").build();
+
+    private final TopicTreeCache topicTreeCache;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private final ExecutorService sender;
+    private final ScheduledExecutorService heartbeat;
+
+    public ChangeStreamService(TopicTreeCache topicTreeCache, ObjectMapper objectMapper,
+                               @Value("${cshub.sse.buffer-size:64}") int bufferSize,
+                               @Value("${cshub.sse.max-subscribers:1000}") int maxSubscribers,
+                               @Value("${cshub.sse.timeout:30m}") Duration timeout,
+                               @Value("${cshub.sse.heartbeat-interval:15s}") Duration heartbeatInterval,
+                               @Value("${cshub.sse.sender-threads:4}") int senderThreads) {
+        this.topicTreeCache = topicTreeCache;
+        this.objectMapper = objectMapper;
+        this.bufferSize = Math.max(1, bufferSize);
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeout.toMillis();
+        this.sender = Executors.newFixedThreadPool(Math.max(1, senderThreads), daemonThreads("sse-sender-"));
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(daemonThreads("sse-heartbeat-"));
+        long period = heartbeatInterval.toMillis();
+        heartbeat.scheduleAtFixedRate(() -> broadcast(HEARTBEAT), period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Open a stream, or return null when the subscriber limit is reached.
+     * The first event is "ready" with the current tree version.
+     */
+    public SseEmitter subscribe() {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return null;
+        }
+        SseEmitter emitter = newEmitter();
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        emitter.onTimeout(() -> {
+            remove(subscriber);
+            subscriber.close();
+        });
+
+        // Queue "ready" before joining the broadcast set so it is always the first event
+        subscriber.offer(event("ready", new ChangeNotificationDTO("READY", null, null, null, topicTreeCache.getVersion())));
+        subscribers.add(subscriber);
+        subscriber.signal();
+        logger.debug("Change stream opened ({} subscribers)", subscriberCount.get());
+        return emitter;
+    }
+
+    /**
+     * Runs after TopicService has invalidated the tree, so treeVersion is the version clients will fetch.
+     */
+    @TransactionalEventListener
+    @Order(TopicService.TREE_REFRESH_ORDER + 1)
+    public void onTopicChanged(TopicChangedEvent event) {
+        broadcast(event("change", new ChangeNotificationDTO("TOPIC_" + event.getType().name(),
+                event.getTopicId(), event.getSlug(), null, topicTreeCache.getVersion())));
+    }
+
+    /**
+     * One notification per bulk import, whatever its size.
+     */
+    @TransactionalEventListener
+    @Order(TopicService.TREE_REFRESH_ORDER + 1)
+    public void onTopicsBulkChanged(TopicBulkChangedEvent event) {
+        broadcast(event("change", new ChangeNotificationDTO("TOPICS_BULK_CHANGED",
+                null, null, null, topicTreeCache.getVersion())));
+    }
+
+    @TransactionalEventListener
+    @Order(TopicService.TREE_REFRESH_ORDER + 1)
+    public void onTagChanged(TagChangedEvent event) {
+        broadcast(event("change", new ChangeNotificationDTO("TAG_" + event.getType().name(),
+                null, null, event.getTagId(), topicTreeCache.getVersion())));
+    }
+
+    /**
+     * Open streams right now.
+     */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * Streams closed so far because their client could not keep up.
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        subscribers.forEach(subscriber -> {
+            remove(subscriber);
+            subscriber.close();
+        });
+        sender.shutdown();
+    }
+
+    /**
+     * Hand one pre-built event to every subscriber; never blocks.
+     */
+    void broadcast(Set<DataWithMediaType> event) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.offer(event)) {
+                subscriber.signal();
+            } else if (remove(subscriber)) {
+                dropped.incrementAndGet();
+                logger.info("Dropping slow change stream subscriber ({} events buffered)", bufferSize);
+                subscriber.close();
+            }
+        }
+    }
+
+    /**
+     * Emitter for a new stream; tests substitute one that records what is sent.
+     */
+    SseEmitter newEmitter() {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private Set<DataWithMediaType> event(String name, ChangeNotificationDTO notification) {
+        try {
+            return SseEmitter.event().name(name).data(objectMapper.writeValueAsString(notification)).build();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean remove(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * One open stream: a bounded queue plus a flag that keeps at most one drain task scheduled.
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> buffer;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        boolean offer(Set<DataWithMediaType> event) {
+            return !closed && buffer.offer(event);
+        }
+
+        /**
+         * Stop sending and complete the emitter from the sender thread, which may be mid-write.
+         */
+        void close() {
+            closed = true;
+            buffer.clear();
+            signal();
+        }
+
+        void signal() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // Shutting down
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> event;
+                while (!closed && (event = buffer.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away or the emitter already completed
+                closed = true;
+                remove(this);
+            } finally {
+                scheduled.set(false);
+            }
+            if (closed) {
+                try {
+                    emitter.complete();
+                } catch (IllegalStateException e) {
+                    // Already completed
+                }
+            } else if (!buffer.isEmpty()) {
+                signal();
+            }
+        }
+    }
+}
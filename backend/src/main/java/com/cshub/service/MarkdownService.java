@@ -0,0 +1,152 @@
+package com.cshub.service;
+
+import com.cshub.entity.TocEntry;
+import org.commonmark.Extension;
+import org.commonmark.ext.gfm.strikethrough.StrikethroughExtension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.node.AbstractVisitor;
+import org.commonmark.node.Code;
+import org.commonmark.node.HardLineBreak;
+import org.commonmark.node.Heading;
+import org.commonmark.node.Node;
+import org.commonmark.node.SoftLineBreak;
+import org.commonmark.node.Text;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.safety.Safelist;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Renders topic markdown to sanitized HTML and extracts a heading-based table of contents.
+ * Called on topic writes, so the rendering cost is paid once per edit instead of once per page view.
+ *
+ * Headings get stable, unique ids derived from their text ("Big O" -> "big-o", then "big-o-1"),
+ * which the table of contents links to. Raw HTML in the markdown is passed through the parser
+ * and then cleaned with a jsoup safelist, so scripts, event handlers and javascript: links never
+ * reach the browser. Fenced code keeps its "language-xyz" class for client-side styling.
+ */
+@Service
+public class MarkdownService {
+
+    private static final List<Extension> EXTENSIONS = List.of(TablesExtension.create(), StrikethroughExtension.create());
+
+    // Only used to resolve relative links while sanitizing; relative links are kept relative
+    private static final String BASE_URI = "https://cshub.invalid/";
+
+    private final Parser parser = Parser.builder().extensions(EXTENSIONS).build();
+
+    private final Safelist safelist = Safelist.relaxed()
+            .addTags("del", "hr")
+            .addAttributes("h1", "id").addAttributes("h2", "id").addAttributes("h3", "id")
+            .addAttributes("h4", "id").addAttributes("h5", "id").addAttributes("h6", "id")
+            .addAttributes("code", "class")
+            .addAttributes("th", "align").addAttributes("td", "align")
+            .preserveRelativeLinks(true);
+
+    /**
+     * Rendered form of one markdown document.
+     */
+    public record Rendered(String html, List<TocEntry> toc) {
+    }
+
+    /**
+     * Render markdown to sanitized HTML plus its table of contents.
+     */
+    public Rendered render(String markdown) {
+        if (markdown == null || markdown.isBlank()) {
+            return new Rendered("", List.of());
+        }
+        Node document = parser.parse(markdown);
+
+        // Assign heading ids up front so the TOC and the rendered ids agree
+        Map<Node, String> headingIds = new IdentityHashMap<>();
+        List<TocEntry> toc = new ArrayList<>();
+        Set<String> usedIds = new HashSet<>();
+        document.accept(new AbstractVisitor() {
+            @Override
+            public void visit(Heading heading) {
+                String text = textOf(heading).trim();
+                String id = uniqueId(slugify(text), usedIds);
+                headingIds.put(heading, id);
+                toc.add(new TocEntry(heading.getLevel(), text, id));
+            }
+        });
+
+        HtmlRenderer renderer = HtmlRenderer.builder()
+                .extensions(EXTENSIONS)
+                .sanitizeUrls(true)
+                .attributeProviderFactory(context -> (node, tagName, attributes) -> {
+                    String id = headingIds.get(node);
+                    if (id != null) {
+                        attributes.put("id", id);
+                    }
+                })
+                .build();
+        String html = renderer.render(document);
+
+        Document.OutputSettings output = new Document.OutputSettings().prettyPrint(false);
+        return new Rendered(Jsoup.clean(html, BASE_URI, safelist, output), toc);
+    }
+
+    /**
+     * Plain text of a heading: literals of text and inline code, line breaks as spaces.
+     */
+    private static String textOf(Node heading) {
+        StringBuilder text = new StringBuilder();
+        heading.accept(new AbstractVisitor() {
+            @Override
+            public void visit(Text node) {
+                text.append(node.getLiteral());
+            }
+
+            @Override
+            public void visit(Code node) {
+                text.append(node.getLiteral());
+            }
+
+            @Override
+            public void visit(SoftLineBreak node) {
+                text.append(' ');
+            }
+
+            @Override
+            public void visit(HardLineBreak node) {
+                text.append(' ');
+            }
+        });
+        return text.toString();
+    }
+
+    /**
+     * Lower-case letters and digits joined by single hyphens, e.g. "Big-O & You!" -> "big-o-you".
+     */
+    static String slugify(String text) {
+        StringBuilder slug = new StringBuilder(text.length());
+        boolean pendingHyphen = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingHyphen && slug.length() > 0) {
+                    slug.append('-');
+                }
+                slug.append(Character.toLowerCase(c));
+                pendingHyphen = false;
+            } else {
+                pendingHyphen = true;
+            }
+        }
+        return slug.length() > 0 ? slug.toString() : "section";
+    }
+
+    private static String uniqueId(String base, Set<String> usedIds) {
+        String id = base;
+        for (int n = 1; !usedIds.add(id); n++) {
+            id = base + "-" + n;
+        }
+        return id;
+    }
+}
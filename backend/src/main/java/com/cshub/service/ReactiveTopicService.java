@@ -0,0 +1,287 @@
+package com.cshub.service;
+
+import com.cshub.dto.CursorPageDTO;
+import com.cshub.dto.TagDTO;
+import com.cshub.dto.TocEntryDTO;
+import com.cshub.dto.TopicDTO;
+import com.cshub.dto.TopicNavDTO;
+import com.cshub.exception.ResourceNotFoundException;
+import com.cshub.mapper.TopicMapper;
+import com.cshub.repository.ReactiveTopicRepository;
+import com.cshub.repository.ReactiveTopicRepository.TopicDetailRow;
+import com.cshub.repository.ReactiveTopicRepository.TopicTagRow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Read-only topic queries for the WebFlux stack ("reactive" profile).
+ * Demonstrates DSA: the same two-pass HashMap tree assembly as TopicService, fed by
+ * non-blocking row streams instead of JPA result lists.
+ *
+ * Nothing here blocks: a request holds no thread while it waits for the database, only a
+ * pooled connection. There is no tree snapshot or read cache on this path - every call
+ * goes to the database, which is what the servlet/reactive comparison measures.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveTopicService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveTopicService.class);
+
+    private static final TypeReference<List<TocEntryDTO>> TOC_TYPE = new TypeReference<>() {
+    };
+
+    private final ReactiveTopicRepository topicRepository;
+    private final TopicMapper topicMapper;
+    private final MarkdownService markdownService;
+    private final ObjectMapper objectMapper;
+
+    public ReactiveTopicService(ReactiveTopicRepository topicRepository, TopicMapper topicMapper,
+                                MarkdownService markdownService, ObjectMapper objectMapper) {
+        this.topicRepository = topicRepository;
+        this.topicMapper = topicMapper;
+        this.markdownService = markdownService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * The full topic tree with content and tags; topics and tag pairs are read concurrently.
+     */
+    public Mono<List<TopicDTO>> getTopicTree() {
+        logger.debug("Building topic tree (reactive)");
+        return Mono.zip(topicRepository.findAll().collectList(), topicRepository.findAllTopicTags().collectList())
+                .map(rows -> {
+                    List<TopicDTO> topics = rows.getT1();
+                    Map<Long, TopicDTO> topicMap = new HashMap<>(topics.size() * 2);
+                    for (TopicDTO topic : topics) {
+                        topicMap.put(topic.getId(), topic);
+                    }
+                    for (TopicTagRow row : rows.getT2()) {
+                        TopicDTO topic = topicMap.get(row.topicId());
+                        if (topic != null) {
+                            topic.getTags().add(row.tag());
+                        }
+                    }
+
+                    List<TopicDTO> roots = new ArrayList<>();
+                    for (TopicDTO topic : topics) {
+                        if (topic.getParentId() == null) {
+                            roots.add(topic);
+                        } else {
+                            TopicDTO parent = topicMap.get(topic.getParentId());
+                            if (parent != null) {
+                                parent.getChildren().add(topic);
+                            }
+                        }
+                    }
+                    roots.sort(Comparator.comparing(TopicDTO::getDisplayOrder));
+                    roots.forEach(this::sortChildren);
+                    return roots;
+                });
+    }
+
+    /**
+     * The navigation tree; rows arrive in display order, so appending keeps siblings sorted.
+     */
+    public Mono<List<TopicNavDTO>> getNavigationTree() {
+        logger.debug("Building navigation tree (reactive)");
+        return Mono.zip(topicRepository.findAllNavigation().collectList(), topicRepository.findAllTopicTags().collectList())
+                .map(rows -> {
+                    List<TopicNavDTO> nodes = rows.getT1();
+                    Map<Long, TopicNavDTO> nodeMap = new HashMap<>(nodes.size() * 2);
+                    for (TopicNavDTO node : nodes) {
+                        nodeMap.put(node.getId(), node);
+                    }
+                    for (TopicTagRow row : rows.getT2()) {
+                        TopicNavDTO node = nodeMap.get(row.topicId());
+                        if (node != null) {
+                            node.getTagIds().add(row.tag().getId());
+                        }
+                    }
+
+                    List<TopicNavDTO> roots = new ArrayList<>();
+                    for (TopicNavDTO node : nodes) {
+                        if (node.getParentId() == null) {
+                            roots.add(node);
+                        } else {
+                            TopicNavDTO parent = nodeMap.get(node.getParentId());
+                            if (parent != null) {
+                                parent.getChildren().add(node);
+                            }
+                        }
+                    }
+                    return roots;
+                });
+    }
+
+    /**
+     * Root topics (navigation fields only), one keyset page at a time.
+     */
+    public Mono<CursorPageDTO<TopicNavDTO>> getRootTopics(Long after, int size) {
+        return afterOrder(after)
+                .flatMap(order -> topicRepository.findRootNavigation(order, after != null ? after : 0L, size + 1).collectList())
+                .flatMap(fetched -> toNavPage(fetched, size));
+    }
+
+    /**
+     * Direct children of a topic (navigation fields only), one keyset page at a time.
+     */
+    public Mono<CursorPageDTO<TopicNavDTO>> getChildren(Long parentId, Long after, int size) {
+        return afterOrder(after)
+                .flatMap(order -> topicRepository.findChildrenNavigation(parentId, order, after != null ? after : 0L, size + 1)
+                        .collectList())
+                .flatMap(fetched -> {
+                    if (!fetched.isEmpty() || after != null) {
+                        return Mono.just(fetched);
+                    }
+                    return topicRepository.existsById(parentId)
+                            .flatMap(exists -> exists
+                                    ? Mono.just(fetched)
+                                    : Mono.error(new ResourceNotFoundException("Topic", "id", parentId)));
+                })
+                .flatMap(fetched -> toNavPage(fetched, size));
+    }
+
+    /**
+     * All topics, one keyset page at a time.
+     */
+    public Mono<CursorPageDTO<TopicDTO>> getAllTopics(Long after, int size) {
+        return toPage(topicRepository.findPage(after != null ? after : 0L, size + 1), size);
+    }
+
+    /**
+     * Keyword search in title or content, one keyset page at a time.
+     */
+    public Mono<CursorPageDTO<TopicDTO>> searchTopics(String keyword, Long after, int size) {
+        logger.debug("Searching topics with keyword: {} after {} (reactive)", keyword, after);
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return Mono.just(new CursorPageDTO<>(List.of(), null));
+        }
+        return toPage(topicRepository.search(keyword.trim(), after != null ? after : 0L, size + 1), size);
+    }
+
+    /**
+     * Topics carrying a tag, one keyset page at a time.
+     */
+    public Mono<CursorPageDTO<TopicDTO>> getTopicsByTag(String tagName, Long after, int size) {
+        return toPage(topicRepository.findByTagName(tagName, after != null ? after : 0L, size + 1), size);
+    }
+
+    /**
+     * A single topic by id, with markdown content or (html = true) the stored HTML and table of contents.
+     */
+    public Mono<TopicDTO> getTopicById(Long id, boolean html) {
+        return toDetail(topicRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Topic", "id", id))), html);
+    }
+
+    /**
+     * A single topic by slug, in either format.
+     */
+    public Mono<TopicDTO> getTopicBySlug(String slug, boolean html) {
+        return toDetail(topicRepository.findBySlug(slug)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Topic", "slug", slug))), html);
+    }
+
+    // ---- helpers ----
+
+    private Mono<TopicDTO> toDetail(Mono<TopicDetailRow> row, boolean html) {
+        return row.flatMap(detail -> attachTags(List.of(detail.topic()), TopicDTO::getId,
+                        (topic, tag) -> topic.getTags().add(tag))
+                .thenReturn(inFormat(detail, html)));
+    }
+
+    /**
+     * Keep either the markdown or the HTML and table of contents, like the servlet path does.
+     * Topics written before pre-rendering existed are rendered on the fly.
+     */
+    private TopicDTO inFormat(TopicDetailRow detail, boolean html) {
+        TopicDTO topic = detail.topic();
+        if (!html) {
+            return topic;
+        }
+        if (detail.contentHtml() != null) {
+            topic.setContentHtml(detail.contentHtml());
+            topic.setToc(parseToc(detail.toc()));
+        } else {
+            MarkdownService.Rendered rendered = markdownService.render(topic.getContent());
+            topic.setContentHtml(rendered.html());
+            topic.setToc(topicMapper.tocToDTO(rendered.toc()));
+        }
+        topic.setContent(null);
+        return topic;
+    }
+
+    private List<TocEntryDTO> parseToc(String toc) {
+        if (toc == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(toc, TOC_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Mono<Integer> afterOrder(Long after) {
+        if (after == null) {
+            return Mono.just(Integer.MIN_VALUE);
+        }
+        return topicRepository.findDisplayOrderById(after)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Unknown cursor: " + after)));
+    }
+
+    private Mono<CursorPageDTO<TopicDTO>> toPage(Flux<TopicDTO> fetched, int size) {
+        return fetched.collectList()
+                .map(topics -> CursorPageDTO.of(topics, size, TopicDTO::getId))
+                .flatMap(page -> attachTags(page.getItems(), TopicDTO::getId, (topic, tag) -> topic.getTags().add(tag))
+                        .thenReturn(page));
+    }
+
+    private Mono<CursorPageDTO<TopicNavDTO>> toNavPage(List<TopicNavDTO> fetched, int size) {
+        CursorPageDTO<TopicNavDTO> page = CursorPageDTO.of(fetched, size, TopicNavDTO::getId);
+        return attachTags(page.getItems(), TopicNavDTO::getId, (node, tag) -> node.getTagIds().add(tag.getId()))
+                .thenReturn(page);
+    }
+
+    /**
+     * Load the tags of a page of rows in one IN query and hand each to its row.
+     */
+    private <T> Mono<Void> attachTags(Collection<T> items, Function<T, Long> idOf,
+                                      BiConsumer<T, TagDTO> attach) {
+        if (items.isEmpty()) {
+            return Mono.empty();
+        }
+        Map<Long, T> byId = new HashMap<>(items.size() * 2);
+        for (T item : items) {
+            byId.put(idOf.apply(item), item);
+        }
+        return topicRepository.findTopicTags(byId.keySet())
+                .doOnNext(row -> attach.accept(byId.get(row.topicId()), row.tag()))
+                .then();
+    }
+
+    private void sortChildren(TopicDTO topic) {
+        if (!topic.getChildren().isEmpty()) {
+            topic.getChildren().sort(Comparator.comparing(TopicDTO::getDisplayOrder));
+            topic.getChildren().forEach(this::sortChildren);
+        }
+    }
+}
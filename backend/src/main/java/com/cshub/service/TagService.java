@@ -2,16 +2,21 @@ package com.cshub.service;
 
 import com.cshub.dto.TagDTO;
 import com.cshub.entity.Tag;
+import com.cshub.event.TagChangedEvent;
 import com.cshub.exception.DuplicateResourceException;
 import com.cshub.exception.ResourceNotFoundException;
 import com.cshub.mapper.TopicMapper;
 import com.cshub.repository.TagRepository;
+import com.cshub.repository.TagSetVersionView;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -25,10 +30,12 @@ public class TagService {
 
     private final TagRepository tagRepository;
     private final TopicMapper topicMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public TagService(TagRepository tagRepository, TopicMapper topicMapper) {
+    public TagService(TagRepository tagRepository, TopicMapper topicMapper, ApplicationEventPublisher eventPublisher) {
         this.tagRepository = tagRepository;
         this.topicMapper = topicMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -42,6 +49,36 @@ public class TagService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get all tags with the number of topics carrying each, most used first (one GROUP BY).
+     */
+    public List<TagDTO> getAllTagsWithCounts() {
+        logger.debug("Fetching all tags with topic counts");
+        return tagRepository.findAllWithTopicCounts();
+    }
+
+    /**
+     * Turn per-tag counts computed over a result set into facets: tags with their count, most frequent first.
+     * The counts are computed by the caller in one pass over the matching topics; this adds names and colors.
+     */
+    public List<TagDTO> toFacets(Map<Long, Long> countsByTagId) {
+        if (countsByTagId.isEmpty()) {
+            return List.of();
+        }
+        return tagRepository.findAllById(countsByTagId.keySet()).stream()
+                .map(tag -> new TagDTO(tag.getId(), tag.getName(), tag.getColor(), countsByTagId.get(tag.getId())))
+                .sorted(Comparator.comparing(TagDTO::getTopicCount).reversed().thenComparing(TagDTO::getName))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Strong ETag for the tag list. One aggregate query on the (small) tag table.
+     */
+    public String getTagsETag() {
+        TagSetVersionView version = tagRepository.getTagSetVersion();
+        return "\"tags-" + version.getCount() + "." + version.getMaxId() + "\"";
+    }
+
     /**
      * Get tag by ID.
      */
@@ -67,22 +104,25 @@ public class TagService {
         Tag savedTag = tagRepository.save(tag);
         
         logger.info("Tag created successfully with ID: {}", savedTag.getId());
+        eventPublisher.publishEvent(new TagChangedEvent(TagChangedEvent.Type.CREATED, savedTag.getId(), savedTag.getName()));
         return topicMapper.tagToDTO(savedTag);
     }
 
     /**
      * Delete a tag.
+     * The event carries the tag's name as well as its id.
      */
     @Transactional
     public void deleteTag(Long id) {
         logger.debug("Deleting tag with ID: {}", id);
 
-        if (!tagRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Tag", "id", id);
-        }
+        Tag tag = tagRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Tag", "id", id));
 
-        tagRepository.deleteById(id);
+        tagRepository.delete(tag);
         logger.info("Tag deleted successfully with ID: {}", id);
+        // Indexes keyed by tag name need the name to find the deleted tag's entries
+        eventPublisher.publishEvent(new TagChangedEvent(TagChangedEvent.Type.DELETED, id, tag.getName()));
     }
 }
 
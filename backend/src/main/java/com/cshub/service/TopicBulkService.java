@@ -0,0 +1,267 @@
+package com.cshub.service;
+
+import com.cshub.dto.BulkTopicItem;
+import com.cshub.dto.BulkTopicResultDTO;
+import com.cshub.dto.TopicDTO;
+import com.cshub.entity.Tag;
+import com.cshub.entity.Topic;
+import com.cshub.event.TopicBulkChangedEvent;
+import com.cshub.exception.ResourceNotFoundException;
+import com.cshub.mapper.TopicMapper;
+import com.cshub.repository.TagRepository;
+import com.cshub.repository.TopicRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * Bulk create/update of topics for content migrations.
+ * Demonstrates DBMS: Set-based lookups and JDBC batching instead of per-row round trips.
+ *
+ * createTopic costs one slug check, one parent lookup, one lookup per tag and one insert per topic.
+ * Here the whole batch is resolved with a few IN queries (existing slugs, parents by id, tags),
+ * parents referenced by slug inside the batch are ordered first with a topological sort, and the
+ * writes go out as JDBC batches (sequence ids, hibernate.jdbc.batch_size) in one transaction.
+ */
+@Service
+@Transactional(readOnly = true)
+public class TopicBulkService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TopicBulkService.class);
+
+    /**
+     * Bind parameters per IN query; keeps each statement well under driver limits.
+     */
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    private final TopicRepository topicRepository;
+    private final TagRepository tagRepository;
+    private final MarkdownService markdownService;
+    private final TopicMapper topicMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${cshub.bulk.max-topics:10000}")
+    private int maxTopics;
+
+    public TopicBulkService(TopicRepository topicRepository, TagRepository tagRepository,
+                            MarkdownService markdownService, TopicMapper topicMapper,
+                            ApplicationEventPublisher eventPublisher) {
+        this.topicRepository = topicRepository;
+        this.tagRepository = tagRepository;
+        this.markdownService = markdownService;
+        this.topicMapper = topicMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Create or update (matched by slug) every topic in the batch, all or nothing.
+     */
+    @Transactional
+    public BulkTopicResultDTO upsertTopics(List<BulkTopicItem> items) {
+        long start = System.nanoTime();
+        if (items.size() > maxTopics) {
+            throw new IllegalArgumentException("A bulk request may contain at most " + maxTopics + " topics");
+        }
+        logger.debug("Bulk upsert of {} topics", items.size());
+
+        Map<String, BulkTopicItem> itemsBySlug = new HashMap<>();
+        for (BulkTopicItem item : items) {
+            if (item.getParentId() != null && item.getParentSlug() != null) {
+                throw new IllegalArgumentException("Topic '" + item.getSlug() + "' has both parentId and parentSlug");
+            }
+            if (itemsBySlug.put(item.getSlug(), item) != null) {
+                throw new IllegalArgumentException("Duplicate slug in batch: " + item.getSlug());
+            }
+        }
+
+        // Set-based resolution: every slug (topics and parents), parent id and tag id in a few IN queries
+        Set<String> slugs = new HashSet<>(itemsBySlug.keySet());
+        Set<Long> parentIds = new HashSet<>();
+        Set<Long> tagIds = new HashSet<>();
+        for (BulkTopicItem item : items) {
+            if (item.getParentSlug() != null) {
+                slugs.add(item.getParentSlug());
+            }
+            if (item.getParentId() != null) {
+                parentIds.add(item.getParentId());
+            }
+            if (item.getTagIds() != null) {
+                tagIds.addAll(item.getTagIds());
+            }
+        }
+        Map<String, Topic> topicsBySlug = new HashMap<>();
+        for (List<String> chunk : chunks(slugs)) {
+            for (Topic topic : topicRepository.findBySlugIn(chunk)) {
+                topicsBySlug.put(topic.getSlug(), topic);
+            }
+        }
+        Map<Long, Topic> parentsById = new HashMap<>();
+        for (List<Long> chunk : chunks(parentIds)) {
+            for (Topic topic : topicRepository.findAllById(chunk)) {
+                parentsById.put(topic.getId(), topic);
+            }
+        }
+        Map<Long, Tag> tagsById = new HashMap<>();
+        for (List<Long> chunk : chunks(tagIds)) {
+            for (Tag tag : tagRepository.findAllById(chunk)) {
+                tagsById.put(tag.getId(), tag);
+            }
+        }
+
+        List<Long> createdIds = new ArrayList<>();
+        int updated = 0;
+        List<Topic> moved = new ArrayList<>();
+        for (BulkTopicItem item : parentsFirst(items, itemsBySlug)) {
+            Topic topic = topicsBySlug.get(item.getSlug());
+            boolean isNew = topic == null;
+            if (isNew) {
+                topic = new Topic();
+                topic.setSlug(item.getSlug());
+            }
+            boolean contentChanged = isNew || !Objects.equals(topic.getContent(), item.getContent())
+                    || topic.getContentHtml() == null;
+            topic.setTitle(item.getTitle());
+            topic.setContent(item.getContent());
+            topic.setDisplayOrder(item.getDisplayOrder() != null ? item.getDisplayOrder() : 0);
+            if (contentChanged) {
+                TopicService.renderContent(topic, markdownService);
+            }
+
+            Topic parent = resolveParent(item, topicsBySlug, parentsById);
+            Long oldParentId = topic.getParent() != null ? topic.getParent().getId() : null;
+            topic.setParent(parent);
+
+            topic.getTags().clear();
+            if (item.getTagIds() != null) {
+                for (Long tagId : item.getTagIds()) {
+                    Tag tag = tagsById.get(tagId);
+                    if (tag == null) {
+                        throw new ResourceNotFoundException("Tag", "id", tagId);
+                    }
+                    topic.getTags().add(tag);
+                }
+            }
+
+            if (isNew) {
+                // Parents were persisted first, so their paths are known when this one's is set on persist
+                topicRepository.save(topic);
+                topicsBySlug.put(topic.getSlug(), topic);
+                createdIds.add(topic.getId());
+            } else {
+                if (!Objects.equals(oldParentId, parent != null ? parent.getId() : null)) {
+                    moved.add(topic);
+                }
+                updated++;
+            }
+        }
+
+        if (!moved.isEmpty()) {
+            relocateMovedSubtrees(moved);
+        }
+        topicRepository.flush();
+
+        // The entities are already loaded with their tags, so listeners get DTOs instead of reloading
+        List<TopicDTO> topics = new ArrayList<>(items.size());
+        List<Long> ids = new ArrayList<>(items.size());
+        for (BulkTopicItem item : items) {
+            Topic topic = topicsBySlug.get(item.getSlug());
+            topics.add(topicMapper.toDTO(topic));
+            ids.add(topic.getId());
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        logger.info("Bulk upsert finished: {} created, {} updated, {} moved in {} ms",
+                createdIds.size(), updated, moved.size(), elapsedMillis);
+
+        eventPublisher.publishEvent(new TopicBulkChangedEvent(topics, createdIds));
+        return new BulkTopicResultDTO(createdIds.size(), updated, ids, elapsedMillis);
+    }
+
+    private Topic resolveParent(BulkTopicItem item, Map<String, Topic> topicsBySlug, Map<Long, Topic> parentsById) {
+        if (item.getParentSlug() != null) {
+            Topic parent = topicsBySlug.get(item.getParentSlug());
+            if (parent == null) {
+                throw new ResourceNotFoundException("Parent Topic", "slug", item.getParentSlug());
+            }
+            return parent;
+        }
+        if (item.getParentId() != null) {
+            Topic parent = parentsById.get(item.getParentId());
+            if (parent == null) {
+                throw new ResourceNotFoundException("Parent Topic", "id", item.getParentId());
+            }
+            return parent;
+        }
+        return null;
+    }
+
+    /**
+     * Order the batch so that a topic whose parent is given by slug within the batch comes after that parent.
+     * Demonstrates DSA: Topological sort (Kahn's algorithm) - O(n), and detects cycles.
+     */
+    private List<BulkTopicItem> parentsFirst(List<BulkTopicItem> items, Map<String, BulkTopicItem> itemsBySlug) {
+        Map<String, List<BulkTopicItem>> childrenBySlug = new HashMap<>();
+        Deque<BulkTopicItem> ready = new ArrayDeque<>();
+        for (BulkTopicItem item : items) {
+            String parentSlug = item.getParentSlug();
+            if (parentSlug != null && itemsBySlug.containsKey(parentSlug)) {
+                childrenBySlug.computeIfAbsent(parentSlug, k -> new ArrayList<>()).add(item);
+            } else {
+                ready.add(item);
+            }
+        }
+
+        List<BulkTopicItem> ordered = new ArrayList<>(items.size());
+        while (!ready.isEmpty()) {
+            BulkTopicItem item = ready.poll();
+            ordered.add(item);
+            ready.addAll(childrenBySlug.getOrDefault(item.getSlug(), List.of()));
+        }
+        if (ordered.size() != items.size()) {
+            throw new IllegalArgumentException("Parent references in the batch form a cycle");
+        }
+        return ordered;
+    }
+
+    /**
+     * Rewrite materialized paths for updated topics that changed parent.
+     * Field changes are flushed first; then each moved subtree is re-rooted with one prefix UPDATE,
+     * reading paths fresh so moves inside moved subtrees compose correctly.
+     */
+    private void relocateMovedSubtrees(List<Topic> moved) {
+        for (Topic topic : moved) {
+            // A new cycle has to pass through a moved topic: walk up from it looking for itself
+            Set<Long> seen = new HashSet<>();
+            for (Topic ancestor = topic.getParent(); ancestor != null; ancestor = ancestor.getParent()) {
+                if (ancestor.getId().equals(topic.getId()) || !seen.add(ancestor.getId())) {
+                    throw new IllegalArgumentException(
+                            "Topic '" + topic.getSlug() + "' cannot be moved under itself or one of its descendants");
+                }
+            }
+        }
+        topicRepository.flush();
+
+        for (Topic topic : moved) {
+            String oldPath = topicRepository.findPathById(topic.getId()).orElse(null);
+            String parentPath = topic.getParent() != null
+                    ? topicRepository.findPathById(topic.getParent().getId()).orElse(null)
+                    : "/";
+            if (oldPath != null && parentPath != null) {
+                topicRepository.movePathPrefix(oldPath, oldPath.length(), parentPath + topic.getId() + "/");
+            }
+        }
+    }
+
+    private static <T> List<List<T>> chunks(Collection<T> values) {
+        List<T> list = new ArrayList<>(values);
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < list.size(); i += IN_CHUNK_SIZE) {
+            chunks.add(list.subList(i, Math.min(i + IN_CHUNK_SIZE, list.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,114 @@
+package com.cshub.service;
+
+import com.cshub.dto.TagDTO;
+import com.cshub.entity.Tag;
+import com.cshub.entity.Topic;
+import com.cshub.mapper.TopicMapper;
+import com.cshub.repository.TagRepository;
+import com.cshub.repository.TopicRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Streams every topic to an output stream for export and indexing consumers.
+ * Demonstrates DBMS: Server-side cursors - memory stays flat no matter how large the table is.
+ *
+ * Rows are pulled through a fetch-size-tuned cursor, mapped, written and detached one at a time,
+ * so at most one fetch batch of entities is ever held in the persistence context.
+ */
+@Service
+@Transactional(readOnly = true)
+public class TopicExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TopicExportService.class);
+
+    /**
+     * How often the persistence context is cleared (drops parent proxies as well) and output is flushed.
+     */
+    private static final int BATCH_SIZE = 500;
+
+    private final TopicRepository topicRepository;
+    private final TagRepository tagRepository;
+    private final TopicMapper topicMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    public TopicExportService(TopicRepository topicRepository, TagRepository tagRepository, TopicMapper topicMapper,
+                              ObjectMapper objectMapper, EntityManager entityManager) {
+        this.topicRepository = topicRepository;
+        this.tagRepository = tagRepository;
+        this.topicMapper = topicMapper;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Write every topic as TopicDTO JSON.
+     *
+     * @param ndjson true for newline-delimited JSON (one object per line), false for a single JSON array
+     * @return number of topics written
+     */
+    public long exportTopics(OutputStream out, boolean ndjson) throws IOException {
+        logger.debug("Streaming all topics as {}", ndjson ? "NDJSON" : "JSON array");
+
+        // Tag assignments are small compared to content; resolving them up front
+        // avoids one lazy tags query per streamed row
+        Map<Long, List<TagDTO>> tagsByTopic = loadTagsByTopic();
+
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+        try (Stream<Topic> topics = topicRepository.streamAllOrderedById();
+             SequenceWriter sequence = ndjson
+                     ? writer.withRootValueSeparator("\n").writeValues(out)
+                     : writer.writeValuesAsArray(out)) {
+
+            Iterator<Topic> iterator = topics.iterator();
+            while (iterator.hasNext()) {
+                Topic topic = iterator.next();
+                sequence.write(topicMapper.toDTO(topic, tagsByTopic.getOrDefault(topic.getId(), List.of())));
+                entityManager.detach(topic);
+
+                if (++count % BATCH_SIZE == 0) {
+                    entityManager.clear();
+                    sequence.flush();
+                }
+            }
+
+            if (ndjson && count > 0) {
+                sequence.flush();
+                out.write('\n'); // NDJSON terminates every line, including the last
+            }
+        }
+
+        logger.info("Streamed {} topics", count);
+        return count;
+    }
+
+    private Map<Long, List<TagDTO>> loadTagsByTopic() {
+        Map<Long, TagDTO> tagsById = new HashMap<>();
+        for (Tag tag : tagRepository.findAll()) {
+            tagsById.put(tag.getId(), topicMapper.tagToDTO(tag));
+        }
+
+        Map<Long, List<TagDTO>> tagsByTopic = new HashMap<>();
+        for (Object[] row : topicRepository.findAllTopicTagIds()) {
+            TagDTO tag = tagsById.get((Long) row[1]);
+            if (tag != null) {
+                tagsByTopic.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add(tag);
+            }
+        }
+        return tagsByTopic;
+    }
+}
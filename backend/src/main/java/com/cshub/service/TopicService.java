@@ -1,20 +1,47 @@
 package com.cshub.service;
 
+import com.cshub.cache.TopicParentIndex;
+import com.cshub.cache.TopicReadCache;
+import com.cshub.cache.TopicTreeCache;
+import com.cshub.cache.TopicTreeSnapshot;
+import com.cshub.dto.BreadcrumbDTO;
+import com.cshub.dto.CacheStatsDTO;
 import com.cshub.dto.CreateTopicRequest;
+import com.cshub.dto.CursorPageDTO;
+import com.cshub.dto.TagDTO;
 import com.cshub.dto.TopicDTO;
+import com.cshub.dto.TopicMatchDTO;
+import com.cshub.dto.TopicNavDTO;
+import com.cshub.dto.TopicSuggestionDTO;
 import com.cshub.entity.Tag;
 import com.cshub.entity.Topic;
+import com.cshub.event.TagChangedEvent;
+import com.cshub.event.TopicBulkChangedEvent;
+import com.cshub.event.TopicChangedEvent;
 import com.cshub.exception.DuplicateResourceException;
 import com.cshub.exception.ResourceNotFoundException;
 import com.cshub.mapper.TopicMapper;
 import com.cshub.repository.TagRepository;
+import com.cshub.repository.TopicContentView;
 import com.cshub.repository.TopicRepository;
+import com.cshub.repository.TopicSubtreeRow;
+import com.cshub.search.TopicSearchIndex;
+import com.cshub.search.TopicSuggestIndex;
+import com.cshub.search.TopicTagIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 /**
@@ -27,14 +54,66 @@ public class TopicService {
 
     private static final Logger logger = LoggerFactory.getLogger(TopicService.class);
 
+    /**
+     * Upper bound for ranked search results.
+     */
+    public static final int MAX_SEARCH_LIMIT = 100;
+
+    /**
+     * Upper bound for autocomplete suggestions.
+     */
+    public static final int MAX_SUGGEST_LIMIT = 20;
+
+    /**
+     * Upper bound on levels returned by a subtree request (also the default).
+     */
+    public static final int MAX_SUBTREE_DEPTH = 32;
+
+    /**
+     * Order of the after-commit tree invalidation; listeners that report the new tree version run after it.
+     */
+    public static final int TREE_REFRESH_ORDER = 0;
+
+    /**
+     * Topics rendered per query by the startup backfill.
+     */
+    private static final int RENDER_BATCH_SIZE = 100;
+
     private final TopicRepository topicRepository;
     private final TagRepository tagRepository;
     private final TopicMapper topicMapper;
-
-    public TopicService(TopicRepository topicRepository, TagRepository tagRepository, TopicMapper topicMapper) {
+    private final TopicTreeCache topicTreeCache;
+    private final TopicReadCache topicReadCache;
+    private final TopicSearchIndex topicSearchIndex;
+    private final TopicSuggestIndex topicSuggestIndex;
+    private final TopicParentIndex topicParentIndex;
+    private final TopicTagIndex topicTagIndex;
+    private final TagService tagService;
+    private final MarkdownService markdownService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Single-flight tree rebuilds: concurrent misses wait for one build instead of each loading the corpus.
+    // ReentrantLock rather than synchronized, so a virtual thread waiting on the database does not pin its carrier.
+    private final ReentrantLock treeBuildLock = new ReentrantLock();
+    private final ReentrantLock navigationBuildLock = new ReentrantLock();
+
+    public TopicService(TopicRepository topicRepository, TagRepository tagRepository, TopicMapper topicMapper,
+                        TopicTreeCache topicTreeCache, TopicReadCache topicReadCache, TopicSearchIndex topicSearchIndex,
+                        TopicSuggestIndex topicSuggestIndex, TopicParentIndex topicParentIndex,
+                        TopicTagIndex topicTagIndex, TagService tagService, MarkdownService markdownService,
+                        ApplicationEventPublisher eventPublisher) {
         this.topicRepository = topicRepository;
         this.tagRepository = tagRepository;
         this.topicMapper = topicMapper;
+        this.topicTreeCache = topicTreeCache;
+        this.topicReadCache = topicReadCache;
+        this.topicSearchIndex = topicSearchIndex;
+        this.topicSuggestIndex = topicSuggestIndex;
+        this.topicParentIndex = topicParentIndex;
+        this.topicTagIndex = topicTagIndex;
+        this.tagService = tagService;
+        this.markdownService = markdownService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -48,10 +127,130 @@ public class TopicService {
      * 
      * Interview Answer:
      * "I fetch all topics in a single query to avoid the N+1 select problem,
-     * then reconstruct the tree in memory using a HashMap (O(n) time complexity)."
+     * then reconstruct the tree in memory using a HashMap (O(n) time complexity).
+     * The result is kept as an immutable snapshot, so repeated reads never touch the database."
+     *
+     * Runs with SUPPORTS so a snapshot hit does not even open a transaction (and borrow a connection).
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<TopicDTO> getTopicTree() {
+        return getTopicTreeSnapshot().getRoots();
+    }
+
+    /**
+     * Get the current tree snapshot (roots plus the version they were built at).
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public TopicTreeSnapshot<TopicDTO> getTopicTreeSnapshot() {
+        TopicTreeSnapshot<TopicDTO> snapshot = topicTreeCache.getSnapshot();
+        if (snapshot != null) {
+            return snapshot;
+        }
+        treeBuildLock.lock();
+        try {
+            // Whoever held the lock may just have published the snapshot we were missing
+            snapshot = topicTreeCache.getSnapshot();
+            return snapshot != null ? snapshot : buildTopicTree();
+        } finally {
+            treeBuildLock.unlock();
+        }
+    }
+
+    /**
+     * Get the topic tree with navigation fields only (no content, no timestamps).
+     * This is all the sidebar needs, and it is a fraction of the full tree's payload.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<TopicNavDTO> getNavigationTree() {
+        return getNavigationTreeSnapshot().getRoots();
+    }
+
+    /**
+     * Get the current navigation tree snapshot (roots plus the version they were built at).
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public TopicTreeSnapshot<TopicNavDTO> getNavigationTreeSnapshot() {
+        TopicTreeSnapshot<TopicNavDTO> snapshot = topicTreeCache.getNavigationSnapshot();
+        if (snapshot != null) {
+            return snapshot;
+        }
+        navigationBuildLock.lock();
+        try {
+            snapshot = topicTreeCache.getNavigationSnapshot();
+            return snapshot != null ? snapshot : buildNavigationTree();
+        } finally {
+            navigationBuildLock.unlock();
+        }
+    }
+
+    /**
+     * Strong ETag for a tree view ("tree" or "nav") at the given version.
+     * Pass the current version to answer If-None-Match without touching the tree at all.
+     */
+    public String getTreeETag(String view, long version) {
+        return topicTreeCache.etag(view, version);
+    }
+
+    /**
+     * Current tree version; every committed topic or tag write bumps it.
+     */
+    public long getTreeVersion() {
+        return topicTreeCache.getVersion();
+    }
+
+    /**
+     * Strong ETag for one representation (markdown or html) of a topic that is about to be served.
+     * Derived from the DTO itself, so the tag always matches the body it is sent with.
+     * Tag ids are part of it because a deleted tag changes the topic's representation without touching its row.
+     */
+    public String getTopicETag(TopicDTO topic, boolean html) {
+        long[] tagIds = topic.getTags().stream().mapToLong(TagDTO::getId).sorted().toArray();
+        return "\"topic-" + (html ? "html-" : "") + topic.getId() + "-" + topic.getVersion()
+                + "-" + Integer.toHexString(Arrays.hashCode(tagIds)) + "\"";
+    }
+
+    /**
+     * Drop the tree snapshots once a topic write has been committed.
+     * Nothing is rebuilt here: the next reader of each view rebuilds it, once, so the writer never
+     * pays for a full-corpus load and a burst of writes costs one rebuild instead of one per write.
+     */
+    @TransactionalEventListener
+    @Order(TREE_REFRESH_ORDER)
+    public void onTopicChanged(TopicChangedEvent event) {
+        logger.debug("Invalidating topic tree after {}", event);
+        topicTreeCache.invalidate();
+    }
+
+    /**
+     * A bulk import invalidates the trees once, not once per topic.
+     */
+    @TransactionalEventListener
+    @Order(TREE_REFRESH_ORDER)
+    public void onTopicsBulkChanged(TopicBulkChangedEvent event) {
+        logger.debug("Invalidating topic tree after {}", event);
+        topicTreeCache.invalidate();
+    }
+
+    /**
+     * Tags are embedded in every tree node, so tag writes invalidate the tree too.
+     */
+    @TransactionalEventListener
+    @Order(TREE_REFRESH_ORDER)
+    public void onTagChanged(TagChangedEvent event) {
+        if (event.getType() == TagChangedEvent.Type.CREATED) {
+            return; // A new tag is not attached to any topic yet
+        }
+        logger.debug("Invalidating topic tree after {}", event);
+        topicTreeCache.invalidate();
+    }
+
+    /**
+     * Build the tree from the database and publish it as the current snapshot.
+     * The version is read first, so a write that commits while we are loading discards this snapshot.
+     */
+    private TopicTreeSnapshot<TopicDTO> buildTopicTree() {
         logger.debug("Building topic tree");
+        long version = topicTreeCache.getVersion();
 
         // Fetch all topics with their tags in ONE query (solves N+1 problem)
         List<Topic> allTopics = topicRepository.findAllWithTags();
@@ -86,12 +285,61 @@ public class TopicService {
         rootTopics.sort(Comparator.comparing(TopicDTO::getDisplayOrder));
         rootTopics.forEach(this::sortChildren);
 
-        logger.debug("Topic tree built with {} root topics", rootTopics.size());
-        return rootTopics;
+        TopicTreeSnapshot<TopicDTO> snapshot = new TopicTreeSnapshot<>(version, rootTopics);
+        topicTreeCache.publish(snapshot);
+
+        logger.debug("Topic tree version {} built with {} root topics", version, rootTopics.size());
+        return snapshot;
     }
 
     /**
-     * Recursively sort children by display order.
+     * Build the navigation tree from two narrow projection queries.
+     * Rows arrive ordered by display order, so appending to the parent keeps siblings sorted - no sort pass needed.
+     */
+    private TopicTreeSnapshot<TopicNavDTO> buildNavigationTree() {
+        logger.debug("Building navigation tree");
+        long version = topicTreeCache.getVersion();
+
+        List<TopicNavDTO> allNodes = topicRepository.findAllNavigation();
+        Map<Long, TopicNavDTO> nodeMap = new HashMap<>(allNodes.size() * 2);
+        for (TopicNavDTO node : allNodes) {
+            nodeMap.put(node.getId(), node);
+        }
+
+        for (Object[] row : topicRepository.findAllTopicTagIds()) {
+            TopicNavDTO node = nodeMap.get((Long) row[0]);
+            if (node != null) {
+                node.getTagIds().add((Long) row[1]);
+            }
+        }
+
+        List<TopicNavDTO> rootNodes = new ArrayList<>();
+        for (TopicNavDTO node : allNodes) {
+            if (node.getParentId() == null) {
+                rootNodes.add(node);
+            } else {
+                TopicNavDTO parent = nodeMap.get(node.getParentId());
+                if (parent != null) {
+                    parent.getChildren().add(node);
+                }
+            }
+        }
+
+        // Freeze the lists so the snapshot can be shared between requests
+        for (TopicNavDTO node : allNodes) {
+            node.setChildren(List.copyOf(node.getChildren()));
+            node.setTagIds(List.copyOf(node.getTagIds()));
+        }
+
+        TopicTreeSnapshot<TopicNavDTO> snapshot = new TopicTreeSnapshot<>(version, rootNodes);
+        topicTreeCache.publishNavigation(snapshot);
+
+        logger.debug("Navigation tree version {} built with {} nodes", version, allNodes.size());
+        return snapshot;
+    }
+
+    /**
+     * Recursively sort children by display order and freeze the children lists.
      * Demonstrates DSA: Recursion.
      */
     private void sortChildren(TopicDTO topic) {
@@ -99,56 +347,281 @@ public class TopicService {
             topic.getChildren().sort(Comparator.comparing(TopicDTO::getDisplayOrder));
             topic.getChildren().forEach(this::sortChildren); // Recursive call
         }
+        topic.setChildren(topic.getChildren() != null ? List.copyOf(topic.getChildren()) : List.of());
     }
 
     /**
      * Get a single topic by slug.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public TopicDTO getTopicBySlug(String slug) {
+        return getTopicBySlug(slug, false);
+    }
+
+    /**
+     * Get a single topic by slug, with markdown content or (html = true) pre-rendered HTML and table of contents.
+     * Served from TopicReadCache when possible; a miss costs one query with the tags fetched alongside.
+     * Runs with SUPPORTS so a cache hit does not open a transaction.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public TopicDTO getTopicBySlug(String slug, boolean html) {
+        long generation = topicReadCache.generation();
+        TopicDTO cached = topicReadCache.getBySlug(slug);
+        if (cached != null) {
+            return inFormat(cached, html);
+        }
         logger.debug("Fetching topic with slug: {}", slug);
-        Topic topic = topicRepository.findBySlug(slug)
+        Topic topic = topicRepository.findWithTagsBySlug(slug)
                 .orElseThrow(() -> new ResourceNotFoundException("Topic", "slug", slug));
-        return topicMapper.toDTO(topic);
+        TopicDTO dto = toCacheableDTO(topic);
+        topicReadCache.put(dto, generation);
+        return inFormat(dto, html);
     }
 
     /**
      * Get a single topic by ID.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public TopicDTO getTopicById(Long id) {
+        return getTopicById(id, false);
+    }
+
+    /**
+     * Get a single topic by ID in either format, through the same cache as by-slug reads.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public TopicDTO getTopicById(Long id, boolean html) {
+        long generation = topicReadCache.generation();
+        TopicDTO cached = topicReadCache.getById(id);
+        if (cached != null) {
+            return inFormat(cached, html);
+        }
         logger.debug("Fetching topic with ID: {}", id);
-        Topic topic = topicRepository.findById(id)
+        Topic topic = topicRepository.findWithTagsById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Topic", "id", id));
-        return topicMapper.toDTO(topic);
+        TopicDTO dto = toCacheableDTO(topic);
+        topicReadCache.put(dto, generation);
+        return inFormat(dto, html);
+    }
+
+    /**
+     * DTO with both representations, as kept in the read cache.
+     * Topics written before pre-rendering existed are rendered on the fly until the startup backfill reaches them.
+     */
+    private TopicDTO toCacheableDTO(Topic topic) {
+        TopicDTO dto = topicMapper.toDTO(topic);
+        if (topic.getContentHtml() != null) {
+            dto.setContentHtml(topic.getContentHtml());
+            dto.setToc(topicMapper.tocToDTO(topic.getToc()));
+        } else {
+            MarkdownService.Rendered rendered = markdownService.render(topic.getContent());
+            dto.setContentHtml(rendered.html());
+            dto.setToc(topicMapper.tocToDTO(rendered.toc()));
+        }
+        return dto;
     }
 
     /**
-     * Search topics by keyword.
+     * Copy of a cached topic carrying either the markdown or the HTML and table of contents, not both.
+     */
+    private static TopicDTO inFormat(TopicDTO full, boolean html) {
+        TopicDTO view = new TopicDTO(full.getId(), full.getTitle(), full.getSlug());
+        if (html) {
+            view.setContentHtml(full.getContentHtml());
+            view.setToc(full.getToc());
+        } else {
+            view.setContent(full.getContent());
+        }
+        view.setParentId(full.getParentId());
+        view.setDisplayOrder(full.getDisplayOrder());
+        view.setChildren(full.getChildren());
+        view.setTags(full.getTags());
+        view.setCreatedAt(full.getCreatedAt());
+        view.setUpdatedAt(full.getUpdatedAt());
+        view.setVersion(full.getVersion());
+        return view;
+    }
+
+    /**
+     * Render every topic that predates pre-rendering (content_html is null), in id-ordered batches.
+     * Uses an UPDATE statement, so versions and updated_at stay as they were.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void renderMissingContentHtml() {
+        long after = 0L;
+        int rendered = 0;
+        List<TopicContentView> batch;
+        do {
+            batch = topicRepository.findUnrenderedContent(after, Limit.of(RENDER_BATCH_SIZE));
+            for (TopicContentView topic : batch) {
+                MarkdownService.Rendered result = markdownService.render(topic.getContent());
+                topicRepository.updateRenderedContent(topic.getId(), result.html(), result.toc());
+                after = topic.getId();
+                rendered++;
+            }
+        } while (batch.size() == RENDER_BATCH_SIZE);
+        if (rendered > 0) {
+            topicReadCache.invalidateAll();
+            logger.info("Pre-rendered markdown for {} existing topics", rendered);
+        }
+    }
+
+    /**
+     * Pre-render a topic's markdown (HTML and table of contents) so reads never parse it.
+     */
+    static void renderContent(Topic topic, MarkdownService markdownService) {
+        MarkdownService.Rendered rendered = markdownService.render(topic.getContent());
+        topic.setContentHtml(rendered.html());
+        topic.setToc(rendered.toc());
+    }
+
+    /**
+     * Hit, miss and eviction counters of the single-topic read cache.
+     */
+    public CacheStatsDTO getTopicCacheStats() {
+        return topicReadCache.stats();
+    }
+
+    /**
+     * Search topics by keyword, one page at a time (keyset on id).
      * Demonstrates Algorithm: Search implementation.
+     *
+     * Served from the in-memory inverted index; the LIKE query is only used
+     * until the index has finished its initial build.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CursorPageDTO<TopicDTO> searchTopics(String keyword, Long after, int size) {
+        return searchTopics(keyword, after, size, false);
+    }
+
+    /**
+     * Search topics by keyword; with facets, the page also carries tag counts over every match.
+     * The index keeps each match's tag ids, so counting needs no query; only the page itself is loaded.
      */
-    public List<TopicDTO> searchTopics(String keyword) {
-        logger.debug("Searching topics with keyword: {}", keyword);
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CursorPageDTO<TopicDTO> searchTopics(String keyword, Long after, int size, boolean facets) {
+        logger.debug("Searching topics with keyword: {} after {}", keyword, after);
         
+        if (keyword == null || keyword.trim().isEmpty()) {
+            CursorPageDTO<TopicDTO> empty = new CursorPageDTO<>(Collections.emptyList(), null);
+            if (facets) {
+                empty.setFacets(List.of());
+            }
+            return empty;
+        }
+
+        long afterId = after != null ? after : 0L;
+        List<TopicDTO> fetched;
+        Map<Long, Long> counts = Map.of();
+        if (topicSearchIndex.isReady()) {
+            // The index only yields ids; content is loaded for the one page being returned
+            List<Long> matchIds = topicSearchIndex.search(keyword.trim());
+            List<Long> pageIds = matchIds.stream()
+                    .filter(id -> id > afterId)
+                    .limit(size + 1L)
+                    .collect(Collectors.toList());
+            fetched = getTopicsInOrder(pageIds);
+            if (facets) {
+                counts = topicSearchIndex.tagCounts(matchIds);
+            }
+        } else {
+            List<TopicDTO> matches = topicRepository.searchByKeyword(keyword.trim()).stream()
+                    .map(topicMapper::toDTO)
+                    .sorted(Comparator.comparing(TopicDTO::getId))
+                    .collect(Collectors.toList());
+            // Matches are ordered by id, so the page is the next size + 1 ids after the cursor
+            fetched = matches.stream()
+                    .filter(topic -> topic.getId() > afterId)
+                    .limit(size + 1L)
+                    .collect(Collectors.toList());
+            if (facets) {
+                counts = new HashMap<>();
+                for (TopicDTO topic : matches) {
+                    for (TagDTO tag : topic.getTags() != null ? topic.getTags() : List.<TagDTO>of()) {
+                        counts.merge(tag.getId(), 1L, Long::sum);
+                    }
+                }
+            }
+        }
+        CursorPageDTO<TopicDTO> page = CursorPageDTO.of(fetched, size, TopicDTO::getId);
+
+        if (facets) {
+            page.setFacets(tagService.toFacets(counts));
+        }
+        return page;
+    }
+
+    /**
+     * Load topics with their tags in one query, in the order of the given ids.
+     * Ids deleted since they were matched are skipped.
+     */
+    private List<TopicDTO> getTopicsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, TopicDTO> byId = topicRepository.findWithTagsByIdIn(ids).stream()
+                .collect(Collectors.toMap(Topic::getId, topicMapper::toDTO));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Autocomplete: topics whose title, slug or tag name starts with the prefix.
+     * Served entirely from memory by TopicSuggestIndex.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<TopicSuggestionDTO> suggestTopics(String prefix, int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_SUGGEST_LIMIT));
+        return topicSuggestIndex.suggest(prefix, boundedLimit);
+    }
+
+    /**
+     * Search topics with PostgreSQL full-text search, best matches first.
+     * Title matches outrank content matches; at most MAX_SEARCH_LIMIT results are returned.
+     */
+    public List<TopicDTO> searchTopicsRanked(String keyword, int limit) {
+        logger.debug("Full-text searching topics with keyword: {}", keyword);
+
         if (keyword == null || keyword.trim().isEmpty()) {
             return Collections.emptyList();
         }
 
-        List<Topic> topics = topicRepository.searchByKeyword(keyword.trim());
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+        List<Topic> topics = topicRepository.searchFullText(keyword.trim(), boundedLimit);
         return topics.stream()
                 .map(topicMapper::toDTO)
                 .collect(Collectors.toList());
     }
 
     /**
-     * Get topics by tag name.
+     * Fuzzy search on titles and slugs, closest matches first.
+     * Tolerates typos like "hashmpa" -> "HashMap"; cheap enough to run on every debounced keystroke.
      */
-    public List<TopicDTO> getTopicsByTag(String tagName) {
-        logger.debug("Fetching topics with tag: {}", tagName);
-        List<Topic> topics = topicRepository.findByTagName(tagName);
-        return topics.stream()
-                .map(topicMapper::toDTO)
+    public List<TopicMatchDTO> searchTopicsFuzzy(String keyword, int limit) {
+        logger.debug("Fuzzy searching topics with keyword: {}", keyword);
+
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+        return topicRepository.searchFuzzy(keyword.trim(), boundedLimit).stream()
+                .map(match -> new TopicMatchDTO(match.getId(), match.getTitle(), match.getSlug(), match.getScore()))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get topics by tag name, one page at a time (keyset on id).
+     */
+    public CursorPageDTO<TopicDTO> getTopicsByTag(String tagName, Long after, int size) {
+        logger.debug("Fetching topics with tag: {} after {}", tagName, after);
+        List<Topic> topics = topicRepository.findByTagName(tagName, after != null ? after : 0L, Limit.of(size + 1));
+        return toPage(topics, size);
+    }
+
     /**
      * Create a new topic.
      */
@@ -166,6 +639,7 @@ public class TopicService {
         topic.setSlug(request.getSlug());
         topic.setContent(request.getContent());
         topic.setDisplayOrder(request.getDisplayOrder() != null ? request.getDisplayOrder() : 0);
+        renderContent(topic, markdownService);
 
         // Set parent if provided
         if (request.getParentId() != null) {
@@ -185,10 +659,14 @@ public class TopicService {
             topic.setTags(tags);
         }
 
-        Topic savedTopic = topicRepository.save(topic);
+        // The path is set on persist (it ends with the sequence id), so this is a single INSERT.
+        // Flushed before mapping, so the DTO and the event carry the version the row was written with.
+        Topic savedTopic = topicRepository.saveAndFlush(topic);
         logger.info("Topic created successfully with ID: {}", savedTopic.getId());
-        
-        return topicMapper.toDTO(savedTopic);
+
+        TopicDTO createdTopic = topicMapper.toDTO(savedTopic);
+        eventPublisher.publishEvent(TopicChangedEvent.created(createdTopic));
+        return createdTopic;
     }
 
     /**
@@ -206,18 +684,36 @@ public class TopicService {
             throw new DuplicateResourceException("Topic", "slug", request.getSlug());
         }
 
+        // Re-render only when the markdown changed (or was never rendered)
+        boolean contentChanged = !Objects.equals(topic.getContent(), request.getContent()) || topic.getContentHtml() == null;
         topic.setTitle(request.getTitle());
         topic.setSlug(request.getSlug());
         topic.setContent(request.getContent());
         topic.setDisplayOrder(request.getDisplayOrder() != null ? request.getDisplayOrder() : 0);
+        if (contentChanged) {
+            renderContent(topic, markdownService);
+        }
 
         // Update parent if changed
+        Topic parent = null;
         if (request.getParentId() != null) {
-            Topic parent = topicRepository.findById(request.getParentId())
+            parent = topicRepository.findById(request.getParentId())
                     .orElseThrow(() -> new ResourceNotFoundException("Parent Topic", "id", request.getParentId()));
-            topic.setParent(parent);
-        } else {
-            topic.setParent(null);
+            if (isSameOrDescendant(parent, topic)) {
+                throw new IllegalArgumentException("A topic cannot be moved under itself or one of its descendants");
+            }
+        }
+        topic.setParent(parent);
+
+        // Reparenting: rewrite this topic's path and re-root every descendant in one prefix update
+        String oldPath = topic.getPath();
+        String newPath = Topic.childPath(parent, topic.getId());
+        if (!newPath.equals(oldPath)) {
+            topic.setPath(newPath);
+            if (oldPath != null) {
+                int moved = topicRepository.movePathPrefix(oldPath, oldPath.length(), newPath);
+                logger.debug("Moved {} descendants from {} to {}", moved, oldPath, newPath);
+            }
         }
 
         // Update tags
@@ -230,37 +726,262 @@ public class TopicService {
             }
         }
 
-        Topic updatedTopic = topicRepository.save(topic);
+        // Flushed before mapping, so the DTO and the event carry the bumped version (the ETag)
+        Topic updatedTopic = topicRepository.saveAndFlush(topic);
         logger.info("Topic updated successfully with ID: {}", updatedTopic.getId());
-        
-        return topicMapper.toDTO(updatedTopic);
+
+        TopicDTO updatedTopicDTO = topicMapper.toDTO(updatedTopic);
+        eventPublisher.publishEvent(TopicChangedEvent.updated(updatedTopicDTO));
+        return updatedTopicDTO;
     }
 
     /**
      * Delete a topic.
      * Cascading delete will remove all children.
+     * The cascade loads the children collections anyway, so collecting the removed ids is free.
      */
     @Transactional
     public void deleteTopic(Long id) {
         logger.debug("Deleting topic with ID: {}", id);
 
-        if (!topicRepository.existsById(id)) {
+        Topic topic = topicRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Topic", "id", id));
+
+        List<Long> removedIds = new ArrayList<>();
+        collectSubtreeIds(topic, removedIds);
+
+        topicRepository.delete(topic);
+        logger.info("Topic deleted successfully with ID: {} ({} topics removed)", id, removedIds.size());
+        eventPublisher.publishEvent(TopicChangedEvent.deleted(id, topic.getSlug(), removedIds));
+    }
+
+    /**
+     * True if candidate is the topic itself or lies in its subtree - a simple prefix test on the paths.
+     */
+    private static boolean isSameOrDescendant(Topic candidate, Topic topic) {
+        if (candidate.getId().equals(topic.getId())) {
+            return true;
+        }
+        return candidate.getPath() != null && topic.getPath() != null
+                && candidate.getPath().startsWith(topic.getPath());
+    }
+
+    /**
+     * Collect the ids of a topic and all its descendants (pre-order).
+     * Demonstrates DSA: Recursive tree traversal.
+     */
+    private void collectSubtreeIds(Topic topic, List<Long> ids) {
+        ids.add(topic.getId());
+        for (Topic child : topic.getChildren()) {
+            collectSubtreeIds(child, ids); // Recursive call
+        }
+    }
+
+    /**
+     * Filter topics by a tag expression: every tag in all, at least one in any, none of none.
+     * Evaluated in memory by TopicTagIndex with bitmap AND / OR / AND-NOT; topic_tags is not read.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CursorPageDTO<TopicNavDTO> filterTopicsByTags(List<String> all, List<String> any, List<String> none,
+                                                         Long after, int size) {
+        return filterTopicsByTags(all, any, none, after, size, false);
+    }
+
+    /**
+     * Filter by tag expression; with facets, the page also carries tag counts over the whole matching set,
+     * counted from the index rows in the same bitmap pass (no per-tag queries against topic_tags).
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CursorPageDTO<TopicNavDTO> filterTopicsByTags(List<String> all, List<String> any, List<String> none,
+                                                         Long after, int size, boolean facets) {
+        List<String> allTags = all != null ? all : List.of();
+        List<String> anyTags = any != null ? any : List.of();
+        List<String> noneTags = none != null ? none : List.of();
+        if (allTags.isEmpty() && anyTags.isEmpty() && noneTags.isEmpty()) {
+            throw new IllegalArgumentException("At least one of all, any or none is required");
+        }
+        logger.debug("Filtering topics: all={} any={} none={} after {}", allTags, anyTags, noneTags, after);
+
+        topicTagIndex.ensureReady();
+        if (!facets) {
+            return CursorPageDTO.of(topicTagIndex.filter(allTags, anyTags, noneTags, after, size + 1),
+                    size, TopicNavDTO::getId);
+        }
+        // Page and counts from one evaluation, so the facets describe exactly the matches being paged
+        TopicTagIndex.FilterResult result = topicTagIndex.filterWithCounts(allTags, anyTags, noneTags, after, size + 1);
+        CursorPageDTO<TopicNavDTO> page = CursorPageDTO.of(result.page(), size, TopicNavDTO::getId);
+        page.setFacets(tagService.toFacets(result.tagCounts()));
+        return page;
+    }
+
+    /**
+     * Get all topics (flat list), one page at a time.
+     * Keyset pagination: "WHERE id > :after ORDER BY id LIMIT n" stays an index range scan
+     * on the primary key no matter how deep the client pages, unlike OFFSET.
+     */
+    public CursorPageDTO<TopicDTO> getAllTopics(Long after, int size) {
+        logger.debug("Fetching topics after {}", after);
+        List<Topic> topics = topicRepository.findByIdGreaterThanOrderByIdAsc(after != null ? after : 0L, Limit.of(size + 1));
+        return toPage(topics, size);
+    }
+
+    /**
+     * Get the direct children of a topic (navigation fields only), one page at a time.
+     * For lazy sidebar expansion: ordered by displayOrder, keyset-paged on (displayOrder, id)
+     * so nodes with thousands of children are walked without OFFSET.
+     */
+    public CursorPageDTO<TopicNavDTO> getChildren(Long parentId, Long after, int size) {
+        logger.debug("Fetching children of topic {} after {}", parentId, after);
+        List<TopicNavDTO> children = topicRepository.findChildrenNavigation(
+                parentId, afterOrder(after), after != null ? after : 0L, Limit.of(size + 1));
+        if (children.isEmpty() && after == null && !topicRepository.existsById(parentId)) {
+            throw new ResourceNotFoundException("Topic", "id", parentId);
+        }
+        return toNavPage(children, size);
+    }
+
+    /**
+     * Get a topic and its descendants (navigation fields only), at most depth levels deep.
+     * One recursive CTE returns the rows already ordered by depth and displayOrder, so the
+     * tree is assembled in a single O(n) pass with a HashMap, the same way getTopicTree does it.
+     */
+    public TopicNavDTO getSubtree(Long id, Integer depth) {
+        int maxDepth = depth != null ? Math.max(0, Math.min(depth, MAX_SUBTREE_DEPTH)) : MAX_SUBTREE_DEPTH;
+        logger.debug("Fetching subtree of topic {} to depth {}", id, maxDepth);
+
+        List<TopicSubtreeRow> rows = topicRepository.findSubtree(id, maxDepth);
+        if (rows.isEmpty()) {
             throw new ResourceNotFoundException("Topic", "id", id);
         }
 
-        topicRepository.deleteById(id);
-        logger.info("Topic deleted successfully with ID: {}", id);
+        Map<Long, TopicNavDTO> nodeMap = new HashMap<>();
+        TopicNavDTO root = null;
+        for (TopicSubtreeRow row : rows) {
+            TopicNavDTO node = new TopicNavDTO(row.getId(), row.getTitle(), row.getSlug(),
+                    row.getParentId(), row.getDisplayOrder());
+            nodeMap.put(node.getId(), node);
+            if (root == null) {
+                root = node;
+            } else {
+                // Rows are depth-ordered: the parent is always already in the map
+                nodeMap.get(node.getParentId()).getChildren().add(node);
+            }
+        }
+
+        for (Object[] row : topicRepository.findTopicTagIdsByTopicIds(new ArrayList<>(nodeMap.keySet()))) {
+            nodeMap.get((Long) row[0]).getTagIds().add((Long) row[1]);
+        }
+        return root;
     }
 
     /**
-     * Get all topics (flat list).
+     * Get the ancestors of a topic (navigation fields only), root first.
+     * The ids come from parsing the topic's materialized path, so this is one row lookup
+     * plus one IN query, whatever the depth.
      */
-    public List<TopicDTO> getAllTopics() {
-        logger.debug("Fetching all topics");
-        List<Topic> topics = topicRepository.findAll();
-        return topics.stream()
+    public List<TopicNavDTO> getAncestors(Long id) {
+        logger.debug("Fetching ancestors of topic {}", id);
+        String path = topicRepository.findPathById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Topic", "id", id));
+
+        List<Long> pathIds = parsePath(path);
+        List<Long> ancestorIds = pathIds.subList(0, pathIds.size() - 1);
+        if (ancestorIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, TopicNavDTO> byId = new HashMap<>();
+        for (TopicNavDTO node : topicRepository.findNavigationByIds(ancestorIds)) {
+            byId.put(node.getId(), node);
+        }
+        return ancestorIds.stream()
+                .map(byId::get)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get the breadcrumb trail of a topic: its ancestors root first, then the topic itself.
+     * Answered from TopicParentIndex in O(depth) with no database access; until that index
+     * has been built, falls back to the topic's materialized path.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<BreadcrumbDTO> getBreadcrumbs(String slug) {
+        if (topicParentIndex.isReady()) {
+            List<BreadcrumbDTO> trail = topicParentIndex.breadcrumbs(slug);
+            if (trail == null) {
+                throw new ResourceNotFoundException("Topic", "slug", slug);
+            }
+            return trail;
+        }
+
+        Topic topic = topicRepository.findBySlug(slug)
+                .orElseThrow(() -> new ResourceNotFoundException("Topic", "slug", slug));
+        List<BreadcrumbDTO> trail = getAncestors(topic.getId()).stream()
+                .map(node -> new BreadcrumbDTO(node.getId(), node.getTitle(), node.getSlug()))
+                .collect(Collectors.toList());
+        trail.add(new BreadcrumbDTO(topic.getId(), topic.getTitle(), topic.getSlug()));
+        return trail;
+    }
+
+    /**
+     * Split a materialized path ("/1/7/42/") into its ids, root first.
+     */
+    private static List<Long> parsePath(String path) {
+        List<Long> ids = new ArrayList<>();
+        for (String segment : path.split("/")) {
+            if (!segment.isEmpty()) {
+                ids.add(Long.parseLong(segment));
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Get the root topics (navigation fields only), one page at a time.
+     */
+    public CursorPageDTO<TopicNavDTO> getRootTopics(Long after, int size) {
+        logger.debug("Fetching root topics after {}", after);
+        List<TopicNavDTO> roots = topicRepository.findRootNavigation(
+                afterOrder(after), after != null ? after : 0L, Limit.of(size + 1));
+        return toNavPage(roots, size);
+    }
+
+    /**
+     * Resolve a cursor (id of the last node on the previous page) to its displayOrder.
+     */
+    private Integer afterOrder(Long after) {
+        if (after == null) {
+            return Integer.MIN_VALUE;
+        }
+        return topicRepository.findDisplayOrderById(after)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown cursor: " + after));
+    }
+
+    /**
+     * Trim a size + 1 fetch of navigation rows to a page and attach tag ids for the rows kept.
+     */
+    private CursorPageDTO<TopicNavDTO> toNavPage(List<TopicNavDTO> fetched, int size) {
+        CursorPageDTO<TopicNavDTO> page = CursorPageDTO.of(fetched, size, TopicNavDTO::getId);
+        if (!page.getItems().isEmpty()) {
+            Map<Long, TopicNavDTO> byId = new HashMap<>();
+            for (TopicNavDTO node : page.getItems()) {
+                byId.put(node.getId(), node);
+            }
+            for (Object[] row : topicRepository.findTopicTagIdsByTopicIds(new ArrayList<>(byId.keySet()))) {
+                byId.get((Long) row[0]).getTagIds().add((Long) row[1]);
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Map a size + 1 row fetch to a page of DTOs.
+     */
+    private CursorPageDTO<TopicDTO> toPage(List<Topic> topics, int size) {
+        List<TopicDTO> dtos = topics.stream()
                 .map(topicMapper::toDTO)
                 .collect(Collectors.toList());
+        return CursorPageDTO.of(dtos, size, TopicDTO::getId);
     }
 }
 
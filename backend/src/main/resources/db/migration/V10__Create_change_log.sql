@@ -0,0 +1,18 @@
+-- Change feed for incremental sync (GET /api/changes?since=seq)
+-- One row per created, updated or deleted topic or tag, written in the same transaction as the change.
+-- seq comes from the single change_sequence row, which writers lock until commit, so sequence order
+-- is also commit order and a reader that has seen seq N will never later find a committed row below N.
+CREATE TABLE change_log (
+    seq BIGINT PRIMARY KEY,
+    entity_type VARCHAR(10) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    operation VARCHAR(10) NOT NULL,
+    changed_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE change_sequence (
+    id INTEGER PRIMARY KEY,
+    last_seq BIGINT NOT NULL
+);
+
+INSERT INTO change_sequence (id, last_seq) VALUES (1, 0);
@@ -0,0 +1,26 @@
+-- Full-text search over topics
+-- Title is weighted 'A' and content 'B', so title hits rank above body hits in ts_rank
+
+ALTER TABLE topic ADD COLUMN search_vector TSVECTOR;
+
+-- Keep search_vector in sync with title/content on every write
+CREATE OR REPLACE FUNCTION topic_search_vector_update() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.search_vector :=
+        setweight(to_tsvector('english', COALESCE(NEW.title, '')), 'A') ||
+        setweight(to_tsvector('english', COALESCE(NEW.content, '')), 'B');
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_topic_search_vector
+    BEFORE INSERT OR UPDATE OF title, content ON topic
+    FOR EACH ROW EXECUTE FUNCTION topic_search_vector_update();
+
+-- Backfill existing rows
+UPDATE topic SET search_vector =
+    setweight(to_tsvector('english', COALESCE(title, '')), 'A') ||
+    setweight(to_tsvector('english', COALESCE(content, '')), 'B');
+
+-- GIN index turns @@ matching into an index lookup instead of a sequential scan
+CREATE INDEX idx_topic_search_vector ON topic USING GIN (search_vector);
@@ -0,0 +1,6 @@
+-- Typo-tolerant matching on titles and slugs using trigram similarity
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- GIN trigram indexes let the % (similar-to) operator use an index scan
+CREATE INDEX idx_topic_title_trgm ON topic USING GIN (title gin_trgm_ops);
+CREATE INDEX idx_topic_slug_trgm ON topic USING GIN (slug gin_trgm_ops);
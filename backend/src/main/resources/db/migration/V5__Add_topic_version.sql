@@ -0,0 +1,3 @@
+-- Optimistic-locking version for topics
+-- Incremented by Hibernate on every update (including tag changes); also used as the topic's ETag
+ALTER TABLE topic ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,11 @@
+-- Covering index for lazy child expansion
+-- (parent_id, display_order, id) matches "WHERE parent_id = ? ORDER BY display_order, id" exactly, and
+-- INCLUDE carries title and slug in the leaf pages, so child listings are index-only scans
+UPDATE topic SET display_order = 0 WHERE display_order IS NULL;
+ALTER TABLE topic ALTER COLUMN display_order SET NOT NULL;
+
+CREATE INDEX idx_topic_parent_order_covering
+    ON topic (parent_id, display_order, id) INCLUDE (title, slug);
+
+-- Leading column of the new index, no longer needed on its own
+DROP INDEX IF EXISTS idx_topic_parent_id;
@@ -0,0 +1,15 @@
+-- Materialized path for ancestor/descendant lookups without recursion
+-- path lists every id from the root down to the topic itself, e.g. '/1/7/42/'
+-- Maintained by TopicService on create and on reparenting
+ALTER TABLE topic ADD COLUMN path VARCHAR(1024);
+
+-- Backfill existing rows top-down
+WITH RECURSIVE paths (id, path) AS (
+    SELECT id, '/' || id || '/' FROM topic WHERE parent_id IS NULL
+    UNION ALL
+    SELECT c.id, p.path || c.id || '/' FROM topic c JOIN paths p ON c.parent_id = p.id
+)
+UPDATE topic SET path = paths.path FROM paths WHERE topic.id = paths.id;
+
+-- text_pattern_ops lets "path LIKE '/1/7/%'" use a btree range scan regardless of the database collation
+CREATE INDEX idx_topic_path ON topic (path text_pattern_ops);
@@ -0,0 +1,6 @@
+-- Sequence-based ids for topic and tag
+-- Hibernate's pooled optimizer reserves a block of 50 ids per nextval (allocationSize = 50),
+-- which lets inserts be JDBC-batched; IDENTITY forces one round trip per row to read the id back.
+-- The BIGSERIAL column defaults keep working for plain SQL inserts.
+ALTER SEQUENCE topic_id_seq INCREMENT BY 50;
+ALTER SEQUENCE tag_id_seq INCREMENT BY 50;
@@ -0,0 +1,5 @@
+-- Markdown rendered once per edit instead of once per view
+-- content_html is sanitized HTML; toc lists the headings, e.g. [{"level": 2, "text": "Big O", "anchor": "big-o"}]
+-- Maintained by TopicService on create/update; existing rows are rendered at application startup
+ALTER TABLE topic ADD COLUMN content_html TEXT;
+ALTER TABLE topic ADD COLUMN toc JSONB;
@@ -0,0 +1,45 @@
+package com.cshub.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test for PrecompressedJson.
+ */
+@DisplayName("PrecompressedJson Unit Tests")
+class PrecompressedJsonTest {
+
+    @Test
+    @DisplayName("Should keep the JSON as-is and a gzip variant that decompresses to it")
+    void shouldRoundTripGzip() throws Exception {
+        // Given
+        byte[] json = "[{\"id\":1,\"title\":\"Arrays\"}]".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+        // When
+        PrecompressedJson body = PrecompressedJson.of(json);
+
+        // Then
+        assertThat(body.getIdentity()).isSameAs(json);
+        assertThat(body.getGzip().length).isLessThan(json.length / 10);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body.getGzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(json);
+        }
+    }
+
+    @Test
+    @DisplayName("Should honour Accept-Encoding quality values")
+    void shouldParseAcceptEncoding() {
+        assertThat(PrecompressedJson.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(PrecompressedJson.acceptsGzip("br;q=1.0, gzip;q=0.8")).isTrue();
+        assertThat(PrecompressedJson.acceptsGzip("*")).isTrue();
+        assertThat(PrecompressedJson.acceptsGzip("gzip;q=0, *")).isFalse();
+        assertThat(PrecompressedJson.acceptsGzip("identity")).isFalse();
+        assertThat(PrecompressedJson.acceptsGzip(null)).isFalse();
+    }
+}
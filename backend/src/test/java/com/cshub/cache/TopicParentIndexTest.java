@@ -0,0 +1,81 @@
+package com.cshub.cache;
+
+import com.cshub.dto.BreadcrumbDTO;
+import com.cshub.dto.TopicDTO;
+import com.cshub.dto.TopicNavDTO;
+import com.cshub.repository.TopicRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test for TopicParentIndex.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TopicParentIndex Unit Tests")
+class TopicParentIndexTest {
+
+    @Mock
+    private TopicRepository topicRepository;
+
+    private TopicParentIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(topicRepository.findAllNavigation()).thenReturn(List.of(
+                new TopicNavDTO(1L, "Data Structures", "dsa", null, 0),
+                new TopicNavDTO(4L, "Arrays", "dsa-arrays", 1L, 0),
+                new TopicNavDTO(9L, "Dynamic Arrays", "dsa-dynamic-arrays", 4L, 0)));
+        index = new TopicParentIndex(topicRepository);
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("Should walk parent pointers from the topic up to the root")
+    void shouldBuildBreadcrumbsRootFirst() {
+        assertThat(slugs(index.breadcrumbs("dsa-dynamic-arrays"))).containsExactly("dsa", "dsa-arrays", "dsa-dynamic-arrays");
+        assertThat(slugs(index.breadcrumbs("dsa"))).containsExactly("dsa");
+        assertThat(index.breadcrumbs("missing")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should apply moves and deletes without reloading")
+    void shouldPatchMovesAndDeletes() {
+        TopicDTO moved = new TopicDTO(9L, "Dynamic Arrays", "dsa-dynamic-arrays");
+        moved.setParentId(1L);
+        index.index(moved);
+        assertThat(slugs(index.breadcrumbs("dsa-dynamic-arrays"))).containsExactly("dsa", "dsa-dynamic-arrays");
+
+        index.remove(List.of(4L));
+        assertThat(index.breadcrumbs("dsa-arrays")).isNull();
+        assertThat(slugs(index.breadcrumbs("dsa-dynamic-arrays"))).containsExactly("dsa", "dsa-dynamic-arrays");
+    }
+
+    @Test
+    @DisplayName("Should insert between existing ids and follow slug renames")
+    void shouldPatchInsertsAndRenames() {
+        TopicDTO inserted = new TopicDTO(6L, "Stacks", "dsa-stacks");
+        inserted.setParentId(4L);
+        index.index(inserted);
+        assertThat(slugs(index.breadcrumbs("dsa-stacks"))).containsExactly("dsa", "dsa-arrays", "dsa-stacks");
+        assertThat(slugs(index.breadcrumbs("dsa-dynamic-arrays"))).containsExactly("dsa", "dsa-arrays", "dsa-dynamic-arrays");
+
+        TopicDTO renamed = new TopicDTO(4L, "Arrays", "arrays");
+        renamed.setParentId(1L);
+        index.index(renamed);
+        assertThat(index.breadcrumbs("dsa-arrays")).isNull();
+        assertThat(slugs(index.breadcrumbs("dsa-stacks"))).containsExactly("dsa", "arrays", "dsa-stacks");
+    }
+
+    private static List<String> slugs(List<BreadcrumbDTO> trail) {
+        return trail.stream().map(BreadcrumbDTO::getSlug).toList();
+    }
+}
@@ -0,0 +1,83 @@
+package com.cshub.cache;
+
+import com.cshub.dto.CacheStatsDTO;
+import com.cshub.dto.TopicDTO;
+import com.cshub.event.TopicChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test for TopicReadCache.
+ */
+@DisplayName("TopicReadCache Unit Tests")
+class TopicReadCacheTest {
+
+    @Test
+    @DisplayName("Should serve by id and slug, and drop the old slug when a topic is updated")
+    void shouldInvalidateOnUpdate() {
+        // Given
+        TopicReadCache cache = new TopicReadCache(1_000_000);
+        cache.put(topic(1L, "arrays", 100), cache.generation());
+
+        // When
+        TopicDTO byId = cache.getById(1L);
+        TopicDTO bySlug = cache.getBySlug("arrays");
+        cache.onTopicChanged(TopicChangedEvent.updated(topic(1L, "dsa-arrays", 100)));
+
+        // Then
+        assertThat(byId).isNotNull().isSameAs(bySlug);
+        assertThat(cache.getBySlug("arrays")).isNull();
+        assertThat(cache.getById(1L)).isNull();
+        CacheStatsDTO stats = cache.stats();
+        assertThat(stats.getHits()).isEqualTo(2);
+        assertThat(stats.getMisses()).isEqualTo(2);
+        assertThat(stats.getEntries()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not store a value loaded before an invalidation")
+    void shouldRejectStalePut() {
+        // Given
+        TopicReadCache cache = new TopicReadCache(1_000_000);
+        long generation = cache.generation();
+
+        // When - the topic is updated while a reader is still loading the old version
+        cache.invalidate(1L);
+        cache.put(topic(1L, "arrays", 100), generation);
+
+        // Then
+        assertThat(cache.getById(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should stay within its weight budget and keep popular topics through a scan")
+    void shouldKeepFrequentTopicsWithinWeight() {
+        // Given - room for roughly 20 entries of weight 256 + 744 = 1000
+        TopicReadCache cache = new TopicReadCache(20_000);
+        for (int i = 0; i < 5; i++) {
+            cache.put(topic(1L, "hot", 744), cache.generation());
+            cache.getById(1L);
+        }
+
+        // When - a crawler reads 500 topics once each
+        for (long id = 100; id < 600; id++) {
+            if (cache.getById(id) == null) {
+                cache.put(topic(id, "cold-" + id, 744), cache.generation());
+            }
+        }
+
+        // Then
+        CacheStatsDTO stats = cache.stats();
+        assertThat(stats.getWeight()).isLessThanOrEqualTo(20_000);
+        assertThat(stats.getEvictions()).isPositive();
+        assertThat(cache.getBySlug("hot")).isNotNull();
+    }
+
+    private static TopicDTO topic(Long id, String slug, int contentLength) {
+        TopicDTO topic = new TopicDTO(id, "Topic " + id, slug);
+        topic.setContent("x".repeat(contentLength));
+        return topic;
+    }
+}
@@ -0,0 +1,127 @@
+package com.cshub.search;
+
+import com.cshub.dto.TagDTO;
+import com.cshub.dto.TopicDTO;
+import com.cshub.entity.Topic;
+import com.cshub.event.TagChangedEvent;
+import com.cshub.mapper.TopicMapper;
+import com.cshub.repository.TopicRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test for TopicSearchIndex.
+ * Exercises the index directly - no database involved.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TopicSearchIndex Unit Tests")
+class TopicSearchIndexTest {
+
+    @Mock
+    private TopicRepository topicRepository;
+
+    @Mock
+    private TopicMapper topicMapper;
+
+    private TopicSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TopicSearchIndex(topicRepository, topicMapper);
+        index.index(topic(1L, "Arrays", "Contiguous memory, O(1) random access."));
+        index.index(topic(2L, "Hash Map", "Key-value store with O(1) average lookup."));
+        index.index(topic(3L, "Binary Search Tree", "Ordered tree with O(log n) lookup."));
+    }
+
+    @Test
+    @DisplayName("Should match tokens from title and content")
+    void shouldMatchTitleAndContent() {
+        assertThat(index.search("hash")).containsExactly(2L);
+        assertThat(index.search("lookup")).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should treat the last token as a prefix")
+    void shouldTreatLastTokenAsPrefix() {
+        assertThat(index.search("arr")).containsExactly(1L);
+        assertThat(index.search("Binary Sea")).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Should require every token to match")
+    void shouldRequireEveryToken() {
+        assertThat(index.search("ordered lookup")).containsExactly(3L);
+        assertThat(index.search("hash tree")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reflect updates and deletes")
+    void shouldReflectUpdatesAndDeletes() {
+        index.index(topic(2L, "Hash Set", "Unique keys."));
+        assertThat(index.search("lookup")).containsExactly(3L);
+        assertThat(index.search("unique")).containsExactly(2L);
+
+        index.remove(3L);
+        assertThat(index.search("lookup")).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+
+        // Freed ordinals are reused without leaking old postings
+        index.index(topic(4L, "Heap", "Priority queue."));
+        assertThat(index.search("heap")).containsExactly(4L);
+        assertThat(index.search("binary")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should count tags over the given matches")
+    void shouldCountTagsOverMatches() {
+        TopicDTO tagged = topic(2L, "Hash Map", "Key-value store with O(1) average lookup.");
+        tagged.setTags(List.of(new TagDTO(7L, "DSA", "#10b981")));
+        index.index(tagged);
+
+        assertThat(index.tagCounts(index.search("lookup"))).containsExactly(entry(7L, 1L));
+
+        // A deleted tag is stripped in place, without reloading
+        index.onTagChanged(new TagChangedEvent(TagChangedEvent.Type.DELETED, 7L, "DSA"));
+        assertThat(index.tagCounts(index.search("lookup"))).isEmpty();
+        assertThat(index.search("hash")).containsExactly(2L);
+        verifyNoInteractions(topicRepository);
+    }
+
+    @Test
+    @DisplayName("Should keep a patch that lands while a rebuild is reading")
+    void shouldReplayPatchesAppliedDuringRebuild() {
+        // Given - the reload returns a snapshot taken before topic 1 was renamed
+        Topic stale = new Topic("Arrays", "arrays", "Contiguous memory.");
+        stale.setId(1L);
+        when(topicRepository.findAllWithTags()).thenAnswer(invocation -> {
+            index.index(topic(1L, "Vectors", "Growable arrays."));
+            return List.of(stale);
+        });
+        when(topicMapper.toDTO(stale)).thenReturn(topic(1L, "Arrays", "Contiguous memory."));
+
+        // When
+        index.rebuild();
+
+        // Then
+        assertThat(index.search("vectors")).containsExactly(1L);
+        assertThat(index.search("contiguous")).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    private static TopicDTO topic(Long id, String title, String content) {
+        TopicDTO dto = new TopicDTO(id, title, title.toLowerCase().replace(' ', '-'));
+        dto.setContent(content);
+        return dto;
+    }
+}
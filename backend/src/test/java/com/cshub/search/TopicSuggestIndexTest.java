@@ -0,0 +1,119 @@
+package com.cshub.search;
+
+import com.cshub.dto.TagDTO;
+import com.cshub.dto.TopicDTO;
+import com.cshub.dto.TopicNavDTO;
+import com.cshub.dto.TopicSuggestionDTO;
+import com.cshub.event.TagChangedEvent;
+import com.cshub.entity.Tag;
+import com.cshub.repository.TagRepository;
+import com.cshub.repository.TopicRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test for TopicSuggestIndex.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TopicSuggestIndex Unit Tests")
+class TopicSuggestIndexTest {
+
+    @Mock
+    private TopicRepository topicRepository;
+
+    @Mock
+    private TagRepository tagRepository;
+
+    private TopicSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TopicSuggestIndex(topicRepository, tagRepository);
+        index.index(topic(1L, "Binary Search", "dsa-binary-search"));
+        index.index(topic(2L, "Bubble Sort", "dsa-bubble-sort", "Sorting"));
+        index.index(topic(3L, "Binary Tree", "dsa-binary-tree"));
+    }
+
+    @Test
+    @DisplayName("Should complete title prefixes in key order")
+    void shouldCompleteTitlePrefixes() {
+        assertThat(ids(index.suggest("bin", 10))).containsExactly(1L, 3L);
+        assertThat(ids(index.suggest("  BINARY T", 10))).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Should match word starts inside titles, slugs and tag names")
+    void shouldMatchWordStartsSlugsAndTags() {
+        assertThat(ids(index.suggest("sort", 10))).containsExactly(2L);
+        assertThat(ids(index.suggest("dsa-b", 10))).containsExactly(1L, 3L, 2L);
+        assertThat(ids(index.suggest("sorting", 10))).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Should respect the limit and apply updates and deletes")
+    void shouldRespectLimitAndUpdates() {
+        assertThat(index.suggest("b", 2)).hasSize(2);
+
+        index.index(topic(1L, "Linear Search", "dsa-linear-search"));
+        assertThat(ids(index.suggest("bin", 10))).containsExactly(3L);
+        assertThat(index.suggest("lin", 10)).extracting(TopicSuggestionDTO::getTitle).containsExactly("Linear Search");
+
+        index.remove(List.of(3L));
+        assertThat(index.suggest("bin", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should drop a deleted tag's name without reloading")
+    void shouldDropDeletedTag() {
+        index.onTagChanged(new TagChangedEvent(TagChangedEvent.Type.DELETED, 20L, "Sorting"));
+
+        assertThat(index.suggest("sorting", 10)).isEmpty();
+        assertThat(ids(index.suggest("bubble", 10))).containsExactly(2L);
+        verifyNoInteractions(topicRepository);
+    }
+
+    @Test
+    @DisplayName("Should rebuild from navigation rows and tag pairs, keeping patches applied during the read")
+    void shouldRebuildAndReplayPatches() {
+        // Given - the reload returns rows read before topic 3 was renamed
+        Tag sorting = new Tag("Sorting");
+        sorting.setId(20L);
+        when(tagRepository.findAll()).thenReturn(List.of(sorting));
+        when(topicRepository.findAllTopicTagIds()).thenReturn(List.<Object[]>of(new Object[]{2L, 20L}));
+        when(topicRepository.findAllNavigation()).thenAnswer(invocation -> {
+            index.index(topic(3L, "Heap Sort", "dsa-heap-sort"));
+            return List.of(new TopicNavDTO(2L, "Bubble Sort", "dsa-bubble-sort", null, 0),
+                    new TopicNavDTO(3L, "Binary Tree", "dsa-binary-tree", null, 1));
+        });
+
+        // When
+        index.rebuild();
+
+        // Then
+        assertThat(ids(index.suggest("sorting", 10))).containsExactly(2L);
+        assertThat(ids(index.suggest("heap", 10))).containsExactly(3L);
+        assertThat(index.suggest("binary", 10)).isEmpty();
+    }
+
+    private static List<Long> ids(List<TopicSuggestionDTO> suggestions) {
+        return suggestions.stream().map(TopicSuggestionDTO::getId).toList();
+    }
+
+    private static TopicDTO topic(Long id, String title, String slug, String... tagNames) {
+        TopicDTO dto = new TopicDTO(id, title, slug);
+        for (String tagName : tagNames) {
+            dto.getTags().add(new TagDTO(id * 10, tagName, "#3B82F6"));
+        }
+        return dto;
+    }
+}
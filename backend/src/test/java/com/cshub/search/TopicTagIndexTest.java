@@ -0,0 +1,166 @@
+package com.cshub.search;
+
+import com.cshub.dto.TagDTO;
+import com.cshub.dto.TopicDTO;
+import com.cshub.dto.TopicNavDTO;
+import com.cshub.event.TagChangedEvent;
+import com.cshub.event.TopicBulkChangedEvent;
+import com.cshub.repository.TagRepository;
+import com.cshub.repository.TopicRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test for TopicTagIndex.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TopicTagIndex Unit Tests")
+class TopicTagIndexTest {
+
+    @Mock
+    private TopicRepository topicRepository;
+
+    @Mock
+    private TagRepository tagRepository;
+
+    private TopicTagIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TopicTagIndex(topicRepository, tagRepository);
+        index.index(topic(1L, "Graph", "Algorithm"));
+        index.index(topic(2L, "Graph", "Algorithm", "Advanced"));
+        index.index(topic(3L, "Graph"));
+        index.index(topic(4L, "Tree", "Algorithm"));
+    }
+
+    @Test
+    @DisplayName("Should evaluate all / any / none as AND, OR and AND-NOT")
+    void shouldEvaluateTagExpressions() {
+        assertThat(ids(index.filter(List.of("Graph", "Algorithm"), List.of(), List.of("Advanced"), null, 10)))
+                .containsExactly(1L);
+        assertThat(ids(index.filter(List.of(), List.of("Tree", "Advanced"), List.of(), null, 10)))
+                .containsExactly(2L, 4L);
+        assertThat(ids(index.filter(List.of(), List.of(), List.of("Graph"), null, 10)))
+                .containsExactly(4L);
+        assertThat(index.filter(List.of("Unknown"), List.of(), List.of(), null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should page by id and keep order when an older id is re-added")
+    void shouldPageInIdOrderAcrossUpdates() {
+        index.remove(List.of(1L));
+        assertThat(ids(index.filter(List.of("Graph"), List.of(), List.of(), null, 10))).containsExactly(2L, 3L);
+
+        index.index(topic(1L, "Graph"));
+        index.index(topic(3L, "Tree"));
+        assertThat(ids(index.filter(List.of("Graph"), List.of(), List.of(), null, 1))).containsExactly(1L);
+        assertThat(ids(index.filter(List.of("Graph"), List.of(), List.of(), 1L, 10))).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Should patch a bulk batch, in any order, without reloading")
+    void shouldIndexBulkBatchInIdOrder() {
+        // When - new ids out of request order, plus an update
+        index.onTopicsBulkChanged(new TopicBulkChangedEvent(
+                List.of(topic(7L, "Graph"), topic(5L, "Graph"), topic(3L, "Tree")), List.of(5L, 7L)));
+
+        // Then
+        assertThat(ids(index.filter(List.of("Graph"), List.of(), List.of(), null, 10))).containsExactly(1L, 2L, 5L, 7L);
+        assertThat(ids(index.filter(List.of("Tree"), List.of(), List.of(), null, 10))).containsExactly(3L, 4L);
+        verifyNoInteractions(topicRepository, tagRepository);
+    }
+
+    @Test
+    @DisplayName("Should count tags over every match, not just one page")
+    void shouldCountTagsOverMatchingSet() {
+        // When
+        TopicTagIndex.FilterResult result = index.filterWithCounts(List.of("Algorithm"), List.of(), List.of(), null, 1);
+
+        // Then
+        assertThat(ids(result.page())).containsExactly(1L);
+        assertThat(result.tagCounts()).containsEntry(tagId("Algorithm"), 3L)
+                .containsEntry(tagId("Graph"), 2L)
+                .containsEntry(tagId("Advanced"), 1L)
+                .containsEntry(tagId("Tree"), 1L)
+                .hasSize(4);
+    }
+
+    @Test
+    @DisplayName("Should drop a deleted tag from filters and counts")
+    void shouldDropDeletedTag() {
+        // When
+        index.onTagChanged(new TagChangedEvent(TagChangedEvent.Type.DELETED, tagId("Algorithm"), "Algorithm"));
+
+        // Then
+        assertThat(index.filter(List.of("Algorithm"), List.of(), List.of(), null, 10)).isEmpty();
+        assertThat(ids(index.filter(List.of(), List.of(), List.of("Algorithm"), null, 10)))
+                .containsExactly(1L, 2L, 3L, 4L);
+        assertThat(index.filterWithCounts(List.of("Graph"), List.of(), List.of(), null, 10).tagCounts())
+                .containsEntry(tagId("Graph"), 3L)
+                .containsEntry(tagId("Advanced"), 1L)
+                .doesNotContainKey(tagId("Algorithm"));
+    }
+
+    @Test
+    @DisplayName("Should keep a patch that lands while a rebuild is reading")
+    void shouldReplayPatchesAppliedDuringRebuild() {
+        // Given - the reload returns rows read before topic 3 was retagged and topic 5 was created
+        when(topicRepository.findAllNavigation()).thenAnswer(invocation -> {
+            index.index(topic(3L, "Tree"));
+            index.index(topic(5L, "Graph"));
+            return List.of(new TopicNavDTO(3L, "Topic 3", "topic-3", null, 0));
+        });
+
+        // When
+        index.rebuild();
+
+        // Then
+        assertThat(ids(index.filter(List.of("Tree"), List.of(), List.of(), null, 10))).containsExactly(3L);
+        assertThat(ids(index.filter(List.of("Graph"), List.of(), List.of(), null, 10))).containsExactly(5L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should build on demand only while the startup build has not completed")
+    void shouldBuildOnDemandOnce() {
+        // When
+        index.ensureReady();
+        index.ensureReady();
+
+        // Then
+        assertThat(index.isReady()).isTrue();
+        verify(topicRepository, times(1)).findAllNavigation();
+    }
+
+    private static TopicDTO topic(Long id, String... tags) {
+        TopicDTO topic = new TopicDTO(id, "Topic " + id, "topic-" + id);
+        List<TagDTO> tagDTOs = new ArrayList<>();
+        for (String tag : tags) {
+            tagDTOs.add(new TagDTO(tagId(tag), tag, "#000000"));
+        }
+        topic.setTags(tagDTOs);
+        return topic;
+    }
+
+    private static Long tagId(String tag) {
+        return (long) tag.hashCode();
+    }
+
+    private static List<Long> ids(List<TopicNavDTO> topics) {
+        return topics.stream().map(TopicNavDTO::getId).toList();
+    }
+}
@@ -0,0 +1,118 @@
+package com.cshub.service;
+
+import com.cshub.dto.ChangeFeedDTO;
+import com.cshub.dto.TopicDTO;
+import com.cshub.entity.ChangeLogEntry;
+import com.cshub.entity.ChangeSequence;
+import com.cshub.event.TopicBulkChangedEvent;
+import com.cshub.event.TopicChangedEvent;
+import com.cshub.repository.ChangeLogRepository;
+import com.cshub.repository.ChangeSequenceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test for ChangeFeedService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChangeFeedService Unit Tests")
+class ChangeFeedServiceTest {
+
+    @Mock
+    private ChangeLogRepository changeLogRepository;
+
+    @Mock
+    private ChangeSequenceRepository changeSequenceRepository;
+
+    @InjectMocks
+    private ChangeFeedService changeFeedService;
+
+    @Test
+    @DisplayName("Should log every topic removed by a cascading delete and advance the counter")
+    void shouldLogCascadedDeletes() {
+        // Given
+        ChangeSequence sequence = new ChangeSequence(ChangeSequence.SINGLETON_ID, 10);
+        when(changeSequenceRepository.findForUpdate(ChangeSequence.SINGLETON_ID)).thenReturn(Optional.of(sequence));
+
+        // When - topic 1 is deleted together with its children 2 and 3
+        changeFeedService.onTopicChanged(TopicChangedEvent.deleted(1L, "parent", List.of(1L, 2L, 3L)));
+
+        // Then
+        List<ChangeLogEntry> saved = captureSaved();
+        assertThat(saved).extracting(ChangeLogEntry::getSeq, ChangeLogEntry::getEntityId, ChangeLogEntry::getOperation)
+                .containsExactly(
+                        tuple(11L, 1L, ChangeLogEntry.Operation.DELETED),
+                        tuple(12L, 2L, ChangeLogEntry.Operation.DELETED),
+                        tuple(13L, 3L, ChangeLogEntry.Operation.DELETED));
+        assertThat(sequence.getLastSeq()).isEqualTo(13);
+    }
+
+    @Test
+    @DisplayName("Should log a bulk import in request order, telling creates from updates")
+    void shouldLogBulkImport() {
+        // Given
+        when(changeSequenceRepository.findForUpdate(ChangeSequence.SINGLETON_ID))
+                .thenReturn(Optional.of(new ChangeSequence(ChangeSequence.SINGLETON_ID, 0)));
+
+        // When
+        changeFeedService.onTopicsBulkChanged(new TopicBulkChangedEvent(List.of(
+                new TopicDTO(7L, "Heap", "heap"), new TopicDTO(3L, "Stack", "stack"), new TopicDTO(9L, "Trie", "trie")),
+                Set.of(9L)));
+
+        // Then
+        assertThat(captureSaved()).extracting(ChangeLogEntry::getSeq, ChangeLogEntry::getEntityId, ChangeLogEntry::getOperation)
+                .containsExactly(
+                        tuple(1L, 7L, ChangeLogEntry.Operation.UPDATED),
+                        tuple(2L, 3L, ChangeLogEntry.Operation.UPDATED),
+                        tuple(3L, 9L, ChangeLogEntry.Operation.CREATED));
+    }
+
+    @Test
+    @DisplayName("Should page with a look-ahead row and keep the position when nothing changed")
+    void shouldPageFeed() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        when(changeLogRepository.findBySeqGreaterThanOrderBySeqAsc(eq(5L), any(Limit.class))).thenReturn(List.of(
+                new ChangeLogEntry(6L, ChangeLogEntry.EntityType.TOPIC, 1L, ChangeLogEntry.Operation.UPDATED, now),
+                new ChangeLogEntry(7L, ChangeLogEntry.EntityType.TAG, 2L, ChangeLogEntry.Operation.CREATED, now),
+                new ChangeLogEntry(8L, ChangeLogEntry.EntityType.TOPIC, 3L, ChangeLogEntry.Operation.DELETED, now)));
+        when(changeLogRepository.findBySeqGreaterThanOrderBySeqAsc(eq(40L), any(Limit.class))).thenReturn(List.of());
+
+        // When
+        ChangeFeedDTO page = changeFeedService.getChanges(5L, 2);
+        ChangeFeedDTO caughtUp = changeFeedService.getChanges(40L, 2);
+
+        // Then
+        assertThat(page.getChanges()).hasSize(2);
+        assertThat(page.getNextSince()).isEqualTo(7);
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(caughtUp.getChanges()).isEmpty();
+        assertThat(caughtUp.getNextSince()).isEqualTo(40);
+        assertThat(caughtUp.isHasMore()).isFalse();
+        verify(changeLogRepository).findBySeqGreaterThanOrderBySeqAsc(5L, Limit.of(3));
+        verify(changeSequenceRepository, never()).findForUpdate(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ChangeLogEntry> captureSaved() {
+        ArgumentCaptor<List<ChangeLogEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(changeLogRepository).saveAll(captor.capture());
+        return captor.getValue();
+    }
+}
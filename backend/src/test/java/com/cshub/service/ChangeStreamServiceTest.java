@@ -0,0 +1,171 @@
+package com.cshub.service;
+
+import com.cshub.cache.TopicTreeCache;
+import com.cshub.event.TagChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test for ChangeStreamService.
+ * Streams are real SseEmitters with send and the completion callback recorded, so no servlet container is needed.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChangeStreamService Unit Tests")
+class ChangeStreamServiceTest {
+
+    @Mock
+    private TopicTreeCache topicTreeCache;
+
+    private ChangeStreamService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should send ready with the tree version before any change")
+    void shouldSendReadyFirst() throws InterruptedException {
+        // Given
+        when(topicTreeCache.getVersion()).thenReturn(3L);
+        RecordingEmitter emitter = new RecordingEmitter(2);
+        service = service(64, 10, emitter);
+
+        // When - a change is broadcast right after subscribing
+        service.subscribe();
+        service.onTagChanged(new TagChangedEvent(TagChangedEvent.Type.DELETED, 5L, "Graph"));
+
+        // Then
+        assertThat(emitter.sent.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(emitter.events).hasSize(2);
+        assertThat(emitter.events.get(0)).contains("event:ready").contains("\"treeVersion\":3");
+        assertThat(emitter.events.get(1)).contains("event:change").contains("\"kind\":\"TAG_DELETED\"");
+    }
+
+    @Test
+    @DisplayName("Should drop and count a subscriber whose queue is full")
+    void shouldDropSlowSubscriber() throws InterruptedException {
+        // Given - one buffered event, and a client stuck writing "ready"
+        RecordingEmitter emitter = new RecordingEmitter(1);
+        emitter.blockSends();
+        service = service(1, 10, emitter);
+        service.subscribe();
+        assertThat(emitter.sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When - the first change fills the queue, the second overflows it
+        service.broadcast(change());
+        service.broadcast(change());
+
+        // Then
+        assertThat(service.getDroppedCount()).isEqualTo(1);
+        assertThat(service.getSubscriberCount()).isZero();
+        emitter.release.countDown();
+        assertThat(emitter.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(emitter.events).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should refuse subscribers over the cap and free the slot on completion")
+    void shouldCapSubscribers() {
+        // Given
+        RecordingEmitter first = new RecordingEmitter(1);
+        service = service(64, 1, first, new RecordingEmitter(1));
+
+        // When
+        SseEmitter accepted = service.subscribe();
+        SseEmitter refused = service.subscribe();
+
+        // Then
+        assertThat(accepted).isSameAs(first);
+        assertThat(refused).isNull();
+        assertThat(service.getSubscriberCount()).isEqualTo(1);
+
+        // When - the open stream completes
+        first.completionCallback.run();
+
+        // Then
+        assertThat(service.getSubscriberCount()).isZero();
+        assertThat(service.subscribe()).isNotNull();
+    }
+
+    private ChangeStreamService service(int bufferSize, int maxSubscribers, RecordingEmitter... emitters) {
+        List<RecordingEmitter> queue = new ArrayList<>(List.of(emitters));
+        return new ChangeStreamService(topicTreeCache, new ObjectMapper(), bufferSize, maxSubscribers,
+                Duration.ofMinutes(1), Duration.ofHours(1), 2) {
+            @Override
+            SseEmitter newEmitter() {
+                return queue.remove(0);
+            }
+        };
+    }
+
+    private static Set<DataWithMediaType> change() {
+        return SseEmitter.event().name("change").data("{}").build();
+    }
+
+    /**
+     * Records each sent event as text and exposes the completion callback the service registers.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch sent;
+        final CountDownLatch sendStarted = new CountDownLatch(1);
+        final CountDownLatch completed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(0);
+        Runnable completionCallback;
+
+        RecordingEmitter(int expectedEvents) {
+            this.sent = new CountDownLatch(expectedEvents);
+        }
+
+        void blockSends() {
+            release = new CountDownLatch(1);
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            StringBuilder text = new StringBuilder();
+            items.forEach(item -> text.append(item.getData()));
+            events.add(text.toString());
+            sendStarted.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sent.countDown();
+        }
+
+        @Override
+        public synchronized void onCompletion(Runnable callback) {
+            completionCallback = callback;
+            super.onCompletion(callback);
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed.countDown();
+            super.complete();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.cshub.service;
+
+import com.cshub.entity.TocEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit test for MarkdownService.
+ */
+@DisplayName("MarkdownService Unit Tests")
+class MarkdownServiceTest {
+
+    private final MarkdownService markdownService = new MarkdownService();
+
+    @Test
+    @DisplayName("Should render headings with unique ids and list them in the table of contents")
+    void shouldBuildTableOfContents() {
+        // Given
+        String markdown = "# Arrays\n\n## Big O & `Access`\n\ntext\n\n## Big O & Access\n\n```java\nint[] a;\n```\n";
+
+        // When
+        MarkdownService.Rendered rendered = markdownService.render(markdown);
+
+        // Then
+        assertThat(rendered.toc()).extracting(TocEntry::getLevel).containsExactly(1, 2, 2);
+        assertThat(rendered.toc()).extracting(TocEntry::getText)
+                .containsExactly("Arrays", "Big O & Access", "Big O & Access");
+        assertThat(rendered.toc()).extracting(TocEntry::getAnchor)
+                .containsExactly("arrays", "big-o-access", "big-o-access-1");
+        assertThat(rendered.html())
+                .contains("<h2 id=\"big-o-access-1\">")
+                .contains("<code class=\"language-java\">int[] a;\n</code>");
+    }
+
+    @Test
+    @DisplayName("Should strip scripts, event handlers and javascript links")
+    void shouldSanitizeHtml() {
+        // Given
+        String markdown = "Hi <script>alert(1)</script><img src=\"https://x/y.png\" onerror=\"alert(2)\">\n\n"
+                + "[click](javascript:alert(3)) [next](#arrays)\n\n| a | b |\n|---|---|\n| 1 | ~~2~~ |\n";
+
+        // When
+        String html = markdownService.render(markdown).html();
+
+        // Then
+        assertThat(html).doesNotContain("script").doesNotContain("onerror").doesNotContain("javascript");
+        assertThat(html).contains("<img src=\"https://x/y.png\">")
+                .contains("<a href=\"#arrays\">next</a>")
+                .contains("<td><del>2</del></td>");
+    }
+}
@@ -0,0 +1,121 @@
+package com.cshub.service;
+
+import com.cshub.dto.CursorPageDTO;
+import com.cshub.dto.TagDTO;
+import com.cshub.dto.TopicDTO;
+import com.cshub.dto.TopicNavDTO;
+import com.cshub.exception.ResourceNotFoundException;
+import com.cshub.mapper.TopicMapper;
+import com.cshub.repository.ReactiveTopicRepository;
+import com.cshub.repository.ReactiveTopicRepository.TopicDetailRow;
+import com.cshub.repository.ReactiveTopicRepository.TopicTagRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test for ReactiveTopicService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveTopicService Unit Tests")
+class ReactiveTopicServiceTest {
+
+    @Mock
+    private ReactiveTopicRepository topicRepository;
+
+    @Spy
+    private TopicMapper topicMapper = new TopicMapper();
+
+    @Spy
+    private MarkdownService markdownService = new MarkdownService();
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private ReactiveTopicService topicService;
+
+    @Test
+    @DisplayName("Should assemble the tree with tags and children sorted by display order")
+    void shouldAssembleTopicTree() {
+        // Given
+        TagDTO array = new TagDTO(7L, "Array", "#ff0000");
+        when(topicRepository.findAll()).thenReturn(Flux.just(
+                topic(1L, "dsa", null, 0), topic(2L, "sorting", 1L, 2), topic(3L, "arrays", 1L, 1)));
+        when(topicRepository.findAllTopicTags()).thenReturn(Flux.just(new TopicTagRow(3L, array)));
+
+        // When
+        List<TopicDTO> roots = topicService.getTopicTree().block();
+
+        // Then
+        assertThat(roots).extracting(TopicDTO::getSlug).containsExactly("dsa");
+        assertThat(roots.get(0).getChildren()).extracting(TopicDTO::getSlug).containsExactly("arrays", "sorting");
+        assertThat(roots.get(0).getChildren().get(0).getTags()).containsExactly(array);
+    }
+
+    @Test
+    @DisplayName("Should serve stored HTML and parse the stored table of contents")
+    void shouldServeStoredHtml() {
+        // Given
+        TopicDetailRow row = new TopicDetailRow(topic(1L, "dsa", null, 0), "<h2 id=\"intro\">Intro</h2>",
+                "[{\"level\": 2, \"text\": \"Intro\", \"anchor\": \"intro\"}]");
+        when(topicRepository.findBySlug("dsa")).thenReturn(Mono.just(row));
+        when(topicRepository.findTopicTags(any())).thenReturn(Flux.empty());
+
+        // When
+        TopicDTO topic = topicService.getTopicBySlug("dsa", true).block();
+
+        // Then
+        assertThat(topic.getContent()).isNull();
+        assertThat(topic.getContentHtml()).isEqualTo("<h2 id=\"intro\">Intro</h2>");
+        assertThat(topic.getToc()).singleElement()
+                .satisfies(entry -> assertThat(entry.getAnchor()).isEqualTo("intro"));
+        verify(markdownService, never()).render(any());
+    }
+
+    @Test
+    @DisplayName("Should fetch one extra child to detect the next page, and 404 for a missing parent")
+    void shouldPageChildren() {
+        // Given
+        when(topicRepository.findChildrenNavigation(1L, Integer.MIN_VALUE, 0L, 3)).thenReturn(Flux.just(
+                nav(2L, 1L, 0), nav(3L, 1L, 1), nav(4L, 1L, 2)));
+        when(topicRepository.findTopicTags(any())).thenReturn(Flux.empty());
+        when(topicRepository.findChildrenNavigation(99L, Integer.MIN_VALUE, 0L, 3)).thenReturn(Flux.empty());
+        when(topicRepository.existsById(99L)).thenReturn(Mono.just(false));
+
+        // When
+        CursorPageDTO<TopicNavDTO> page = topicService.getChildren(1L, null, 2).block();
+
+        // Then
+        assertThat(page.getItems()).extracting(TopicNavDTO::getId).containsExactly(2L, 3L);
+        assertThat(page.getNextCursor()).isEqualTo(3L);
+        assertThatThrownBy(() -> topicService.getChildren(99L, null, 2).block())
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private static TopicDTO topic(Long id, String slug, Long parentId, int displayOrder) {
+        TopicDTO topic = new TopicDTO(id, slug, slug);
+        topic.setContent("# " + slug);
+        topic.setParentId(parentId);
+        topic.setDisplayOrder(displayOrder);
+        return topic;
+    }
+
+    private static TopicNavDTO nav(Long id, Long parentId, int displayOrder) {
+        return new TopicNavDTO(id, "Topic " + id, "topic-" + id, parentId, displayOrder);
+    }
+}
@@ -0,0 +1,114 @@
+package com.cshub.service;
+
+import com.cshub.dto.BulkTopicItem;
+import com.cshub.dto.BulkTopicResultDTO;
+import com.cshub.dto.TopicDTO;
+import com.cshub.entity.Topic;
+import com.cshub.event.TopicBulkChangedEvent;
+import com.cshub.mapper.TopicMapper;
+import com.cshub.repository.TagRepository;
+import com.cshub.repository.TopicRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test for TopicBulkService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TopicBulkService Unit Tests")
+class TopicBulkServiceTest {
+
+    @Mock
+    private TopicRepository topicRepository;
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Spy
+    private MarkdownService markdownService = new MarkdownService();
+
+    @Spy
+    private TopicMapper topicMapper = new TopicMapper();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private TopicBulkService topicBulkService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(topicBulkService, "maxTopics", 100);
+    }
+
+    @Test
+    @DisplayName("Should persist in-batch parents before their children and publish one event")
+    void shouldPersistParentsFirst() {
+        // Given - child listed before its parent
+        List<Topic> persisted = new ArrayList<>();
+        AtomicLong ids = new AtomicLong(10);
+        when(topicRepository.findBySlugIn(any())).thenReturn(List.of());
+        when(topicRepository.save(any(Topic.class))).thenAnswer(invocation -> {
+            Topic topic = invocation.getArgument(0);
+            topic.setId(ids.incrementAndGet());
+            ReflectionTestUtils.invokeMethod(topic, "onCreate");
+            persisted.add(topic);
+            return topic;
+        });
+
+        // When
+        BulkTopicResultDTO result = topicBulkService.upsertTopics(List.of(
+                item("dsa-arrays", "dsa"), item("dsa", null)));
+
+        // Then
+        assertThat(persisted).extracting(Topic::getSlug).containsExactly("dsa", "dsa-arrays");
+        assertThat(persisted.get(1).getPath()).isEqualTo("/11/12/");
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(result.getIds()).containsExactly(12L, 11L);
+        ArgumentCaptor<TopicBulkChangedEvent> event = ArgumentCaptor.forClass(TopicBulkChangedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(event.capture());
+        // Listeners patch from the carried topics instead of reloading them
+        assertThat(event.getValue().getTopics()).extracting(TopicDTO::getSlug, TopicDTO::getParentId)
+                .containsExactly(tuple("dsa-arrays", 11L), tuple("dsa", null));
+    }
+
+    @Test
+    @DisplayName("Should reject parent references that form a cycle")
+    void shouldRejectCycles() {
+        // Given
+        when(topicRepository.findBySlugIn(any())).thenReturn(List.of());
+
+        // When & Then
+        assertThatThrownBy(() -> topicBulkService.upsertTopics(List.of(item("a", "b"), item("b", "a"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cycle");
+        verify(topicRepository, never()).save(any());
+    }
+
+    private static BulkTopicItem item(String slug, String parentSlug) {
+        BulkTopicItem item = new BulkTopicItem();
+        item.setTitle(slug);
+        item.setSlug(slug);
+        item.setParentSlug(parentSlug);
+        return item;
+    }
+}
@@ -0,0 +1,142 @@
+package com.cshub.service;
+
+import com.cshub.entity.Tag;
+import com.cshub.entity.Topic;
+import com.cshub.mapper.TopicMapper;
+import com.cshub.repository.TagRepository;
+import com.cshub.repository.TopicRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test for TopicExportService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TopicExportService Unit Tests")
+class TopicExportServiceTest {
+
+    @Mock
+    private TopicRepository topicRepository;
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Spy
+    private TopicMapper topicMapper = new TopicMapper();
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private TopicExportService topicExportService;
+
+    @BeforeEach
+    void setUp() {
+        topicExportService = new TopicExportService(topicRepository, tagRepository, topicMapper,
+                objectMapper, entityManager);
+    }
+
+    @Test
+    @DisplayName("Should write one object per line for NDJSON and a single array otherwise")
+    void shouldWriteNdjsonOrArray() throws IOException {
+        // Given
+        when(topicRepository.streamAllOrderedById())
+                .thenAnswer(invocation -> topics(2).stream());
+
+        // When
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        long ndjsonCount = topicExportService.exportTopics(ndjson, true);
+        ByteArrayOutputStream array = new ByteArrayOutputStream();
+        long arrayCount = topicExportService.exportTopics(array, false);
+
+        // Then - every NDJSON line (the last one too) is a complete object
+        String text = ndjson.toString(StandardCharsets.UTF_8);
+        assertThat(ndjsonCount).isEqualTo(2);
+        assertThat(text).endsWith("\n");
+        String[] lines = text.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("slug").asText()).isEqualTo("topic-1");
+        assertThat(objectMapper.readTree(lines[1]).get("slug").asText()).isEqualTo("topic-2");
+
+        JsonNode root = objectMapper.readTree(array.toByteArray());
+        assertThat(arrayCount).isEqualTo(2);
+        assertThat(root.isArray()).isTrue();
+        assertThat(root).hasSize(2);
+        assertThat(root.get(1).get("id").asLong()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Should clear the persistence context every 500 rows and take tags from the preloaded map")
+    void shouldClearPeriodicallyAndUsePreloadedTags() throws IOException {
+        // Given - 1200 topics whose lazy tags collection must never be read
+        Tag graph = new Tag("Graph", "#3b82f6");
+        graph.setId(10L);
+        when(tagRepository.findAll()).thenReturn(List.of(graph));
+        when(topicRepository.findAllTopicTagIds()).thenReturn(List.<Object[]>of(new Object[]{1L, 10L}));
+        when(topicRepository.streamAllOrderedById()).thenReturn(topics(1200).stream());
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = topicExportService.exportTopics(out, true);
+
+        // Then
+        assertThat(count).isEqualTo(1200);
+        verify(entityManager, times(1200)).detach(any(Topic.class));
+        verify(entityManager, times(2)).clear();
+        verify(topicMapper, never()).toDTO(any(Topic.class));
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("tags")).hasSize(1);
+        assertThat(first.get("tags").get(0).get("name").asText()).isEqualTo("Graph");
+        assertThat(objectMapper.readTree(lines[1]).get("tags")).isEmpty();
+    }
+
+    private static List<Topic> topics(int count) {
+        List<Topic> topics = new ArrayList<>(count);
+        LongStream.rangeClosed(1, count).forEach(id -> {
+            Topic topic = new Topic("Topic " + id, "topic-" + id, "Content " + id);
+            topic.setId(id);
+            topic.setTags(new UnloadedTags());
+            topics.add(topic);
+        });
+        return topics;
+    }
+
+    /**
+     * Stands in for an uninitialized lazy collection: any access fails the test.
+     */
+    private static final class UnloadedTags extends AbstractSet<Tag> {
+        @Override
+        public Iterator<Tag> iterator() {
+            throw new IllegalStateException("lazy tags collection was read");
+        }
+
+        @Override
+        public int size() {
+            throw new IllegalStateException("lazy tags collection was read");
+        }
+    }
+}
@@ -1,27 +1,52 @@
 package com.cshub.service;
 
+import com.cshub.cache.TopicParentIndex;
+import com.cshub.cache.TopicReadCache;
+import com.cshub.cache.TopicTreeCache;
+import com.cshub.cache.TopicTreeSnapshot;
+import com.cshub.dto.CreateTopicRequest;
+import com.cshub.dto.CursorPageDTO;
+import com.cshub.dto.TagDTO;
 import com.cshub.dto.TopicDTO;
+import com.cshub.dto.TopicMatchDTO;
+import com.cshub.dto.TopicNavDTO;
 import com.cshub.entity.Tag;
 import com.cshub.entity.Topic;
+import com.cshub.event.TopicChangedEvent;
 import com.cshub.exception.ResourceNotFoundException;
 import com.cshub.mapper.TopicMapper;
 import com.cshub.repository.TagRepository;
+import com.cshub.repository.TopicMatchView;
 import com.cshub.repository.TopicRepository;
+import com.cshub.repository.TopicSubtreeRow;
+import com.cshub.search.TopicSearchIndex;
+import com.cshub.search.TopicSuggestIndex;
+import com.cshub.search.TopicTagIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 /**
@@ -44,6 +69,33 @@ class TopicServiceTest {
     @Mock
     private TopicMapper topicMapper;
 
+    @Mock
+    private TopicTreeCache topicTreeCache;
+
+    @Mock
+    private TopicReadCache topicReadCache;
+
+    @Mock
+    private TopicSearchIndex topicSearchIndex;
+
+    @Mock
+    private TopicSuggestIndex topicSuggestIndex;
+
+    @Mock
+    private TopicParentIndex topicParentIndex;
+
+    @Mock
+    private TopicTagIndex topicTagIndex;
+
+    @Mock
+    private TagService tagService;
+
+    @Spy
+    private MarkdownService markdownService = new MarkdownService();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TopicService topicService;
 
@@ -68,7 +120,7 @@ class TopicServiceTest {
     void shouldGetTopicBySlugSuccessfully() {
         // Given
         String slug = "arrays";
-        when(topicRepository.findBySlug(slug)).thenReturn(Optional.of(sampleTopic));
+        when(topicRepository.findWithTagsBySlug(slug)).thenReturn(Optional.of(sampleTopic));
         when(topicMapper.toDTO(sampleTopic)).thenReturn(sampleTopicDTO);
 
         // When
@@ -79,16 +131,31 @@ class TopicServiceTest {
         assertThat(result.getSlug()).isEqualTo(slug);
         assertThat(result.getTitle()).isEqualTo("Arrays");
         
-        verify(topicRepository, times(1)).findBySlug(slug);
+        verify(topicRepository, times(1)).findWithTagsBySlug(slug);
         verify(topicMapper, times(1)).toDTO(sampleTopic);
     }
 
+    @Test
+    @DisplayName("Should serve a cached topic by slug without querying")
+    void shouldServeCachedTopicBySlug() {
+        // Given
+        when(topicReadCache.getBySlug("arrays")).thenReturn(sampleTopicDTO);
+
+        // When
+        TopicDTO result = topicService.getTopicBySlug("arrays");
+
+        // Then
+        assertThat(result.getSlug()).isEqualTo(sampleTopicDTO.getSlug());
+        verifyNoInteractions(topicRepository);
+        verify(topicReadCache, never()).put(any(), anyLong());
+    }
+
     @Test
     @DisplayName("Should throw ResourceNotFoundException when topic not found by slug")
     void shouldThrowExceptionWhenTopicNotFoundBySlug() {
         // Given
         String slug = "non-existent";
-        when(topicRepository.findBySlug(slug)).thenReturn(Optional.empty());
+        when(topicRepository.findWithTagsBySlug(slug)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> topicService.getTopicBySlug(slug))
@@ -97,7 +164,7 @@ class TopicServiceTest {
                 .hasMessageContaining("slug")
                 .hasMessageContaining(slug);
         
-        verify(topicRepository, times(1)).findBySlug(slug);
+        verify(topicRepository, times(1)).findWithTagsBySlug(slug);
         verify(topicMapper, never()).toDTO(any());
     }
 
@@ -136,6 +203,58 @@ class TopicServiceTest {
         assertThat(result.get(0).getChildren()).hasSize(1); // Child added to root
         
         verify(topicRepository, times(1)).findAllWithTags();
+        verify(topicTreeCache, times(1)).publish(ArgumentMatchers.<TopicTreeSnapshot<TopicDTO>>any());
+    }
+
+    @Test
+    @DisplayName("Should serve topic tree from cached snapshot without querying the database")
+    void shouldServeTopicTreeFromSnapshot() {
+        // Given
+        TopicTreeSnapshot<TopicDTO> snapshot = new TopicTreeSnapshot<>(3L, List.of(sampleTopicDTO));
+        when(topicTreeCache.getSnapshot()).thenReturn(snapshot);
+
+        // When
+        List<TopicDTO> result = topicService.getTopicTree();
+
+        // Then
+        assertThat(result).containsExactly(sampleTopicDTO);
+        verify(topicRepository, never()).findAllWithTags();
+        verify(topicMapper, never()).toDTO(any());
+    }
+
+    @Test
+    @DisplayName("Should build navigation tree from projection rows")
+    void shouldBuildNavigationTreeFromProjection() {
+        // Given
+        TopicNavDTO root = new TopicNavDTO(1L, "DSA", "dsa", null, 0);
+        TopicNavDTO child = new TopicNavDTO(2L, "Arrays", "arrays", 1L, 1);
+
+        when(topicRepository.findAllNavigation()).thenReturn(List.of(root, child));
+        when(topicRepository.findAllTopicTagIds()).thenReturn(List.<Object[]>of(new Object[]{2L, 7L}));
+
+        // When
+        List<TopicNavDTO> result = topicService.getNavigationTree();
+
+        // Then
+        assertThat(result).containsExactly(root);
+        assertThat(result.get(0).getChildren()).containsExactly(child);
+        assertThat(child.getTagIds()).containsExactly(7L);
+
+        verify(topicRepository, never()).findAllWithTags();
+        verify(topicTreeCache, times(1)).publishNavigation(any());
+    }
+
+    @Test
+    @DisplayName("Should only invalidate the trees after a committed write, leaving the rebuild to the next reader")
+    void shouldInvalidateTreeLazilyAfterWrite() {
+        // When
+        topicService.onTopicChanged(TopicChangedEvent.updated(sampleTopicDTO));
+
+        // Then
+        verify(topicTreeCache, times(1)).invalidate();
+        verifyNoInteractions(topicRepository);
+        verify(topicTreeCache, never()).publish(any());
+        verify(topicTreeCache, never()).publishNavigation(any());
     }
 
     @Test
@@ -149,7 +268,7 @@ class TopicServiceTest {
         when(topicMapper.toDTO(sampleTopic)).thenReturn(sampleTopicDTO);
 
         // When
-        List<TopicDTO> result = topicService.searchTopics(keyword);
+        List<TopicDTO> result = topicService.searchTopics(keyword, null, 10).getItems();
 
         // Then
         assertThat(result).isNotNull();
@@ -159,14 +278,67 @@ class TopicServiceTest {
         verify(topicRepository, times(1)).searchByKeyword(keyword);
     }
 
+    @Test
+    @DisplayName("Should search topics from the in-memory index once it is ready")
+    void shouldSearchTopicsFromIndex() {
+        // Given
+        when(topicSearchIndex.isReady()).thenReturn(true);
+        when(topicSearchIndex.search("array")).thenReturn(List.of(1L));
+        when(topicRepository.findWithTagsByIdIn(List.of(1L))).thenReturn(List.of(sampleTopic));
+        when(topicMapper.toDTO(sampleTopic)).thenReturn(sampleTopicDTO);
+
+        // When
+        CursorPageDTO<TopicDTO> result = topicService.searchTopics("  array ", null, 10);
+
+        // Then
+        assertThat(result.getItems()).containsExactly(sampleTopicDTO);
+        assertThat(result.getNextCursor()).isNull();
+        verify(topicRepository, never()).searchByKeyword(any());
+    }
+
+    @Test
+    @DisplayName("Should cap the limit of ranked full-text search")
+    void shouldCapRankedSearchLimit() {
+        // Given
+        when(topicRepository.searchFullText("array", TopicService.MAX_SEARCH_LIMIT)).thenReturn(List.of(sampleTopic));
+        when(topicMapper.toDTO(sampleTopic)).thenReturn(sampleTopicDTO);
+
+        // When
+        List<TopicDTO> result = topicService.searchTopicsRanked("array", 10_000);
+
+        // Then
+        assertThat(result).containsExactly(sampleTopicDTO);
+        verify(topicRepository, times(1)).searchFullText("array", TopicService.MAX_SEARCH_LIMIT);
+    }
+
+    @Test
+    @DisplayName("Should map fuzzy matches with their similarity score")
+    void shouldMapFuzzyMatches() {
+        // Given
+        TopicMatchView match = mock(TopicMatchView.class);
+        when(match.getId()).thenReturn(1L);
+        when(match.getTitle()).thenReturn("Arrays");
+        when(match.getSlug()).thenReturn("arrays");
+        when(match.getScore()).thenReturn(0.6);
+        when(topicRepository.searchFuzzy("arrasy", 10)).thenReturn(List.of(match));
+
+        // When
+        List<TopicMatchDTO> result = topicService.searchTopicsFuzzy(" arrasy ", 10);
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getSlug()).isEqualTo("arrays");
+        assertThat(result.get(0).getScore()).isEqualTo(0.6);
+    }
+
     @Test
     @DisplayName("Should return empty list when searching with empty keyword")
     void shouldReturnEmptyListWhenSearchingWithEmptyKeyword() {
         // When
-        List<TopicDTO> result = topicService.searchTopics("");
+        CursorPageDTO<TopicDTO> result = topicService.searchTopics("", null, 10);
 
         // Then
-        assertThat(result).isEmpty();
+        assertThat(result.getItems()).isEmpty();
         verify(topicRepository, never()).searchByKeyword(any());
     }
 
@@ -175,14 +347,34 @@ class TopicServiceTest {
     void shouldDeleteTopicSuccessfully() {
         // Given
         Long topicId = 1L;
-        when(topicRepository.existsById(topicId)).thenReturn(true);
+        when(topicRepository.findById(topicId)).thenReturn(Optional.of(sampleTopic));
 
         // When
         topicService.deleteTopic(topicId);
 
         // Then
-        verify(topicRepository, times(1)).existsById(topicId);
-        verify(topicRepository, times(1)).deleteById(topicId);
+        verify(topicRepository, times(1)).findById(topicId);
+        verify(topicRepository, times(1)).delete(sampleTopic);
+        verify(eventPublisher, times(1)).publishEvent(any(TopicChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should report the whole removed subtree when deleting a topic")
+    void shouldReportRemovedSubtreeOnDelete() {
+        // Given
+        Topic child = new Topic("Dynamic Arrays", "dynamic-arrays", "Content");
+        child.setId(2L);
+        sampleTopic.addChild(child);
+        when(topicRepository.findById(1L)).thenReturn(Optional.of(sampleTopic));
+        ArgumentCaptor<TopicChangedEvent> event = ArgumentCaptor.forClass(TopicChangedEvent.class);
+
+        // When
+        topicService.deleteTopic(1L);
+
+        // Then
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getType()).isEqualTo(TopicChangedEvent.Type.DELETED);
+        assertThat(event.getValue().getRemovedTopicIds()).containsExactly(1L, 2L);
     }
 
     @Test
@@ -190,7 +382,7 @@ class TopicServiceTest {
     void shouldThrowExceptionWhenDeletingNonExistentTopic() {
         // Given
         Long topicId = 999L;
-        when(topicRepository.existsById(topicId)).thenReturn(false);
+        when(topicRepository.findById(topicId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> topicService.deleteTopic(topicId))
@@ -198,8 +390,9 @@ class TopicServiceTest {
                 .hasMessageContaining("Topic")
                 .hasMessageContaining("id");
         
-        verify(topicRepository, times(1)).existsById(topicId);
-        verify(topicRepository, never()).deleteById(any());
+        verify(topicRepository, times(1)).findById(topicId);
+        verify(topicRepository, never()).delete(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -209,17 +402,171 @@ class TopicServiceTest {
         String tagName = "Array";
         List<Topic> topics = List.of(sampleTopic);
         
-        when(topicRepository.findByTagName(tagName)).thenReturn(topics);
+        when(topicRepository.findByTagName(tagName, 0L, Limit.of(11))).thenReturn(topics);
         when(topicMapper.toDTO(sampleTopic)).thenReturn(sampleTopicDTO);
 
         // When
-        List<TopicDTO> result = topicService.getTopicsByTag(tagName);
+        List<TopicDTO> result = topicService.getTopicsByTag(tagName, null, 10).getItems();
 
         // Then
         assertThat(result).isNotNull();
         assertThat(result).hasSize(1);
         
-        verify(topicRepository, times(1)).findByTagName(tagName);
+        verify(topicRepository, times(1)).findByTagName(tagName, 0L, Limit.of(11));
     }
-}
 
+    @Test
+    @DisplayName("Should return next cursor when more topics exist than the page size")
+    void shouldReturnNextCursorWhenMoreTopicsExist() {
+        // Given
+        Topic second = new Topic("Linked List", "linked-list", "Content");
+        second.setId(2L);
+        TopicDTO secondDTO = new TopicDTO(2L, "Linked List", "linked-list");
+        when(topicRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2))).thenReturn(List.of(sampleTopic, second));
+        when(topicMapper.toDTO(sampleTopic)).thenReturn(sampleTopicDTO);
+        when(topicMapper.toDTO(second)).thenReturn(secondDTO);
+
+        // When
+        CursorPageDTO<TopicDTO> page = topicService.getAllTopics(null, 1);
+
+        // Then
+        assertThat(page.getItems()).containsExactly(sampleTopicDTO);
+        assertThat(page.getNextCursor()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should derive topic ETag from the served DTO without querying")
+    void shouldDeriveTopicETagFromServedDTO() {
+        // Given
+        sampleTopicDTO.setVersion(3L);
+        sampleTopicDTO.setTags(List.of(new TagDTO(9L, "Array", "#3b82f6"), new TagDTO(5L, "DSA", "#10b981")));
+
+        // When
+        String etag = topicService.getTopicETag(sampleTopicDTO, false);
+        String htmlEtag = topicService.getTopicETag(sampleTopicDTO, true);
+
+        // Then
+        assertThat(etag).startsWith("\"topic-1-3-").isNotEqualTo(htmlEtag);
+        sampleTopicDTO.setTags(List.of(new TagDTO(9L, "Array", "#3b82f6")));
+        assertThat(topicService.getTopicETag(sampleTopicDTO, false)).isNotEqualTo(etag);
+        verifyNoInteractions(topicRepository, tagRepository);
+    }
+
+    @Test
+    @DisplayName("Should page children from the cursor's display order and attach tag ids")
+    void shouldPageChildrenFromCursorPosition() {
+        // Given
+        TopicNavDTO child = new TopicNavDTO(7L, "Stack", "stack", 1L, 2);
+        when(topicRepository.findDisplayOrderById(5L)).thenReturn(Optional.of(2));
+        when(topicRepository.findChildrenNavigation(1L, 2, 5L, Limit.of(2))).thenReturn(List.of(child));
+        when(topicRepository.findTopicTagIdsByTopicIds(List.of(7L)))
+                .thenReturn(List.<Object[]>of(new Object[]{7L, 3L}));
+
+        // When
+        CursorPageDTO<TopicNavDTO> page = topicService.getChildren(1L, 5L, 1);
+
+        // Then
+        assertThat(page.getItems()).containsExactly(child);
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(child.getTagIds()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Should assemble subtree from depth-ordered rows and cap the depth")
+    void shouldAssembleSubtreeFromDepthOrderedRows() {
+        // Given
+        TopicSubtreeRow root = subtreeRow(1L, null);
+        TopicSubtreeRow child = subtreeRow(2L, 1L);
+        TopicSubtreeRow grandchild = subtreeRow(3L, 2L);
+        when(topicRepository.findSubtree(1L, TopicService.MAX_SUBTREE_DEPTH))
+                .thenReturn(List.of(root, child, grandchild));
+        when(topicRepository.findTopicTagIdsByTopicIds(any())).thenReturn(List.of());
+
+        // When
+        TopicNavDTO result = topicService.getSubtree(1L, 1000);
+
+        // Then
+        assertThat(result.getId()).isEqualTo(1L);
+        assertThat(result.getChildren()).extracting(TopicNavDTO::getId).containsExactly(2L);
+        assertThat(result.getChildren().get(0).getChildren()).extracting(TopicNavDTO::getId).containsExactly(3L);
+    }
+
+    private TopicSubtreeRow subtreeRow(Long id, Long parentId) {
+        TopicSubtreeRow row = mock(TopicSubtreeRow.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getParentId()).thenReturn(parentId);
+        return row;
+    }
+
+    @Test
+    @DisplayName("Should reject moving a topic under its own descendant")
+    void shouldRejectMovingTopicUnderOwnDescendant() {
+        // Given
+        sampleTopic.setPath("/1/");
+        Topic descendant = new Topic("Dynamic Array", "dynamic-array", "Content");
+        descendant.setId(5L);
+        descendant.setPath("/1/3/5/");
+        CreateTopicRequest request = new CreateTopicRequest();
+        request.setTitle(sampleTopic.getTitle());
+        request.setSlug(sampleTopic.getSlug());
+        request.setParentId(5L);
+        when(topicRepository.findById(1L)).thenReturn(Optional.of(sampleTopic));
+        when(topicRepository.findById(5L)).thenReturn(Optional.of(descendant));
+
+        // When & Then
+        assertThatThrownBy(() -> topicService.updateTopic(1L, request))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(topicRepository, never()).movePathPrefix(any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Should map a created topic only after it is flushed")
+    void shouldMapCreatedTopicAfterFlush() {
+        // Given
+        CreateTopicRequest request = new CreateTopicRequest();
+        request.setTitle("Heaps");
+        request.setSlug("heaps");
+        request.setContent("Content about heaps");
+        when(topicRepository.saveAndFlush(any(Topic.class))).thenAnswer(invocation -> {
+            Topic topic = invocation.getArgument(0);
+            topic.setId(7L);
+            topic.setVersion(0L);
+            return topic;
+        });
+        TopicDTO mapped = new TopicDTO(7L, "Heaps", "heaps");
+        when(topicMapper.toDTO(any(Topic.class))).thenReturn(mapped);
+
+        // When
+        TopicDTO result = topicService.createTopic(request);
+
+        // Then - one write, mapped from the flushed entity, and the event carries the same DTO
+        assertThat(result).isSameAs(mapped);
+        InOrder inOrder = inOrder(topicRepository, topicMapper);
+        inOrder.verify(topicRepository).saveAndFlush(any(Topic.class));
+        inOrder.verify(topicMapper).toDTO(argThat(topic -> topic.getVersion() != null));
+        verify(topicRepository, never()).save(any(Topic.class));
+        ArgumentCaptor<TopicChangedEvent> event = ArgumentCaptor.forClass(TopicChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getTopic()).isSameAs(mapped);
+    }
+
+    @Test
+    @DisplayName("Should take a faceted filter page and its counts from one index evaluation")
+    void shouldFilterWithFacetsFromOneEvaluation() {
+        // Given
+        TopicNavDTO graph = new TopicNavDTO(1L, "Graphs", "graphs", null, 0);
+        Map<Long, Long> counts = Map.of(7L, 1L);
+        List<TagDTO> facets = List.of(new TagDTO(7L, "Graph", "#3B82F6", 1L));
+        when(topicTagIndex.filterWithCounts(List.of("Graph"), List.of(), List.of(), null, 11))
+                .thenReturn(new TopicTagIndex.FilterResult(List.of(graph), counts));
+        when(tagService.toFacets(counts)).thenReturn(facets);
+
+        // When
+        CursorPageDTO<TopicNavDTO> page = topicService.filterTopicsByTags(List.of("Graph"), null, null, null, 10, true);
+
+        // Then
+        assertThat(page.getItems()).containsExactly(graph);
+        assertThat(page.getFacets()).isEqualTo(facets);
+        verify(topicTagIndex, never()).filter(any(), any(), any(), any(), anyInt());
+    }
+}
@@ -1,5 +1,5 @@
 import axios, { AxiosInstance, AxiosError } from 'axios';
-import { Topic, Tag, CreateTopicRequest, ErrorResponse } from '@/types';
+import { Breadcrumb, ChangeNotification, CursorPage, Topic, TopicNav, TopicSuggestion, Tag, CreateTopicRequest, ErrorResponse } from '@/types';
 
 /**
  * API Client for communicating with the backend.
@@ -35,13 +35,18 @@ class ApiClient {
   }
 
   // Topic endpoints
-  async getTopicTree(): Promise<Topic[]> {
-    const response = await this.client.get<Topic[]>('/topics/tree');
+  /**
+   * The sidebar tree without content: a fraction of the size of /topics/tree.
+   */
+  async getNavigationTree(): Promise<TopicNav[]> {
+    const response = await this.client.get<TopicNav[]>('/topics/tree/nav');
     return response.data;
   }
 
-  async getAllTopics(): Promise<Topic[]> {
-    const response = await this.client.get<Topic[]>('/topics');
+  async getAllTopics(after?: number, size?: number): Promise<CursorPage<Topic>> {
+    const response = await this.client.get<CursorPage<Topic>>('/topics', {
+      params: { after, size },
+    });
     return response.data;
   }
 
@@ -50,20 +55,37 @@ class ApiClient {
     return response.data;
   }
 
-  async getTopicBySlug(slug: string): Promise<Topic> {
-    const response = await this.client.get<Topic>(`/topics/slug/${slug}`);
+  /**
+   * 'html' returns server-rendered, sanitized HTML plus a table of contents instead of markdown.
+   */
+  async getTopicBySlug(slug: string, format: 'markdown' | 'html' = 'markdown'): Promise<Topic> {
+    const response = await this.client.get<Topic>(`/topics/slug/${slug}`, { params: { format } });
+    return response.data;
+  }
+
+  async getBreadcrumbs(slug: string): Promise<Breadcrumb[]> {
+    const response = await this.client.get<Breadcrumb[]>(`/topics/slug/${slug}/breadcrumbs`);
     return response.data;
   }
 
-  async searchTopics(keyword: string): Promise<Topic[]> {
-    const response = await this.client.get<Topic[]>('/topics/search', {
-      params: { keyword },
+  async searchTopics(keyword: string, after?: number, size?: number): Promise<CursorPage<Topic>> {
+    const response = await this.client.get<CursorPage<Topic>>('/topics/search', {
+      params: { keyword, after, size },
     });
     return response.data;
   }
 
-  async getTopicsByTag(tagName: string): Promise<Topic[]> {
-    const response = await this.client.get<Topic[]>(`/topics/tag/${tagName}`);
+  async suggestTopics(prefix: string, limit = 8): Promise<TopicSuggestion[]> {
+    const response = await this.client.get<TopicSuggestion[]>('/topics/suggest', {
+      params: { prefix, limit },
+    });
+    return response.data;
+  }
+
+  async getTopicsByTag(tagName: string, after?: number, size?: number): Promise<CursorPage<Topic>> {
+    const response = await this.client.get<CursorPage<Topic>>(`/topics/tag/${tagName}`, {
+      params: { after, size },
+    });
     return response.data;
   }
 
@@ -81,6 +103,18 @@ class ApiClient {
     await this.client.delete(`/topics/${id}`);
   }
 
+  /**
+   * Listen for committed changes over server-sent events. The browser reconnects on its own
+   * (including after the server drops a client that fell behind). Returns a function that closes the stream.
+   */
+  subscribeToChanges(onChange: (change: ChangeNotification) => void): () => void {
+    const source = new EventSource(`${API_BASE_URL}/changes/stream`);
+    const listener = (event: MessageEvent<string>) => onChange(JSON.parse(event.data));
+    source.addEventListener('ready', listener);
+    source.addEventListener('change', listener);
+    return () => source.close();
+  }
+
   // Tag endpoints
   async getAllTags(): Promise<Tag[]> {
     const response = await this.client.get<Tag[]>('/tags');
@@ -0,0 +1,36 @@
+import React from 'react';
+import { TocEntry } from '@/types';
+
+/**
+ * RenderedContent component for topics fetched with format=html.
+ * The HTML is rendered and sanitized by the backend when the topic is saved,
+ * so showing an article costs no markdown parsing or highlighting in the browser.
+ */
+
+interface RenderedContentProps {
+  html: string;
+  toc?: TocEntry[];
+}
+
+export const RenderedContent: React.FC<RenderedContentProps> = ({ html, toc }) => {
+  return (
+    <>
+      {/* A single heading is just the title; only show a TOC when there is something to jump between */}
+      {toc && toc.length > 1 && (
+        <nav aria-label="Table of contents" className="not-prose mb-6 p-4 rounded-lg bg-gray-50 dark:bg-gray-800">
+          <p className="text-sm font-semibold text-gray-700 dark:text-gray-300 mb-2">On this page</p>
+          <ul className="space-y-1 text-sm">
+            {toc.map((entry) => (
+              <li key={entry.anchor} style={{ paddingLeft: `${(entry.level - 1) * 0.75}rem` }}>
+                <a href={`#${entry.anchor}`} className="text-primary-600 dark:text-primary-400 hover:underline">
+                  {entry.text}
+                </a>
+              </li>
+            ))}
+          </ul>
+        </nav>
+      )}
+      <div className="markdown-content" dangerouslySetInnerHTML={{ __html: html }} />
+    </>
+  );
+};
@@ -1,17 +1,19 @@
 import React, { useState, useCallback } from 'react';
 import { Search, X } from 'lucide-react';
-import { useStore } from '@/store/useStore';
+import { apiClient } from '@/api/client';
 import { debounce } from '@/utils/debounce';
 import { useNavigate } from 'react-router-dom';
+import { TopicSuggestion } from '@/types';
 
 /**
  * SearchBar component with debounced search.
  * Demonstrates: Algorithm implementation (debouncing) to optimize API calls.
+ * Uses the lightweight /topics/suggest endpoint - only id, title and slug per result.
  */
 
 export const SearchBar: React.FC = () => {
   const [searchTerm, setSearchTerm] = useState('');
-  const [searchResults, setSearchResults] = useState<any[]>([]);
+  const [searchResults, setSearchResults] = useState<TopicSuggestion[]>([]);
   const [isSearching, setIsSearching] = useState(false);
   const navigate = useNavigate();
 
@@ -26,10 +28,8 @@ export const SearchBar: React.FC = () => {
 
       setIsSearching(true);
       try {
-        const { searchTopics } = useStore.getState();
-        await searchTopics(keyword);
-        const topics = useStore.getState().topics;
-        setSearchResults(topics);
+        const suggestions = await apiClient.suggestTopics(keyword);
+        setSearchResults(suggestions);
       } catch (error) {
         console.error('Search error:', error);
       } finally {
@@ -95,19 +95,6 @@ export const SearchBar: React.FC = () => {
                   <div className="font-medium text-gray-900 dark:text-gray-100">
                     {topic.title}
                   </div>
-                  {topic.tags && topic.tags.length > 0 && (
-                    <div className="flex gap-1 mt-1">
-                      {topic.tags.map((tag: any) => (
-                        <span
-                          key={tag.id}
-                          className="text-xs px-2 py-0.5 rounded"
-                          style={{ backgroundColor: tag.color + '20', color: tag.color }}
-                        >
-                          {tag.name}
-                        </span>
-                      ))}
-                    </div>
-                  )}
                 </li>
               ))}
             </ul>
@@ -1,6 +1,6 @@
 import React, { useState } from 'react';
 import { ChevronRight, ChevronDown } from 'lucide-react';
-import { Topic } from '@/types';
+import { TopicNav } from '@/types';
 import { useNavigate, useLocation } from 'react-router-dom';
 
 /**
@@ -13,7 +13,7 @@ import { useNavigate, useLocation } from 'react-router-dom';
  */
 
 interface SidebarItemProps {
-  topic: Topic;
+  topic: TopicNav;
   level?: number;
 }
 
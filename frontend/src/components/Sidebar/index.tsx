@@ -1,4 +1,5 @@
 import React, { useEffect } from 'react';
+import { apiClient } from '@/api/client';
 import { SidebarItem } from './SidebarItem';
 import { useStore } from '@/store/useStore';
 import { X } from 'lucide-react';
@@ -8,7 +9,7 @@ import { X } from 'lucide-react';
  */
 
 export const Sidebar: React.FC = () => {
-  const { topics, isLoading, fetchTopicTree, sidebarOpen, toggleSidebar } = useStore();
+  const { topics, isLoading, fetchTopicTree, applyChange, sidebarOpen, toggleSidebar } = useStore();
 
   useEffect(() => {
     if (topics.length === 0) {
@@ -16,6 +17,9 @@ export const Sidebar: React.FC = () => {
     }
   }, [topics, fetchTopicTree]);
 
+  // Refresh when the server reports a new tree version instead of polling /topics/tree/nav
+  useEffect(() => apiClient.subscribeToChanges(applyChange), [applyChange]);
+
   return (
     <>
       {/* Overlay for mobile */}
@@ -1,8 +1,11 @@
-import React, { useEffect } from 'react';
-import { useParams } from 'react-router-dom';
+import React, { useEffect, useState } from 'react';
+import { Link, useParams } from 'react-router-dom';
 import { useStore } from '@/store/useStore';
+import { apiClient } from '@/api/client';
 import { MarkdownViewer } from '@/components/MarkdownViewer';
-import { Calendar, Tag as TagIcon } from 'lucide-react';
+import { RenderedContent } from '@/components/RenderedContent';
+import { Calendar, ChevronRight, Tag as TagIcon } from 'lucide-react';
+import { Breadcrumb } from '@/types';
 
 /**
  * Topic detail page component.
@@ -11,6 +14,7 @@ import { Calendar, Tag as TagIcon } from 'lucide-react';
 export const TopicPage: React.FC = () => {
   const { slug } = useParams<{ slug: string }>();
   const { currentTopic, isLoading, error, fetchTopicBySlug } = useStore();
+  const [breadcrumbs, setBreadcrumbs] = useState<Breadcrumb[]>([]);
 
   useEffect(() => {
     if (slug) {
@@ -18,6 +22,25 @@ export const TopicPage: React.FC = () => {
     }
   }, [slug, fetchTopicBySlug]);
 
+  // Ancestor chain comes from a dedicated endpoint - no need to load the whole tree
+  useEffect(() => {
+    if (!slug) {
+      return;
+    }
+    let cancelled = false;
+    apiClient
+      .getBreadcrumbs(slug)
+      .then((trail) => {
+        if (!cancelled) setBreadcrumbs(trail);
+      })
+      .catch(() => {
+        if (!cancelled) setBreadcrumbs([]);
+      });
+    return () => {
+      cancelled = true;
+    };
+  }, [slug]);
+
   if (isLoading) {
     return (
       <div className="flex items-center justify-center min-h-[400px]">
@@ -48,6 +71,20 @@ export const TopicPage: React.FC = () => {
     <article className="space-y-6">
       {/* Header */}
       <header className="space-y-4 pb-6 border-b border-gray-200 dark:border-gray-700">
+        {breadcrumbs.length > 1 && (
+          <nav aria-label="Breadcrumb" className="flex flex-wrap items-center gap-1 text-sm text-gray-500 dark:text-gray-400">
+            {breadcrumbs.slice(0, -1).map((crumb) => (
+              <React.Fragment key={crumb.id}>
+                <Link to={`/topic/${crumb.slug}`} className="hover:text-primary-600 dark:hover:text-primary-400">
+                  {crumb.title}
+                </Link>
+                <ChevronRight className="w-4 h-4" />
+              </React.Fragment>
+            ))}
+            <span className="text-gray-700 dark:text-gray-300">{currentTopic.title}</span>
+          </nav>
+        )}
+
         <h1 className="text-4xl font-bold text-gray-900 dark:text-gray-100">
           {currentTopic.title}
         </h1>
@@ -85,7 +122,9 @@ export const TopicPage: React.FC = () => {
 
       {/* Content */}
       <div className="prose prose-slate dark:prose-invert max-w-none">
-        {currentTopic.content ? (
+        {currentTopic.contentHtml ? (
+          <RenderedContent html={currentTopic.contentHtml} toc={currentTopic.toc} />
+        ) : currentTopic.content ? (
           <MarkdownViewer content={currentTopic.content} />
         ) : (
           <p className="text-gray-600 dark:text-gray-400">
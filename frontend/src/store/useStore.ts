@@ -1,5 +1,5 @@
 import { create } from 'zustand';
-import { Topic, Tag } from '@/types';
+import { ChangeNotification, Topic, TopicNav, Tag } from '@/types';
 import { apiClient } from '@/api/client';
 
 /**
@@ -9,7 +9,10 @@ import { apiClient } from '@/api/client';
 
 interface AppState {
   // State
-  topics: Topic[];
+  topics: TopicNav[];
+  // Tree version the sidebar was last synced to, as reported by the change stream
+  treeVersion: number | null;
+  searchResults: Topic[];
   currentTopic: Topic | null;
   tags: Tag[];
   isLoading: boolean;
@@ -19,6 +22,8 @@ interface AppState {
 
   // Actions
   fetchTopicTree: () => Promise<void>;
+  refreshTopicTree: () => Promise<void>;
+  applyChange: (change: ChangeNotification) => Promise<void>;
   fetchTopicBySlug: (slug: string) => Promise<void>;
   searchTopics: (keyword: string) => Promise<void>;
   fetchTags: () => Promise<void>;
@@ -28,9 +33,11 @@ interface AppState {
   setError: (error: string | null) => void;
 }
 
-export const useStore = create<AppState>((set) => ({
+export const useStore = create<AppState>((set, get) => ({
   // Initial state
   topics: [],
+  treeVersion: null,
+  searchResults: [],
   currentTopic: null,
   tags: [],
   isLoading: false,
@@ -42,7 +49,7 @@ export const useStore = create<AppState>((set) => ({
   fetchTopicTree: async () => {
     set({ isLoading: true, error: null });
     try {
-      const topics = await apiClient.getTopicTree();
+      const topics = await apiClient.getNavigationTree();
       set({ topics, isLoading: false });
     } catch (error) {
       set({ 
@@ -53,11 +60,44 @@ export const useStore = create<AppState>((set) => ({
     }
   },
 
+  // Re-fetch the tree in the background after a change notification (no loading state)
+  refreshTopicTree: async () => {
+    try {
+      const topics = await apiClient.getNavigationTree();
+      set({ topics });
+    } catch (error) {
+      console.error('Error refreshing topic tree:', error);
+    }
+  },
+
+  // React to a change notification: refetch the navigation tree only when the tree version moved,
+  // and the open topic only when it is the topic that changed
+  applyChange: async (change) => {
+    const { treeVersion, currentTopic, refreshTopicTree } = get();
+    set({ treeVersion: change.treeVersion });
+    const refreshes: Promise<void>[] = [];
+    if (treeVersion !== null && change.treeVersion !== treeVersion) {
+      refreshes.push(refreshTopicTree());
+    }
+    if (change.kind === 'TOPIC_UPDATED' && currentTopic && change.topicId === currentTopic.id) {
+      refreshes.push((async () => {
+        try {
+          const topic = await apiClient.getTopicBySlug(change.slug ?? currentTopic.slug, 'html');
+          set({ currentTopic: topic });
+        } catch (error) {
+          console.error('Error refreshing topic:', error);
+        }
+      })());
+    }
+    await Promise.all(refreshes);
+  },
+
   // Fetch a single topic by slug
   fetchTopicBySlug: async (slug: string) => {
     set({ isLoading: true, error: null });
     try {
-      const topic = await apiClient.getTopicBySlug(slug);
+      // Pre-rendered on the server at write time - nothing to parse in the browser
+      const topic = await apiClient.getTopicBySlug(slug, 'html');
       set({ currentTopic: topic, isLoading: false });
     } catch (error) {
       set({ 
@@ -72,14 +112,14 @@ export const useStore = create<AppState>((set) => ({
   // Search topics
   searchTopics: async (keyword: string) => {
     if (!keyword.trim()) {
-      set({ topics: [] });
+      set({ searchResults: [] });
       return;
     }
 
     set({ isLoading: true, error: null });
     try {
-      const topics = await apiClient.searchTopics(keyword);
-      set({ topics, isLoading: false });
+      const page = await apiClient.searchTopics(keyword);
+      set({ searchResults: page.items, isLoading: false });
     } catch (error) {
       set({ 
         error: 'Search failed. Please try again.', 
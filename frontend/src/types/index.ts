@@ -8,6 +8,9 @@ export interface Topic {
   title: string;
   slug: string;
   content: string;
+  // Present when fetched with format=html (content is then omitted)
+  contentHtml?: string;
+  toc?: TocEntry[];
   parentId: number | null;
   displayOrder: number;
   children: Topic[];
@@ -16,10 +19,67 @@ export interface Topic {
   updatedAt: string;
 }
 
+/**
+ * Sidebar node from /topics/tree/nav: navigation fields only, no content and no timestamps.
+ */
+export interface TopicNav {
+  id: number;
+  title: string;
+  slug: string;
+  parentId: number | null;
+  displayOrder: number;
+  tagIds: number[];
+  children: TopicNav[];
+}
+
+/**
+ * One page of a keyset-paginated listing.
+ * Pass nextCursor as `after` to fetch the next page; null means last page.
+ * facets is present only when requested with `facets=true`.
+ */
+export interface CursorPage<T> {
+  items: T[];
+  nextCursor: number | null;
+  facets?: Tag[];
+}
+
+export interface TopicSuggestion {
+  id: number;
+  title: string;
+  slug: string;
+}
+
+/**
+ * One heading of a topic; anchor is the heading's id in contentHtml.
+ */
+export interface TocEntry {
+  level: number;
+  text: string;
+  anchor: string;
+}
+
+/**
+ * Pushed by /api/changes/stream. kind is READY on connect, then e.g. TOPIC_UPDATED or TAG_DELETED.
+ */
+export interface ChangeNotification {
+  kind: string;
+  topicId?: number;
+  slug?: string;
+  tagId?: number;
+  treeVersion: number;
+}
+
+export interface Breadcrumb {
+  id: number;
+  title: string;
+  slug: string;
+}
+
 export interface Tag {
   id: number;
   name: string;
   color: string;
+  topicCount?: number;
 }
 
 export interface CreateTopicRequest {